@@ -0,0 +1,150 @@
+package org.uniprot.api.common.repository.search;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Iterates over the elements of a source iterator, e.g., the batches of a {@link
+ * SolrResultsIterator}, which are fetched in the background while the current element is being
+ * consumed. At most {@code readAhead} fetched elements wait to be consumed, so that fetching
+ * pauses when the consumer falls behind.
+ *
+ * <p>The source is only ever used by the background task, and is closed when that task ends:
+ * once the source is exhausted or fails, or when this iterator is closed, e.g., because the
+ * client of a download disconnected.
+ *
+ * @param <E> the type of element
+ */
+@Slf4j
+public class ReadAheadIterator<E> implements Iterator<E>, Closeable {
+    private static final Object END = new Object();
+    private static final long POLL_MILLIS = 100;
+    private final BlockingQueue<Object> fetched;
+    private final Future<?> fetcher;
+    private volatile boolean closed;
+    private volatile Object outcome;
+    private Object next;
+
+    /**
+     * Starts fetching the elements of a source in the background.
+     *
+     * @param source the source of the elements, closed once fetching ends
+     * @param readAhead the maximum number of fetched elements waiting to be consumed
+     * @param executor the executor on which the elements are fetched
+     * @throws RejectedExecutionException if the executor cannot fetch the elements, in which case
+     *     the source is left open
+     */
+    public <I extends Iterator<E> & Closeable> ReadAheadIterator(
+            I source, int readAhead, ExecutorService executor) {
+        this.fetched = new ArrayBlockingQueue<>(readAhead);
+        this.fetcher = executor.submit(() -> fetch(source));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = take();
+        }
+        if (next instanceof FetchFailure) {
+            Throwable cause = ((FetchFailure) next).cause;
+            next = END;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new QueryRetrievalException("Could not fetch results", cause);
+        }
+        return next != END;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more elements available for this Iterator.");
+        }
+        E element = (E) next;
+        next = null;
+        return element;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        fetcher.cancel(true);
+        fetched.clear();
+    }
+
+    private Object take() {
+        try {
+            while (!closed) {
+                Object element = fetched.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (element != null) {
+                    return element;
+                }
+                // the fetcher has ended, so all its elements are already in the queue
+                Object fetcherOutcome = outcome;
+                if (fetcherOutcome == null && fetcher.isDone()) {
+                    fetcherOutcome =
+                            new FetchFailure(
+                                    new QueryRetrievalException("Results fetcher was stopped"));
+                }
+                if (fetcherOutcome != null) {
+                    element = fetched.poll();
+                    return element == null ? fetcherOutcome : element;
+                }
+            }
+            return END;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryRetrievalException("Interrupted whilst waiting for results", e);
+        }
+    }
+
+    private <I extends Iterator<E> & Closeable> void fetch(I source) {
+        Object fetchOutcome = null;
+        try {
+            while (!closed && source.hasNext()) {
+                fetched.put(source.next());
+            }
+            fetchOutcome = END;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fetchOutcome =
+                    new FetchFailure(
+                            new QueryRetrievalException("Interrupted whilst fetching results", e));
+        } catch (Throwable e) {
+            fetchOutcome = new FetchFailure(e);
+            throw e;
+        } finally {
+            // set even if an Error is thrown, so that the consumer never waits forever
+            outcome = fetchOutcome;
+            fetched.offer(outcome);
+            try {
+                source.close();
+            } catch (IOException e) {
+                log.warn("Could not close results source", e);
+            }
+        }
+    }
+
+    private static class FetchFailure {
+        private final Throwable cause;
+
+        FetchFailure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
@@ -2,9 +2,12 @@ package org.uniprot.api.common.repository.search;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import io.micrometer.core.instrument.Timer;
+
 import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.request.json.JsonQueryRequest;
@@ -13,6 +16,10 @@ import org.apache.solr.common.params.CursorMarkParams;
 import org.apache.solr.common.params.ModifiableSolrParams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.uniprot.api.common.exception.InvalidRequestException;
 import org.uniprot.api.common.repository.search.facet.Facet;
 import org.uniprot.api.common.repository.search.facet.FacetConfig;
@@ -20,6 +27,7 @@ import org.uniprot.api.common.repository.search.facet.FacetResponseConverter;
 import org.uniprot.api.common.repository.search.page.impl.CursorPage;
 import org.uniprot.api.common.repository.search.term.TermInfo;
 import org.uniprot.api.common.repository.search.term.TermInfoConverter;
+import org.uniprot.api.rest.metrics.RequestMetrics;
 import org.uniprot.store.search.SolrCollection;
 import org.uniprot.store.search.document.Document;
 
@@ -42,6 +50,13 @@ public abstract class SolrQueryRepository<T extends Document> {
     private final Class<T> tClass;
     private final FacetResponseConverter facetConverter;
 
+    @Value("${solr.query.readAheadBatches:0}")
+    private int readAheadBatches;
+
+    @Autowired(required = false)
+    @Qualifier("solrReadAheadTaskExecutor")
+    private ThreadPoolTaskExecutor readAheadExecutor;
+
     protected SolrQueryRepository(
             SolrClient solrClient,
             SolrCollection collection,
@@ -59,7 +74,11 @@ public abstract class SolrQueryRepository<T extends Document> {
     public QueryResult<T> searchPage(SolrRequest request, String cursor) {
         try {
             CursorPage page = CursorPage.of(cursor, request.getRows());
+            Timer.Sample sample = Timer.start();
             QueryResponse solrResponse = search(request, page.getCursor());
+            sample.stop(
+                    RequestMetrics.timer(
+                            RequestMetrics.SOLR_PAGE, RequestMetrics.currentRequestTags()));
 
             List<T> resultList = getResponseDocuments(solrResponse);
             page.setNextCursor(solrResponse.getNextCursorMark());
@@ -102,6 +121,15 @@ public abstract class SolrQueryRepository<T extends Document> {
         }
     }
 
+    /**
+     * Streams all results of a request, in batches fetched through a Solr cursor. When {@code
+     * solr.query.readAheadBatches} is positive, up to that many batches are fetched in the
+     * background while earlier ones are consumed, unless all read-ahead threads are busy, in which
+     * case batches are fetched as they are consumed. Closing the stream stops any further fetching.
+     *
+     * @param request the request
+     * @return a stream of all results
+     */
     public Stream<T> getAll(SolrRequest request) {
         SolrResultsIterator<T> resultsIterator =
                 new SolrResultsIterator<>(
@@ -109,9 +137,24 @@ public abstract class SolrQueryRepository<T extends Document> {
                         collection,
                         requestConverter.toJsonQueryRequest(request),
                         tClass);
+        Iterator<List<T>> batches = resultsIterator;
+        Runnable closeBatches = resultsIterator::close;
+        if (readAheadBatches > 0 && readAheadExecutor != null) {
+            try {
+                ReadAheadIterator<List<T>> readAheadIterator =
+                        new ReadAheadIterator<>(
+                                resultsIterator,
+                                readAheadBatches,
+                                readAheadExecutor.getThreadPoolExecutor());
+                batches = readAheadIterator;
+                closeBatches = readAheadIterator::close;
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("No read-ahead thread available, fetching results on demand");
+            }
+        }
         return StreamSupport.stream(
-                        Spliterators.spliteratorUnknownSize(resultsIterator, Spliterator.ORDERED),
-                        false)
+                        Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+                .onClose(closeBatches)
                 .flatMap(Collection::stream);
     }
 
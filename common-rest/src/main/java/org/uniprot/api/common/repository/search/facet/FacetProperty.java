@@ -1,6 +1,8 @@
 package org.uniprot.api.common.repository.search.facet;
 
+import java.util.Comparator;
 import java.util.Map;
+import java.util.TreeMap;
 
 import javax.validation.constraints.NotNull;
 
@@ -30,4 +32,17 @@ public class FacetProperty {
     private Map<String, String> interval;
 
     private Map<String, String> value;
+
+    /**
+     * Returns the intervals of a range facet in the numeric order of their keys, e.g., 1, 2, ...,
+     * 10, rather than in the order of the keys as strings.
+     *
+     * @return the intervals, ordered by key
+     */
+    public Map<String, String> getIntervalsInKeyOrder() {
+        Map<String, String> intervals =
+                new TreeMap<>(Comparator.comparingInt((String key) -> Integer.parseInt(key)));
+        intervals.putAll(interval);
+        return intervals;
+    }
 }
@@ -10,22 +10,9 @@ import org.apache.solr.client.solrj.io.stream.TupleStream;
 
 public class FacetTupleStreamConverter
         extends FacetConverter<TupleStream, SolrStreamFacetResponse> {
-    private static final String LENGTH_STR = "length";
     private static final String COUNT_STAR_STR = "count(*)";
-    private static final String RANGE_1_200 = "[1,200]";
-    private static final String RANGE_201_400 = "[201,400]";
-    private static final String RANGE_401_600 = "[401,600]";
-    private static final String RANGE_601_800 = "[601,800]";
-    private static final String RANGE_801_PLUS = "[801,*]";
-    private static final Map<String, Integer> RANGE_INDEX = new HashMap<>();
-
-    static {
-        RANGE_INDEX.put(RANGE_1_200, 5);
-        RANGE_INDEX.put(RANGE_201_400, 4);
-        RANGE_INDEX.put(RANGE_401_600, 3);
-        RANGE_INDEX.put(RANGE_601_800, 2);
-        RANGE_INDEX.put(RANGE_801_PLUS, 1);
-    }
+    private static final String RANGE_BUCKET_SEPARATOR = ".";
+    private static final String UNBOUNDED = "*";
 
     private final FacetConfig facetConfig;
     private final String idFieldName;
@@ -35,6 +22,18 @@ public class FacetTupleStreamConverter
         this.facetConfig = facetConfig;
     }
 
+    /**
+     * Returns the name of the tuple field holding the count of one interval of a range facet,
+     * when its values are bucketed by Solr.
+     *
+     * @param facetName name of the range facet
+     * @param intervalKey key of the interval in the facet's configuration
+     * @return the name of the interval's count
+     */
+    public static String getRangeBucketName(String facetName, String intervalKey) {
+        return facetName + RANGE_BUCKET_SEPARATOR + intervalKey;
+    }
+
     @Override
     protected FacetConfig getFacetConfig() {
         return this.facetConfig;
@@ -52,6 +51,7 @@ public class FacetTupleStreamConverter
                 facetNameValuesMap.entrySet().stream()
                         .filter(entry -> !idFieldName.equals(entry.getKey()))
                         .map(this::convertSolrStreamFacet)
+                        .filter(facet -> !facet.getValues().isEmpty())
                         .collect(Collectors.toList());
         return new SolrStreamFacetResponse(facets, accessions);
     }
@@ -72,13 +72,9 @@ public class FacetTupleStreamConverter
                             || facetConfig.getFacetPropertyMap().containsKey(facetName)) {
                         String facetValue = String.valueOf(entry.getValue());
                         Long facetCount = (long) map.getOrDefault(COUNT_STAR_STR, 0L);
-                        List<Pair<String, Long>> valueCount = new ArrayList<>();
-                        if (facetNameValue.containsKey(facetName)) {
-                            valueCount = facetNameValue.get(facetName);
-                        }
-                        Pair<String, Long> pair = Pair.of(facetValue, facetCount);
-                        valueCount.add(pair);
-                        facetNameValue.put(facetName, valueCount);
+                        addFacetValue(facetNameValue, facetName, facetValue, facetCount);
+                    } else if (facetName.contains(RANGE_BUCKET_SEPARATOR)) {
+                        addRangeBucketValue(facetNameValue, facetName, entry.getValue());
                     }
                 }
             }
@@ -90,6 +86,36 @@ public class FacetTupleStreamConverter
         return facetNameValue;
     }
 
+    private void addFacetValue(
+            Map<String, List<Pair<String, Long>>> facetNameValue,
+            String facetName,
+            String facetValue,
+            Long facetCount) {
+        facetNameValue
+                .computeIfAbsent(facetName, name -> new ArrayList<>())
+                .add(Pair.of(facetValue, facetCount));
+    }
+
+    private void addRangeBucketValue(
+            Map<String, List<Pair<String, Long>>> facetNameValue,
+            String rangeBucketName,
+            Object bucketCount) {
+        int separatorIndex = rangeBucketName.lastIndexOf(RANGE_BUCKET_SEPARATOR);
+        String facetName = rangeBucketName.substring(0, separatorIndex);
+        String intervalKey = rangeBucketName.substring(separatorIndex + 1);
+        FacetProperty facetProperty = facetConfig.getFacetPropertyMap().get(facetName);
+        if (facetProperty != null
+                && facetProperty.getInterval() != null
+                && facetProperty.getInterval().containsKey(intervalKey)) {
+            String interval = facetProperty.getInterval().get(intervalKey);
+            long count = ((Number) bucketCount).longValue();
+            // empty intervals are not listed, as for other facets
+            if (count > 0L) {
+                addFacetValue(facetNameValue, facetName, interval, count);
+            }
+        }
+    }
+
     private void closeTupleStream(TupleStream tupleStream) {
         try {
             tupleStream.close();
@@ -99,7 +125,7 @@ public class FacetTupleStreamConverter
     }
 
     private Facet convertSolrStreamFacet(Map.Entry<String, List<Pair<String, Long>>> facetValues) {
-        if (!LENGTH_STR.equals(facetValues.getKey())) {
+        if (!isIntervalFacet(facetValues.getKey())) {
             List<FacetItem> values =
                     facetValues.getValue().stream()
                             .map(pair -> createFacetItem(pair, facetValues.getKey()))
@@ -117,7 +143,7 @@ public class FacetTupleStreamConverter
                     .allowMultipleSelection(allowMultipleSelection(facetValues.getKey()))
                     .values(values)
                     .build();
-        } else { // handle length buckets differently
+        } else { // handle range buckets differently
             return convertSolrStreamToRangeFacet(facetValues);
         }
     }
@@ -142,57 +168,69 @@ public class FacetTupleStreamConverter
 
     private Facet convertSolrStreamToRangeFacet(
             Map.Entry<String, List<Pair<String, Long>>> facetValues) {
-        Map<String, Long> lengthBucketCount = computeLengthBucketCount(facetValues);
+        String facetName = facetValues.getKey();
+        Map<String, Long> rangeBucketCount = computeRangeBucketCount(facetValues);
         List<FacetItem> values =
-                lengthBucketCount.entrySet().stream()
+                rangeBucketCount.entrySet().stream()
                         .filter(entry -> entry.getValue() > 0L)
-                        .sorted(Map.Entry.comparingByKey())
                         .map(
                                 entry ->
                                         FacetItem.builder()
                                                 .value(entry.getKey().replace(",", " TO "))
                                                 .label(
                                                         getIntervalFacetItemLabel(
-                                                                LENGTH_STR, entry.getKey()))
+                                                                facetName, entry.getKey()))
                                                 .count(entry.getValue())
                                                 .build())
                         .collect(Collectors.toList());
         // return an Interval facet
         return Facet.builder()
-                .name(LENGTH_STR)
-                .label(getFacetLabel(LENGTH_STR))
-                .allowMultipleSelection(allowMultipleSelection(LENGTH_STR))
+                .name(facetName)
+                .label(getFacetLabel(facetName))
+                .allowMultipleSelection(allowMultipleSelection(facetName))
                 .values(values)
                 .build();
     }
 
-    private Map<String, Long> computeLengthBucketCount(
+    /**
+     * Counts the values of a range facet in each of its configured intervals, in the order of
+     * their keys. Values already bucketed by Solr are counts of an interval, and other values are
+     * added to the count of the interval they fall in.
+     */
+    private Map<String, Long> computeRangeBucketCount(
             Map.Entry<String, List<Pair<String, Long>>> facetValues) {
-        Long bucket1To200 = 0L;
-        Long bucket201To400 = 0L;
-        Long bucket401To600 = 0L;
-        Long bucket601To800 = 0L;
-        Long bucket801Onwards = 0L;
+        FacetProperty facetProperty = facetConfig.getFacetPropertyMap().get(facetValues.getKey());
+        Map<String, String> intervals = facetProperty.getIntervalsInKeyOrder();
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        intervals.values().forEach(interval -> buckets.put(interval, 0L));
         for (Pair<String, Long> pair : facetValues.getValue()) {
-            Long value = Long.valueOf(pair.getLeft());
-            if (value >= 1L && value <= 200L) {
-                bucket1To200 += pair.getRight();
-            } else if (value >= 201L && value <= 400L) {
-                bucket201To400 += pair.getRight();
-            } else if (value >= 401L && value <= 600L) {
-                bucket401To600 += pair.getRight();
-            } else if (value >= 601L && value <= 800L) {
-                bucket601To800 += pair.getRight();
-            } else if (value >= 801L) {
-                bucket801Onwards += pair.getRight();
+            if (buckets.containsKey(pair.getLeft())) {
+                buckets.merge(pair.getLeft(), pair.getRight(), Long::sum);
+            } else {
+                long value = Long.parseLong(pair.getLeft());
+                intervals.values().stream()
+                        .filter(interval -> isInInterval(interval, value))
+                        .findFirst()
+                        .ifPresent(interval -> buckets.merge(interval, pair.getRight(), Long::sum));
             }
         }
-        Map<String, Long> buckets = new HashMap<>();
-        buckets.put(RANGE_1_200, bucket1To200);
-        buckets.put(RANGE_201_400, bucket201To400);
-        buckets.put(RANGE_401_600, bucket401To600);
-        buckets.put(RANGE_601_800, bucket601To800);
-        buckets.put(RANGE_801_PLUS, bucket801Onwards);
         return buckets;
     }
+
+    private static boolean isInInterval(String interval, long value) {
+        String[] bounds = interval.substring(1, interval.length() - 1).split(",");
+        String lower = bounds[0].trim();
+        String upper = bounds[1].trim();
+        boolean aboveLower =
+                UNBOUNDED.equals(lower)
+                        || (interval.startsWith("[")
+                                ? value >= Long.parseLong(lower)
+                                : value > Long.parseLong(lower));
+        boolean belowUpper =
+                UNBOUNDED.equals(upper)
+                        || (interval.endsWith("]")
+                                ? value <= Long.parseLong(upper)
+                                : value < Long.parseLong(upper));
+        return aboveLower && belowUpper;
+    }
 }
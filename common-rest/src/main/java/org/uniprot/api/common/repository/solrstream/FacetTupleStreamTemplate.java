@@ -3,6 +3,7 @@ package org.uniprot.api.common.repository.solrstream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import lombok.Builder;
@@ -14,6 +15,8 @@ import org.apache.solr.client.solrj.io.stream.TupleStream;
 import org.apache.solr.client.solrj.io.stream.expr.StreamExpression;
 import org.apache.solr.client.solrj.io.stream.expr.StreamFactory;
 import org.uniprot.api.common.repository.search.facet.FacetConfig;
+import org.uniprot.api.common.repository.search.facet.FacetProperty;
+import org.uniprot.core.util.Utils;
 
 /**
  * This class is responsible for simplifying the creation of {@link TupleStream} instances for facet
@@ -23,6 +26,9 @@ import org.uniprot.api.common.repository.search.facet.FacetConfig;
  * TupleStream}s for a given query, using the original configuration details specified in the
  * template.
  *
+ * <p>The functions are executed concurrently, so that a request costs its slowest function rather
+ * than the sum of all of them.
+ *
  * <p>Created 21/08/18
  *
  * @author Edd
@@ -44,18 +50,21 @@ public class FacetTupleStreamTemplate extends AbstractTupleStreamTemplate {
                         new SearchStreamExpression(this.collection, request);
                 expressions.add(searchExpression);
             }
-            // create a solr streaming facet function call for each `facet`
-            List<StreamExpression> facetExpressions =
-                    request.getFacets().stream()
-                            .map(
-                                    facet ->
-                                            new FacetStreamExpression(
-                                                    this.collection, facet, request, facetConfig))
-                            .collect(Collectors.toList());
-
-            expressions.addAll(facetExpressions);
-            // we can replace list with plist function when solr >= 7.5
-            ListStreamExpression listStreamExpression = new ListStreamExpression(expressions);
+            // create a solr streaming facet function call for each `facet`, or a count of each
+            // interval of a range facet, so that its values are bucketed by Solr
+            for (String facet : request.getFacets()) {
+                FacetProperty facetProperty = facetConfig.getFacetPropertyMap().get(facet);
+                if (facetProperty != null && Utils.notNullNotEmpty(facetProperty.getInterval())) {
+                    expressions.addAll(createRangeFacetExpressions(facet, facetProperty, request));
+                } else {
+                    expressions.add(
+                            new FacetStreamExpression(
+                                    this.collection, facet, request, facetConfig));
+                }
+            }
+            // open the search and facet streams concurrently, their tuples are read in order
+            ListStreamExpression listStreamExpression =
+                    new ParallelListStreamExpression(expressions);
             StreamFactory streamFactory = getStreamFactory(this.zookeeperHost, this.collection);
             TupleStream tupleStream = streamFactory.constructStream(listStreamExpression);
             StreamContext clientContext = getStreamContext(this.collection, this.httpClient);
@@ -66,4 +75,19 @@ public class FacetTupleStreamTemplate extends AbstractTupleStreamTemplate {
             throw new IllegalStateException();
         }
     }
+
+    private List<StreamExpression> createRangeFacetExpressions(
+            String facet, FacetProperty facetProperty, SolrStreamFacetRequest request) {
+        Map<String, String> intervals = facetProperty.getIntervalsInKeyOrder();
+        return intervals.entrySet().stream()
+                .map(
+                        interval ->
+                                new RangeFacetStreamExpression(
+                                        this.collection,
+                                        facet,
+                                        interval.getKey(),
+                                        interval.getValue(),
+                                        request))
+                .collect(Collectors.toList());
+    }
 }
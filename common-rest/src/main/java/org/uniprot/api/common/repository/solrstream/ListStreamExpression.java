@@ -12,7 +12,11 @@ import org.apache.solr.client.solrj.io.stream.expr.StreamExpression;
  */
 public class ListStreamExpression extends StreamExpression {
     public ListStreamExpression(List<StreamExpression> streamExpressions) {
-        super("list");
+        this("list", streamExpressions);
+    }
+
+    protected ListStreamExpression(String functionName, List<StreamExpression> streamExpressions) {
+        super(functionName);
         this.getParameters().addAll(streamExpressions);
     }
 }
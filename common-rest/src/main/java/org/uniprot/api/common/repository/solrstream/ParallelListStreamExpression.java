@@ -0,0 +1,16 @@
+package org.uniprot.api.common.repository.solrstream;
+
+import java.util.List;
+
+import org.apache.solr.client.solrj.io.stream.expr.StreamExpression;
+
+/**
+ * This is a wrapper to prepare a plist expression with N stream expressions to call plist
+ * function(solr streaming decorator function), which opens the N streams concurrently and then
+ * returns their tuples in the order of the streams, as the list function does.
+ */
+public class ParallelListStreamExpression extends ListStreamExpression {
+    public ParallelListStreamExpression(List<StreamExpression> streamExpressions) {
+        super("plist", streamExpressions);
+    }
+}
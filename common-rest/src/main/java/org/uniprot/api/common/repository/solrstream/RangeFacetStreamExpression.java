@@ -0,0 +1,72 @@
+package org.uniprot.api.common.repository.solrstream;
+
+import lombok.Getter;
+
+import org.apache.solr.client.solrj.io.stream.expr.StreamExpression;
+import org.apache.solr.client.solrj.io.stream.expr.StreamExpressionNamedParameter;
+import org.apache.solr.client.solrj.io.stream.expr.StreamExpressionValue;
+import org.uniprot.api.common.repository.search.facet.FacetTupleStreamConverter;
+import org.uniprot.core.util.Utils;
+
+/**
+ * This class creates expression to count the documents of one interval of a range facet, e.g.,
+ * sequence lengths from 1 to 200, so that Solr returns a single count per interval rather than one
+ * bucket per distinct value. It makes a solr streaming stats function call, restricted to the
+ * interval, and names its count after the facet and interval:
+ *
+ * <pre>
+ * select(stats(collection, q="(query) AND length:[1 TO 200]", count(*)), count(*) as length.1)
+ * </pre>
+ */
+@Getter
+public class RangeFacetStreamExpression extends UniProtStreamExpression {
+    private static final String COUNT_STAR_STR = "count(*)";
+
+    public RangeFacetStreamExpression(
+            String collection,
+            String facet,
+            String intervalKey,
+            String interval,
+            SolrStreamFacetRequest request) {
+        super("select");
+        validateParams(collection, request.getQuery(), facet, interval);
+
+        UniProtStreamExpression statsExpression = new UniProtStreamExpression("stats");
+        statsExpression.addParameter(new StreamExpressionValue(collection));
+        statsExpression.addParameter(
+                new StreamExpressionNamedParameter(
+                        "q", getIntervalQuery(request.getQuery(), facet, interval)));
+        statsExpression.addParameter(new StreamExpression("count").withParameter("*"));
+        // order of params is important. this code should be in the end
+        if (queryFilteredQuerySet(request)) {
+            statsExpression.addFQRelatedParams(request);
+        }
+
+        this.addParameter(statsExpression);
+        this.addParameter(
+                new StreamExpressionValue(
+                        COUNT_STAR_STR
+                                + " as "
+                                + FacetTupleStreamConverter.getRangeBucketName(
+                                        facet, intervalKey)));
+    }
+
+    private static String getIntervalQuery(String query, String facet, String interval) {
+        return "(" + query + ") AND " + facet + ":" + interval.replace(",", " TO ");
+    }
+
+    private void validateParams(String collection, String query, String facet, String interval) {
+        if (Utils.nullOrEmpty(collection)) {
+            throw new IllegalArgumentException("collection is a mandatory param");
+        }
+        if (Utils.nullOrEmpty(query)) {
+            throw new IllegalArgumentException("query is a mandatory param");
+        }
+        if (Utils.nullOrEmpty(facet)) {
+            throw new IllegalArgumentException("facet is a mandatory param");
+        }
+        if (Utils.nullOrEmpty(interval)) {
+            throw new IllegalArgumentException("interval is a mandatory param");
+        }
+    }
+}
@@ -19,24 +19,31 @@ public abstract class BatchIterable<T> implements Iterable<Collection<T>> {
         return new Iterator<Collection<T>>() {
             @Override
             public boolean hasNext() {
-                return sourceIterator.hasNext();
+                return hasNextBatch();
             }
 
             @Override
             public List<T> next() {
-                List<String> batch = new ArrayList<>(batchSize);
-                for (int i = 0; i < batchSize; i++) {
-                    if (sourceIterator.hasNext()) {
-                        batch.add(sourceIterator.next());
-                    } else {
-                        break;
-                    }
-                }
-
-                return convertBatch(batch);
+                return convertBatch(nextBatch());
             }
         };
     }
 
     protected abstract List<T> convertBatch(List<String> batch);
+
+    boolean hasNextBatch() {
+        return sourceIterator.hasNext();
+    }
+
+    List<String> nextBatch() {
+        List<String> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            if (sourceIterator.hasNext()) {
+                batch.add(sourceIterator.next());
+            } else {
+                break;
+            }
+        }
+        return batch;
+    }
 }
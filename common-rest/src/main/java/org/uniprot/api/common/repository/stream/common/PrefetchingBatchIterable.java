@@ -0,0 +1,164 @@
+package org.uniprot.api.common.repository.stream.common;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Wraps a {@link BatchIterable} so that the conversion of batches (e.g., fetching them from a
+ * store) is performed ahead of the consumer on an {@link ExecutorService}. At most {@code
+ * queueDepth} converted batches are in flight at any one time, and batches are always returned in
+ * the same order as the source ids.
+ *
+ * <p>The source ids are read on the consumer's thread, so reading the source, converting batches
+ * and writing the converted results can overlap with each other.
+ *
+ * <p>If a batch timeout is given, the consumer waits at most that long for the next batch to be
+ * converted, after which the batches in flight are cancelled.
+ *
+ * <p>If the executor rejects a batch, e.g., because all its threads are busy, no further batches
+ * are fetched ahead until it accepts it. When the consumer needs a rejected batch, it is submitted
+ * again until the executor accepts it, within the batch timeout. Without a batch timeout, the
+ * consumer converts that batch itself.
+ */
+@Slf4j
+public class PrefetchingBatchIterable<T> implements Iterable<Collection<T>>, AutoCloseable {
+    static final long RESUBMIT_DELAY_MILLIS = 10;
+    private final BatchIterable<T> batchIterable;
+    private final ExecutorService executorService;
+    private final int queueDepth;
+    private final Duration batchTimeout;
+    private final Deque<Batch<T>> inFlightBatches;
+
+    public PrefetchingBatchIterable(
+            BatchIterable<T> batchIterable, ExecutorService executorService, int queueDepth) {
+        this(batchIterable, executorService, queueDepth, null);
+    }
+
+    public PrefetchingBatchIterable(
+            BatchIterable<T> batchIterable,
+            ExecutorService executorService,
+            int queueDepth,
+            Duration batchTimeout) {
+        if (queueDepth < 1) {
+            throw new IllegalArgumentException("Queue depth must be at least 1: " + queueDepth);
+        }
+        this.batchIterable = batchIterable;
+        this.executorService = executorService;
+        this.queueDepth = queueDepth;
+        this.batchTimeout = batchTimeout;
+        this.inFlightBatches = new ArrayDeque<>(queueDepth);
+    }
+
+    @Override
+    public Iterator<Collection<T>> iterator() {
+        return new Iterator<Collection<T>>() {
+            @Override
+            public boolean hasNext() {
+                fillQueue();
+                return !inFlightBatches.isEmpty();
+            }
+
+            @Override
+            public List<T> next() {
+                fillQueue();
+                Batch<T> nextBatch = inFlightBatches.poll();
+                if (nextBatch == null) {
+                    throw new NoSuchElementException();
+                }
+                List<T> result = waitFor(nextBatch);
+                fillQueue();
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        Batch<T> inFlightBatch;
+        while ((inFlightBatch = inFlightBatches.poll()) != null) {
+            inFlightBatch.conversion.cancel(true);
+        }
+    }
+
+    private void fillQueue() {
+        for (Batch<T> batch : inFlightBatches) {
+            if (!batch.submitted && !submit(batch)) {
+                return;
+            }
+        }
+        while (inFlightBatches.size() < queueDepth && batchIterable.hasNextBatch()) {
+            List<String> ids = batchIterable.nextBatch();
+            Batch<T> batch = new Batch<>(new FutureTask<>(() -> batchIterable.convertBatch(ids)));
+            inFlightBatches.add(batch);
+            if (!submit(batch)) {
+                return;
+            }
+        }
+    }
+
+    private boolean submit(Batch<T> batch) {
+        try {
+            executorService.execute(batch.conversion);
+            batch.submitted = true;
+        } catch (RejectedExecutionException e) {
+            log.debug("Batch rejected by executor, so it is not fetched ahead");
+        }
+        return batch.submitted;
+    }
+
+    private List<T> waitFor(Batch<T> batch) {
+        try {
+            if (batchTimeout == null) {
+                if (!batch.submitted) {
+                    batch.conversion.run();
+                }
+                return batch.conversion.get();
+            }
+            long deadline = System.nanoTime() + batchTimeout.toNanos();
+            while (!batch.submitted && System.nanoTime() < deadline) {
+                Thread.sleep(RESUBMIT_DELAY_MILLIS);
+                submit(batch);
+            }
+            long remainingNanos = Math.max(0, deadline - System.nanoTime());
+            return batch.conversion.get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            close();
+            batch.conversion.cancel(true);
+            throw new IllegalStateException(
+                    "Timed out after " + batchTimeout + " whilst waiting for batch", e);
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted whilst waiting for batch", e);
+        } catch (ExecutionException e) {
+            close();
+            log.error("Error whilst converting batch", e.getCause());
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Error whilst converting batch", e.getCause());
+        }
+    }
+
+    private static class Batch<T> {
+        private final FutureTask<List<T>> conversion;
+        private boolean submitted;
+
+        private Batch(FutureTask<List<T>> conversion) {
+            this.conversion = conversion;
+        }
+    }
+}
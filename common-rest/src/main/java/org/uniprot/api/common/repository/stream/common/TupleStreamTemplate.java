@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ import org.uniprot.api.common.repository.search.SolrRequest;
 import org.uniprot.api.common.repository.search.SolrRequestConverter;
 import org.uniprot.api.common.repository.solrstream.AbstractTupleStreamTemplate;
 import org.uniprot.api.common.repository.stream.store.StreamerConfigProperties;
+import org.uniprot.api.rest.metrics.RequestMetrics;
 import org.uniprot.core.util.Utils;
 
 /**
@@ -66,6 +68,21 @@ public class TupleStreamTemplate extends AbstractTupleStreamTemplate {
         return streamBuilder.createFor(request);
     }
 
+    /**
+     * Opens a {@link TupleStream} created by this template, recording how long Solr takes to start
+     * exporting its results.
+     *
+     * @param tupleStream the tuple stream to open
+     * @throws IOException if the tuple stream could not be opened
+     */
+    public static void open(TupleStream tupleStream) throws IOException {
+        Timer.Sample sample = Timer.start();
+        tupleStream.open();
+        sample.stop(
+                RequestMetrics.timer(
+                        RequestMetrics.SOLR_EXPORT, RequestMetrics.currentRequestTags()));
+    }
+
     void validateResponse(SolrRequest request) {
         if (streamConfig.getStoreMaxCountToRetrieve() > 0) {
             SolrRequest slimRequest =
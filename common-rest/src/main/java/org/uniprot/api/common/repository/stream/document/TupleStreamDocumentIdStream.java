@@ -27,7 +27,7 @@ public class TupleStreamDocumentIdStream implements DocumentIdStream {
     public Stream<String> fetchIds(SolrRequest solrRequest) {
         try {
             TupleStream tupleStream = tupleStreamTemplate.create(solrRequest);
-            tupleStream.open();
+            TupleStreamTemplate.open(tupleStream);
             return StreamSupport.stream(
                             new TupleStreamIterable(tupleStream, streamConfig.getIdFieldName())
                                     .spliterator(),
@@ -0,0 +1,69 @@
+package org.uniprot.api.common.repository.stream.rdf;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.uniprot.api.rest.output.RequestResponseLoggingInterceptor;
+
+/**
+ * Creates the {@link RestTemplate}s used to fetch batches of entries from an RDF server. Requests
+ * are made on a pool of kept-alive connections, shared by the concurrent downloads of a resource,
+ * and responses are not buffered, so that their bodies can be read as streams. The pool is closed
+ * when the bean of the {@link RestTemplate} is destroyed.
+ */
+public class RDFRestTemplateFactory {
+    private static final int IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+
+    private RDFRestTemplateFactory() {}
+
+    public static RestTemplate createRestTemplate(RDFStreamerConfigProperties config) {
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(config.getMaxConnections());
+        // all requests are made to the same server
+        connectionManager.setDefaultMaxPerRoute(config.getMaxConnections());
+
+        CloseableHttpClient httpClient =
+                HttpClients.custom()
+                        .setConnectionManager(connectionManager)
+                        .setDefaultRequestConfig(
+                                RequestConfig.custom()
+                                        .setConnectTimeout(config.getConnectionTimeout())
+                                        .setConnectionRequestTimeout(config.getConnectionTimeout())
+                                        .setSocketTimeout(config.getSocketTimeout())
+                                        .build())
+                        .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                        .evictExpiredConnections()
+                        .build();
+
+        RestTemplate restTemplate =
+                new PooledRestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.setInterceptors(
+                Collections.singletonList(new RequestResponseLoggingInterceptor()));
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(config.getRequestUrl()));
+        return restTemplate;
+    }
+
+    /** A {@link RestTemplate} that closes its HTTP client, and its connections, when destroyed. */
+    static class PooledRestTemplate extends RestTemplate implements DisposableBean {
+        private final HttpComponentsClientHttpRequestFactory requestFactory;
+
+        PooledRestTemplate(HttpComponentsClientHttpRequestFactory requestFactory) {
+            super(requestFactory);
+            this.requestFactory = requestFactory;
+        }
+
+        @Override
+        public void destroy() throws Exception {
+            requestFactory.destroy();
+        }
+    }
+}
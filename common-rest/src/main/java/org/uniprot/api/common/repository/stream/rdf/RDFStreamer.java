@@ -1,7 +1,9 @@
 package org.uniprot.api.common.repository.stream.rdf;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -12,6 +14,7 @@ import net.jodah.failsafe.RetryPolicy;
 
 import org.uniprot.api.common.repository.search.SolrRequest;
 import org.uniprot.api.common.repository.stream.common.BatchIterable;
+import org.uniprot.api.common.repository.stream.common.PrefetchingBatchIterable;
 import org.uniprot.api.common.repository.stream.document.DocumentIdStream;
 import org.uniprot.api.rest.service.RDFService;
 
@@ -26,6 +29,9 @@ public class RDFStreamer {
     private final RetryPolicy<Object> rdfFetchRetryPolicy; // retry policy for RDF rest call
     private final String rdfProlog; // rdf prefix
     private final int rdfBatchSize; // number of accession in rdf rest request
+    private final int rdfFetchQueueDepth; // number of rdf batches fetched ahead of the consumer
+    private final int rdfFetchTimeoutMillis; // time to wait for a batch, 0 for no limit
+    private final ExecutorService rdfFetchExecutor; // shared executor fetching batches ahead
     private final DocumentIdStream idStream;
 
     protected Stream<String> fetchIds(SolrRequest solrRequest) {
@@ -42,13 +48,21 @@ public class RDFStreamer {
                 new RDFStreamer.BatchRDFStoreIterable(
                         entryIds::iterator, rdfService, rdfFetchRetryPolicy, rdfBatchSize);
 
-        Stream<String> rdfStringStream =
-                StreamSupport.stream(batchRDFStoreIterable.spliterator(), false)
-                        .flatMap(Collection::stream)
-                        .onClose(
-                                () ->
-                                        log.debug(
-                                                "Finished streaming over search results and fetching from RDF server."));
+        Stream<String> rdfStringStream;
+        if (rdfFetchQueueDepth > 0 && rdfFetchExecutor != null) {
+            rdfStringStream = prefetchingRDFStream(batchRDFStoreIterable);
+        } else {
+            rdfStringStream =
+                    StreamSupport.stream(batchRDFStoreIterable.spliterator(), false)
+                            .flatMap(Collection::stream);
+        }
+        // closing the RDF stream, e.g., when a download is aborted, stops the id stream too
+        rdfStringStream = rdfStringStream.onClose(entryIds::close);
+        rdfStringStream =
+                rdfStringStream.onClose(
+                        () ->
+                                log.debug(
+                                        "Finished streaming over search results and fetching from RDF server."));
 
         // prepend rdf prolog then rdf data and then append closing rdf tag
         return Stream.concat(
@@ -56,6 +70,26 @@ public class RDFStreamer {
                 Stream.concat(rdfStringStream, Stream.of(RDFService.RDF_CLOSE_TAG)));
     }
 
+    /**
+     * Creates a stream whose RDF batches are fetched concurrently, ahead of the consumer, in the
+     * order of the ids. At most {@code rdfFetchQueueDepth} batches are in flight, so that a slow
+     * consumer holds back the fetching of further batches. The batches are fetched on the
+     * executor shared by all streams, and closing the stream cancels those still in flight.
+     */
+    private Stream<String> prefetchingRDFStream(BatchRDFStoreIterable batchRDFStoreIterable) {
+        PrefetchingBatchIterable<String> prefetchingIterable =
+                new PrefetchingBatchIterable<>(
+                        batchRDFStoreIterable,
+                        rdfFetchExecutor,
+                        rdfFetchQueueDepth,
+                        rdfFetchTimeoutMillis > 0
+                                ? Duration.ofMillis(rdfFetchTimeoutMillis)
+                                : null);
+        return StreamSupport.stream(prefetchingIterable.spliterator(), false)
+                .flatMap(Collection::stream)
+                .onClose(prefetchingIterable::close);
+    }
+
     // iterable for RDF streaming
     private static class BatchRDFStoreIterable extends BatchIterable<String> {
         private final RDFService<String> rdfService;
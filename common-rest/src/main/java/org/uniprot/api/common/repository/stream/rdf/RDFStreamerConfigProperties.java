@@ -4,8 +4,21 @@ import lombok.Data;
 
 @Data
 public class RDFStreamerConfigProperties {
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+    private static final int DEFAULT_CONNECTION_TIMEOUT_MILLIS = 1000 * 20;
+    private static final int DEFAULT_SOCKET_TIMEOUT_MILLIS = 1000 * 60 * 5;
+    private static final int DEFAULT_FETCH_QUEUE_DEPTH = 4;
+    private static final int DEFAULT_FETCH_TIMEOUT_MILLIS = 1000 * 60 * 10;
+
     private String requestUrl;
     private int batchSize; // number of accessions per RDF rest request
     private int maxRetries;
     private int retryDelayMillis;
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS; // pooled connections to the RDF server
+    private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT_MILLIS;
+    private int socketTimeout = DEFAULT_SOCKET_TIMEOUT_MILLIS;
+    // batches fetched concurrently, in id order, ahead of the consumer; 0 fetches sequentially
+    private int fetchQueueDepth = DEFAULT_FETCH_QUEUE_DEPTH;
+    // time to wait for a batch, including its retries; 0 waits without limit
+    private int fetchTimeoutMillis = DEFAULT_FETCH_TIMEOUT_MILLIS;
 }
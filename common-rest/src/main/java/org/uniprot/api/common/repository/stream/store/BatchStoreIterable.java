@@ -1,29 +1,50 @@
 package org.uniprot.api.common.repository.stream.store;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
-import net.jodah.failsafe.Failsafe;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import net.jodah.failsafe.RetryPolicy;
 
 import org.uniprot.api.common.repository.stream.common.BatchIterable;
+import org.uniprot.api.rest.metrics.RequestMetrics;
 import org.uniprot.store.datastore.UniProtStoreClient;
 
 public class BatchStoreIterable<T> extends BatchIterable<T> {
-    private final UniProtStoreClient<T> storeClient;
-    private final RetryPolicy<Object> retryPolicy;
+    private final SubBatchStoreFetcher<T> storeFetcher;
+    // batches may be fetched on other threads, so the tags of the request are kept here
+    private final Tags requestTags;
 
     public BatchStoreIterable(
             Iterable<String> sourceIterable,
             UniProtStoreClient<T> storeClient,
             RetryPolicy<Object> retryPolicy,
             int batchSize) {
+        this(sourceIterable, storeClient, retryPolicy, batchSize, null, 0);
+    }
+
+    public BatchStoreIterable(
+            Iterable<String> sourceIterable,
+            UniProtStoreClient<T> storeClient,
+            RetryPolicy<Object> retryPolicy,
+            int batchSize,
+            ExecutorService storeFetchExecutor,
+            int storeFetchSubBatchCount) {
         super(sourceIterable, batchSize);
-        this.storeClient = storeClient;
-        this.retryPolicy = retryPolicy;
+        this.storeFetcher =
+                new SubBatchStoreFetcher<>(
+                        storeClient, retryPolicy, storeFetchExecutor, storeFetchSubBatchCount);
+        this.requestTags = RequestMetrics.currentRequestTags();
     }
 
     @Override
     protected List<T> convertBatch(List<String> batch) {
-        return Failsafe.with(retryPolicy).get(() -> storeClient.getEntries(batch));
+        Timer.Sample sample = Timer.start();
+        List<T> entries = storeFetcher.getEntries(batch);
+        sample.stop(RequestMetrics.timer(RequestMetrics.STORE_BATCH, requestTags));
+        RequestMetrics.summary(RequestMetrics.STORE_BATCH_SIZE, "entries", requestTags)
+                .record(entries.size());
+        return entries;
     }
 }
@@ -0,0 +1,167 @@
+package org.uniprot.api.common.repository.stream.store;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.uniprot.store.datastore.UniProtStoreClient;
+import org.uniprot.store.datastore.voldemort.VoldemortClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * A {@link UniProtStoreClient} with a read-through cache of entries in front of the store, which
+ * keeps popular entries on the heap so that single entry lookups and small pages of entries need
+ * not go to the store each time. Requests for more than {@link
+ * StoreCacheConfigProperties#getMaxBatchSize()} entries (e.g., downloads) bypass the cache.
+ *
+ * <p>The cache is bounded by size or, if {@link StoreCacheConfigProperties#getMaximumBytes()} is
+ * configured, by the estimated heap bytes of its entries, as given by the weigher of the store
+ * client. When the store is loaded with a new release, {@link #invalidateAll()} drops all cached
+ * entries. Entries also expire a fixed time after they were loaded, as a backstop in case it is not
+ * called. Hit and miss counts are published through Micrometer once this client is bound to a
+ * {@link MeterRegistry}.
+ *
+ * <p>If no cache configuration is supplied, or it is not enabled, all calls go straight to the
+ * store.
+ */
+public class CachingUniProtStoreClient<T> extends UniProtStoreClient<T> implements MeterBinder {
+    private final Cache<String, T> cache;
+    private final String cacheName;
+    private final int maxBatchSize;
+
+    public CachingUniProtStoreClient(VoldemortClient<T> client) {
+        super(client);
+        this.cache = null;
+        this.cacheName = null;
+        this.maxBatchSize = 0;
+    }
+
+    public CachingUniProtStoreClient(
+            VoldemortClient<T> client,
+            StoreCacheConfigProperties cacheConfig,
+            String cacheName,
+            ToIntFunction<T> estimatedBytes) {
+        super(client);
+        this.cacheName = cacheName;
+        if (Objects.nonNull(cacheConfig) && cacheConfig.isEnabled()) {
+            this.cache = createCache(cacheConfig, estimatedBytes);
+            this.maxBatchSize = cacheConfig.getMaxBatchSize();
+        } else {
+            this.cache = null;
+            this.maxBatchSize = 0;
+        }
+    }
+
+    @Override
+    public Optional<T> getEntry(String id) {
+        if (cache == null) {
+            return super.getEntry(id);
+        }
+        T cachedEntry = cache.getIfPresent(id);
+        if (cachedEntry != null) {
+            return Optional.of(cachedEntry);
+        }
+        Optional<T> entry = super.getEntry(id);
+        entry.ifPresent(value -> cache.put(id, value));
+        return entry;
+    }
+
+    @Override
+    public List<T> getEntries(Iterable<String> ids) {
+        if (cache == null) {
+            return super.getEntries(ids);
+        }
+        List<String> idList = toList(ids);
+        if (idList.size() > maxBatchSize) {
+            return super.getEntries(idList);
+        }
+        Map<String, T> entryMap = getCachedEntryMap(idList);
+        List<T> entries = new ArrayList<>(entryMap.size());
+        for (String id : idList) {
+            T entry = entryMap.get(id);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public Map<String, T> getEntryMap(Iterable<String> ids) {
+        if (cache == null) {
+            return super.getEntryMap(ids);
+        }
+        List<String> idList = toList(ids);
+        if (idList.size() > maxBatchSize) {
+            return super.getEntryMap(idList);
+        }
+        return getCachedEntryMap(idList);
+    }
+
+    /** Drops all cached entries, e.g., because the store has been loaded with a new release. */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, cacheName);
+        }
+    }
+
+    private Map<String, T> getCachedEntryMap(List<String> ids) {
+        Map<String, T> entryMap = new LinkedHashMap<>(cache.getAllPresent(ids));
+        if (entryMap.size() < ids.size()) {
+            List<String> missingIds = new ArrayList<>(ids.size() - entryMap.size());
+            for (String id : ids) {
+                if (!entryMap.containsKey(id)) {
+                    missingIds.add(id);
+                }
+            }
+            Map<String, T> storeEntries = super.getEntryMap(missingIds);
+            cache.putAll(storeEntries);
+            entryMap.putAll(storeEntries);
+        }
+        return entryMap;
+    }
+
+    private static List<String> toList(Iterable<String> ids) {
+        if (ids instanceof List) {
+            return (List<String>) ids;
+        }
+        List<String> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        return idList;
+    }
+
+    private static <T> Cache<String, T> createCache(
+            StoreCacheConfigProperties cacheConfig, ToIntFunction<T> estimatedBytes) {
+        Caffeine<Object, Object> builder =
+                Caffeine.newBuilder()
+                        .expireAfterWrite(
+                                Duration.ofSeconds(cacheConfig.getExpireAfterWriteSeconds()))
+                        .recordStats();
+        if (cacheConfig.getMaximumBytes() > 0 && estimatedBytes != null) {
+            return builder.maximumWeight(cacheConfig.getMaximumBytes())
+                    .<String, T>weigher(
+                            (id, entry) -> Math.max(1, estimatedBytes.applyAsInt(entry)))
+                    .build();
+        } else {
+            return builder.maximumSize(cacheConfig.getMaximumSize()).build();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.uniprot.api.common.repository.stream.store;
+
+import lombok.Data;
+
+/**
+ * This class represents configurable properties of the entry cache used by a {@link
+ * CachingUniProtStoreClient}.
+ */
+@Data
+public class StoreCacheConfigProperties {
+    static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    static final int DEFAULT_MAX_BATCH_SIZE = 500;
+    static final long DEFAULT_EXPIRE_AFTER_WRITE_SECONDS = 24 * 60 * 60L;
+
+    private boolean enabled;
+    /** The maximum number of entries held, used when no maximum bytes are given. */
+    private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+    /**
+     * The maximum heap, in bytes, taken by the entries held. When greater than 0, this bound is
+     * used instead of {@link #maximumSize}. The size of each entry is estimated by the store client
+     * from its content (e.g., the length of its sequence), so the bound is approximate.
+     */
+    private long maximumBytes;
+    /**
+     * Requests for more entries than this bypass the cache, so that bulk downloads do not evict
+     * the popular entries.
+     */
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * How long an entry is held after it was loaded from the store. Entries are dropped when a new
+     * release is loaded, so this only bounds how long entries of a previous release are served if
+     * that is missed.
+     */
+    private long expireAfterWriteSeconds = DEFAULT_EXPIRE_AFTER_WRITE_SECONDS;
+}
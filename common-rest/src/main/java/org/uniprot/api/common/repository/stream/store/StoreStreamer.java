@@ -3,15 +3,18 @@ package org.uniprot.api.common.repository.stream.store;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import lombok.Builder;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.RetryPolicy;
 
 import org.apache.solr.client.solrj.io.stream.TupleStream;
 import org.uniprot.api.common.repository.search.SolrRequest;
+import org.uniprot.api.common.repository.stream.common.PrefetchingBatchIterable;
 import org.uniprot.api.common.repository.stream.common.TupleStreamIterable;
 import org.uniprot.api.common.repository.stream.common.TupleStreamTemplate;
 import org.uniprot.api.common.repository.stream.document.DocumentIdStream;
@@ -22,6 +25,14 @@ import org.uniprot.store.datastore.UniProtStoreClient;
  * this class need not know what store they need to access. They need only provide the request that
  * needs answering.
  *
+ * <p>If a {@code storeFetchExecutor} is supplied and {@link
+ * StreamerConfigProperties#getStoreFetchSubBatchCount()} is greater than 1, each store batch is
+ * split into sub-batches that are fetched concurrently on that executor.
+ *
+ * <p>If a {@code prefetchExecutor} is supplied and {@link
+ * StreamerConfigProperties#getStoreFetchQueueDepth()} is greater than 0, store batches are fetched
+ * ahead of the consumer of a stream on that executor, which is shared by all streams.
+ *
  * <p>Created 22/08/18
  *
  * @author Edd
@@ -34,19 +45,27 @@ public class StoreStreamer<T> {
     private final StreamerConfigProperties streamConfig;
     private final RetryPolicy<Object> storeFetchRetryPolicy;
     private final DocumentIdStream documentIdStream;
+    @Getter private final ExecutorService storeFetchExecutor;
+    private final ExecutorService prefetchExecutor;
 
     @SuppressWarnings("squid:S2095")
     public Stream<T> idsToStoreStream(SolrRequest solrRequest) {
         try {
             TupleStream tupleStream = tupleStreamTemplate.create(solrRequest);
-            tupleStream.open();
+            TupleStreamTemplate.open(tupleStream);
 
             BatchStoreIterable<T> batchStoreIterable =
                     new BatchStoreIterable<>(
                             new TupleStreamIterable(tupleStream, streamConfig.getIdFieldName()),
                             storeClient,
                             storeFetchRetryPolicy,
-                            streamConfig.getStoreBatchSize());
+                            streamConfig.getStoreBatchSize(),
+                            storeFetchExecutor,
+                            streamConfig.getStoreFetchSubBatchCount());
+            if (streamConfig.getStoreFetchQueueDepth() > 0 && prefetchExecutor != null) {
+                return prefetchingStoreStream(batchStoreIterable)
+                        .onClose(() -> closeTupleStream(tupleStream));
+            }
             return StreamSupport.stream(batchStoreIterable.spliterator(), false)
                     .flatMap(Collection::stream)
                     .onClose(() -> closeTupleStream(tupleStream));
@@ -65,12 +84,31 @@ public class StoreStreamer<T> {
                         accessions,
                         storeClient,
                         storeFetchRetryPolicy,
-                        streamConfig.getStoreBatchSize());
+                        streamConfig.getStoreBatchSize(),
+                        storeFetchExecutor,
+                        streamConfig.getStoreFetchSubBatchCount());
         return StreamSupport.stream(batchStoreIterable.spliterator(), false)
                 .flatMap(Collection::stream)
                 .onClose(() -> log.debug("Finished streaming entries."));
     }
 
+    /**
+     * Creates a stream whose store batches are fetched ahead of the consumer, so that reading ids
+     * from Solr, fetching entries from the store and writing the response can all overlap. The
+     * order of the entries is the same as the order of the ids. Closing the stream cancels the
+     * fetches still in flight.
+     */
+    private Stream<T> prefetchingStoreStream(BatchStoreIterable<T> batchStoreIterable) {
+        PrefetchingBatchIterable<T> prefetchingIterable =
+                new PrefetchingBatchIterable<>(
+                        batchStoreIterable,
+                        prefetchExecutor,
+                        streamConfig.getStoreFetchQueueDepth());
+        return StreamSupport.stream(prefetchingIterable.spliterator(), false)
+                .flatMap(Collection::stream)
+                .onClose(prefetchingIterable::close);
+    }
+
     private void closeTupleStream(TupleStream tupleStream) {
         try {
             tupleStream.close();
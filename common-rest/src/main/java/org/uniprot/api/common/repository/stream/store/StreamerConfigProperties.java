@@ -15,6 +15,16 @@ public class StreamerConfigProperties {
     private int storeFetchMaxRetries;
     private int storeFetchRetryDelayMillis;
     private int storeMaxCountToRetrieve;
+    /**
+     * The number of store batches that can be fetched ahead of the consumer of a stream. A value
+     * of 0 fetches each batch only once the previous one has been consumed.
+     */
+    private int storeFetchQueueDepth;
+    /**
+     * The number of sub-batches each store batch is split into, which are then fetched
+     * concurrently. A value less than 2 fetches each batch with a single store call.
+     */
+    private int storeFetchSubBatchCount;
 
     private String zkHost;
     private String idFieldName;
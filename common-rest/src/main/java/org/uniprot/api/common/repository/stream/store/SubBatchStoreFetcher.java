@@ -0,0 +1,74 @@
+package org.uniprot.api.common.repository.stream.store;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import net.jodah.failsafe.Failsafe;
+import net.jodah.failsafe.RetryPolicy;
+
+import org.uniprot.store.datastore.UniProtStoreClient;
+
+/**
+ * Fetches a batch of entries from a {@link UniProtStoreClient} by splitting the requested ids into
+ * a number of sub-batches, which are fetched concurrently on a shared {@link ExecutorService}.
+ * Each sub-batch is retried independently using the supplied {@link RetryPolicy}, and the entries
+ * are merged back in the order of the requested ids.
+ *
+ * <p>If no executor is supplied, or the sub-batch count is less than 2, the batch is fetched with a
+ * single store call.
+ */
+public class SubBatchStoreFetcher<T> {
+    private final UniProtStoreClient<T> storeClient;
+    private final RetryPolicy<Object> retryPolicy;
+    private final ExecutorService executorService;
+    private final int subBatchCount;
+
+    public SubBatchStoreFetcher(
+            UniProtStoreClient<T> storeClient,
+            RetryPolicy<Object> retryPolicy,
+            ExecutorService executorService,
+            int subBatchCount) {
+        this.storeClient = storeClient;
+        this.retryPolicy = retryPolicy;
+        this.executorService = executorService;
+        this.subBatchCount = subBatchCount;
+    }
+
+    public List<T> getEntries(Collection<String> ids) {
+        if (executorService == null || subBatchCount < 2 || ids.size() < 2) {
+            return Failsafe.with(retryPolicy).get(() -> storeClient.getEntries(ids));
+        }
+
+        List<String> idList = new ArrayList<>(ids);
+        int subBatchSize = (idList.size() + subBatchCount - 1) / subBatchCount;
+        List<CompletableFuture<List<T>>> subBatches = new ArrayList<>(subBatchCount);
+        for (int start = 0; start < idList.size(); start += subBatchSize) {
+            List<String> subBatch =
+                    idList.subList(start, Math.min(start + subBatchSize, idList.size()));
+            subBatches.add(
+                    CompletableFuture.supplyAsync(
+                            () ->
+                                    Failsafe.with(retryPolicy)
+                                            .get(() -> storeClient.getEntries(subBatch)),
+                            executorService));
+        }
+
+        List<T> entries = new ArrayList<>(idList.size());
+        try {
+            for (CompletableFuture<List<T>> subBatch : subBatches) {
+                entries.addAll(subBatch.join());
+            }
+        } catch (CompletionException e) {
+            subBatches.forEach(subBatch -> subBatch.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Error whilst fetching entries from store", e);
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,137 @@
+package org.uniprot.api.rest.concurrency;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.uniprot.api.common.concurrency.TaskExecutorProperties;
+
+/**
+ * Defines the executors shared by all streams of an application, which fetch data ahead of the
+ * consumers of the streams, or compress the responses written from them. Each executor has a
+ * bounded number of daemon threads, and is shut down, interrupting any running tasks, when the
+ * application context is closed.
+ *
+ * <p>When all threads of an executor are busy, and its queue if any is full, new tasks are run by
+ * the thread submitting them, so that a stream is slowed down rather than failed when the
+ * application is under load.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "streamer.executor")
+@Getter
+@Setter
+public class StreamerTaskExecutorConfig {
+    static final int KEEP_ALIVE_SECONDS = 60;
+    private TaskExecutorProperties prefetch = executorProperties(4, 40);
+    private TaskExecutorProperties storeFetch = executorProperties(4, 20);
+    private TaskExecutorProperties solrReadAhead = executorProperties(4, 40);
+    private TaskExecutorProperties rdfFetch = executorProperties(4, 40);
+    private TaskExecutorProperties gzipCompression = gzipCompressionProperties();
+
+    /**
+     * The executor on which the batches of a stream are fetched ahead of its consumer from a
+     * store.
+     */
+    @Bean(name = "streamPrefetchTaskExecutor")
+    public ThreadPoolTaskExecutor streamPrefetchTaskExecutor() {
+        return createExecutor(prefetch, "stream-prefetch-", new CallerRunsUnlessShutdownPolicy());
+    }
+
+    /**
+     * The executor on which the sub-batches of a store batch are fetched concurrently from the
+     * store.
+     */
+    @Bean(name = "storeFetchTaskExecutor")
+    public ThreadPoolTaskExecutor storeFetchTaskExecutor() {
+        return createExecutor(storeFetch, "store-fetch-", new CallerRunsUnlessShutdownPolicy());
+    }
+
+    /**
+     * The executor on which the batches of a Solr cursor are fetched ahead of their consumer. When
+     * all its threads are busy, new tasks are rejected, and the batches are fetched on demand.
+     */
+    @Bean(name = "solrReadAheadTaskExecutor")
+    public ThreadPoolTaskExecutor solrReadAheadTaskExecutor() {
+        return createExecutor(
+                solrReadAhead, "solr-read-ahead-", new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * The executor on which the batches of an RDF stream are fetched ahead of its consumer. When
+     * all its threads are busy, new tasks are rejected, and the batches are fetched once the
+     * consumer needs them, so that the consumer is not held up by the retries of other batches.
+     */
+    @Bean(name = "rdfFetchTaskExecutor")
+    public ThreadPoolTaskExecutor rdfFetchTaskExecutor() {
+        return createExecutor(rdfFetch, "rdf-fetch-", new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * The executor on which the blocks of compressed responses are compressed. By default, it has
+     * as many threads as there are processors, and a queue as long, so that compression does not
+     * take more than the available processors from requests.
+     */
+    @Bean(name = "gzipCompressionTaskExecutor")
+    public ThreadPoolTaskExecutor gzipCompressionTaskExecutor() {
+        return createExecutor(gzipCompression, "gzip-", new CallerRunsUnlessShutdownPolicy());
+    }
+
+    static ThreadPoolTaskExecutor createExecutor(
+            TaskExecutorProperties properties,
+            String threadNamePrefix,
+            RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getCorePoolSize());
+        executor.setMaxPoolSize(properties.getMaxPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setKeepAliveSeconds(properties.getKeepAliveSeconds());
+        executor.setAllowCoreThreadTimeOut(properties.isAllowCoreThreadTimeout());
+        executor.setWaitForTasksToCompleteOnShutdown(
+                properties.isWaitForTasksToCompleteOnShutdown());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setDaemon(true);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        return executor;
+    }
+
+    static TaskExecutorProperties executorProperties(int corePoolSize, int maxPoolSize) {
+        TaskExecutorProperties properties = new TaskExecutorProperties();
+        properties.setCorePoolSize(corePoolSize);
+        properties.setMaxPoolSize(maxPoolSize);
+        // tasks are handed straight to a thread, or run by the caller
+        properties.setQueueCapacity(0);
+        properties.setKeepAliveSeconds(KEEP_ALIVE_SECONDS);
+        properties.setAllowCoreThreadTimeout(true);
+        properties.setWaitForTasksToCompleteOnShutdown(false);
+        return properties;
+    }
+
+    static TaskExecutorProperties gzipCompressionProperties() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        TaskExecutorProperties properties = executorProperties(processors, processors);
+        properties.setQueueCapacity(processors);
+        return properties;
+    }
+
+    /**
+     * Runs a task that cannot be handed to a thread of the executor on the submitting thread,
+     * unless the executor has been shut down, in which case the task is rejected, so that its
+     * submitter does not wait for it forever.
+     */
+    static class CallerRunsUnlessShutdownPolicy implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Executor has been shut down");
+            }
+            task.run();
+        }
+    }
+}
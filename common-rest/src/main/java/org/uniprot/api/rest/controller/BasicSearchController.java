@@ -116,6 +116,36 @@ public abstract class BasicSearchController<T> {
             context.setFailedIds(result.getFailedIds());
         }
 
+        return getSearchResponse(context, contentType, result, isDownload, request, response);
+    }
+
+    /**
+     * Creates the response of a search whose results are only the ids of its entries, e.g., for
+     * list responses, so that the entries need not be fetched.
+     */
+    protected ResponseEntity<MessageConverterContext<T>> getSearchIdsResponse(
+            QueryResult<String> result,
+            boolean isDownload,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        MediaType contentType = getAcceptHeader(request);
+        MessageConverterContext<T> context = converterContextFactory.get(resource, contentType);
+
+        context.setFacets(result.getFacets());
+        context.setFileType(getBestFileTypeFromRequest(request));
+        context.setMatchedFields(result.getMatchedFields());
+        context.setEntityIds(result.getContent());
+
+        return getSearchResponse(context, contentType, result, isDownload, request, response);
+    }
+
+    private ResponseEntity<MessageConverterContext<T>> getSearchResponse(
+            MessageConverterContext<T> context,
+            MediaType contentType,
+            QueryResult<?> result,
+            boolean isDownload,
+            HttpServletRequest request,
+            HttpServletResponse response) {
         HttpHeaders headers = createHttpSearchHeader(contentType);
         if (isDownload) {
             context.setDownloadContentDispositionHeader(true);
@@ -221,4 +251,9 @@ public abstract class BasicSearchController<T> {
         MediaType contentType = getAcceptHeader(request);
         return contentType.equals(RDF_MEDIA_TYPE);
     }
+
+    protected boolean isListAccept(HttpServletRequest request) {
+        MediaType contentType = getAcceptHeader(request);
+        return contentType.equals(LIST_MEDIA_TYPE);
+    }
 }
@@ -0,0 +1,137 @@
+package org.uniprot.api.rest.metrics;
+
+import javax.servlet.http.HttpServletRequest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.uniprot.api.rest.output.UniProtMediaType;
+
+/**
+ * Records how long each stage of a request takes, through Micrometer, so that slow requests can be
+ * broken down by stage: query processing, Solr pages and exports, store batches, the writing of
+ * responses and the generation of job ids. Meters are tagged by the resource requested, i.e., the
+ * first segment of the request path (e.g., uniprotkb), and by the media type requested.
+ *
+ * <p>The tags are taken from the request bound to the current thread. Stages that run on other
+ * threads (e.g., store batches fetched ahead of a download) should capture the tags with {@link
+ * #currentRequestTags()} on the request thread, and record against them later.
+ *
+ * <p>Meters are registered in {@link Metrics#globalRegistry}, to which Spring Boot adds the
+ * application's registry, so that they are exported through the prometheus endpoint.
+ */
+public class RequestMetrics {
+    public static final String QUERY_PROCESSING = "uniprot.query.processing";
+    public static final String SOLR_PAGE = "uniprot.solr.page";
+    public static final String SOLR_EXPORT = "uniprot.solr.export";
+    public static final String STORE_BATCH = "uniprot.store.batch";
+    public static final String STORE_BATCH_SIZE = "uniprot.store.batch.size";
+    public static final String RESPONSE_WRITE = "uniprot.response.write";
+    public static final String RESPONSE_BYTES = "uniprot.response.bytes";
+    public static final String JOB_ID = "uniprot.job.id";
+    static final String RESOURCE_TAG = "resource";
+    static final String MEDIA_TYPE_TAG = "media.type";
+    static final String NONE = "none";
+    static final String OTHER = "other";
+    private static final MeterRegistry REGISTRY = Metrics.globalRegistry;
+
+    private RequestMetrics() {}
+
+    /**
+     * Gets the tags of the request bound to the current thread, or tags with the value {@code
+     * none} if there is no such request.
+     *
+     * @return the resource and media type tags of the current request
+     */
+    public static Tags currentRequestTags() {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return Tags.of(RESOURCE_TAG, NONE, MEDIA_TYPE_TAG, NONE);
+        }
+        return Tags.of(
+                RESOURCE_TAG,
+                resource(request),
+                MEDIA_TYPE_TAG,
+                mediaType(request.getHeader(HttpHeaders.ACCEPT)));
+    }
+
+    /**
+     * Gets the tags of the request bound to the current thread, for a response written in a given
+     * media type.
+     *
+     * @param mediaType the media type of the response
+     * @return the resource and media type tags of the current request
+     */
+    public static Tags currentRequestTags(MediaType mediaType) {
+        HttpServletRequest request = currentRequest();
+        return Tags.of(
+                RESOURCE_TAG,
+                request == null ? NONE : resource(request),
+                MEDIA_TYPE_TAG,
+                mediaType == null ? NONE : mediaType(mediaType));
+    }
+
+    public static Timer timer(String name, Tags tags) {
+        return Timer.builder(name).tags(tags).register(REGISTRY);
+    }
+
+    public static DistributionSummary summary(String name, String baseUnit, Tags tags) {
+        return DistributionSummary.builder(name).baseUnit(baseUnit).tags(tags).register(REGISTRY);
+    }
+
+    public static Counter counter(String name, String baseUnit, Tags tags) {
+        return Counter.builder(name).baseUnit(baseUnit).tags(tags).register(REGISTRY);
+    }
+
+    static String resource(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (path == null) {
+            return NONE;
+        }
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                return segment;
+            }
+        }
+        return NONE;
+    }
+
+    static String mediaType(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isEmpty()) {
+            return NONE;
+        }
+        try {
+            return mediaType(MediaType.valueOf(acceptHeader));
+        } catch (InvalidMediaTypeException e) {
+            return OTHER;
+        }
+    }
+
+    private static String mediaType(MediaType mediaType) {
+        // only known types are used as tags, to bound the number of meters
+        for (MediaType knownType : UniProtMediaType.ALL_TYPES) {
+            if (knownType.equalsTypeAndSubtype(mediaType)) {
+                return knownType.getType() + "/" + knownType.getSubtype();
+            }
+        }
+        return OTHER;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return ((ServletRequestAttributes) attributes).getRequest();
+        }
+        return null;
+    }
+}
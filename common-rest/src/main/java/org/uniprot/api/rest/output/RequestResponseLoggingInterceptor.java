@@ -1,7 +1,6 @@
 package org.uniprot.api.rest.output;
 
 import java.io.IOException;
-import java.nio.charset.Charset;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,7 +8,6 @@ import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.util.StreamUtils;
 
 /** @author sahmad interceptor for rest template */
 public class RequestResponseLoggingInterceptor implements ClientHttpRequestInterceptor {
@@ -45,10 +43,8 @@ public class RequestResponseLoggingInterceptor implements ClientHttpRequestInter
                     "============================response begins==========================================");
             log.debug("Status code  : {}", response.getStatusCode());
             log.debug("Status text  : {}", response.getStatusText());
+            // the body is not logged, so that it can be read as a stream, without being buffered
             log.debug("Headers      : {}", response.getHeaders());
-            log.debug(
-                    "Response body: {}",
-                    StreamUtils.copyToString(response.getBody(), Charset.defaultCharset()));
             log.debug(
                     "=======================response ends=================================================");
         }
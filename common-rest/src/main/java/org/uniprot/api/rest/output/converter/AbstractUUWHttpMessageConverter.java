@@ -7,11 +7,14 @@ import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Deflater;
 
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.http.HttpInputMessage;
@@ -20,10 +23,13 @@ import org.springframework.http.MediaType;
 import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
 import org.springframework.http.converter.AbstractHttpMessageConverter;
 import org.springframework.lang.Nullable;
+import org.uniprot.api.rest.metrics.RequestMetrics;
 import org.uniprot.api.rest.output.context.FileType;
 import org.uniprot.api.rest.output.context.MessageConverterContext;
 import org.uniprot.core.util.Utils;
 
+import com.google.common.io.CountingOutputStream;
+
 /**
  * Abstract HTTP message converter extending {@link AbstractHttpMessageConverter} that implements a
  * generic way of writing the entities obtained from a {@link MessageConverterContext}. The default
@@ -33,6 +39,9 @@ import org.uniprot.core.util.Utils;
  * <p>Typically, the {@link AbstractUUWHttpMessageConverter#writeEntity(Object, OutputStream)}
  * method need only be overriden.
  *
+ * <p>The time taken to write each response, and the number of bytes written, are recorded through
+ * {@link RequestMetrics}.
+ *
  * <p>Created 10/09/18
  *
  * @author Edd
@@ -44,6 +53,9 @@ public abstract class AbstractUUWHttpMessageConverter<C, T>
     private static final int LOG_INTERVAL = 10000;
     private static final ThreadLocal<String> ENTITY_SEPARATOR = new ThreadLocal<>();
     private final Class<C> messageConverterEntryClass;
+    private int gzipLevel = Deflater.DEFAULT_COMPRESSION;
+    // until the shared executor is set, blocks are compressed by the writing thread
+    private Executor gzipExecutor = Runnable::run;
 
     AbstractUUWHttpMessageConverter(MediaType mediaType, Class<C> messageConverterEntryClass) {
         super(mediaType);
@@ -87,18 +99,46 @@ public abstract class AbstractUUWHttpMessageConverter<C, T>
             MessageConverterContext<C> context, Type type, HttpOutputMessage httpOutputMessage)
             throws IOException {
         AtomicInteger counter = new AtomicInteger();
-        OutputStream outputStream = httpOutputMessage.getBody();
+        CountingOutputStream outputStream = new CountingOutputStream(httpOutputMessage.getBody());
         Instant start = Instant.now();
+        Tags tags = RequestMetrics.currentRequestTags(context.getContentType());
+        Timer.Sample sample = Timer.start();
 
-        if (context.getFileType() == FileType.GZIP) {
-            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
-                writeContents(context, gzipOutputStream, start, counter);
+        try {
+            if (context.getFileType() == FileType.GZIP) {
+                try (ParallelGzipOutputStream gzipOutputStream =
+                        new ParallelGzipOutputStream(outputStream, gzipLevel, gzipExecutor)) {
+                    writeContents(context, gzipOutputStream, start, counter);
+                }
+            } else {
+                writeContents(context, outputStream, start, counter);
             }
-        } else {
-            writeContents(context, outputStream, start, counter);
+        } finally {
+            sample.stop(RequestMetrics.timer(RequestMetrics.RESPONSE_WRITE, tags));
+            RequestMetrics.counter(RequestMetrics.RESPONSE_BYTES, "bytes", tags)
+                    .increment(outputStream.getCount());
         }
     }
 
+    /**
+     * Sets the level at which compressed downloads written by this converter are compressed.
+     *
+     * @param gzipLevel the compression level, from 0 to 9, or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public void setGzipLevel(int gzipLevel) {
+        this.gzipLevel = gzipLevel;
+    }
+
+    /**
+     * Sets the executor, shared by all converters, on which the blocks of compressed downloads
+     * are compressed.
+     *
+     * @param gzipExecutor the executor
+     */
+    public void setGzipExecutor(Executor gzipExecutor) {
+        this.gzipExecutor = gzipExecutor;
+    }
+
     protected void before(MessageConverterContext<C> context, OutputStream outputStream)
             throws IOException {}
 
@@ -124,15 +164,32 @@ public abstract class AbstractUUWHttpMessageConverter<C, T>
             logStats(counter.get(), start);
         } catch (StopStreamException | IOException e) {
             String errorMsg = "Error encountered when streaming data.";
+            // the error follows what has been written so far
+            flushBuffered(outputStream);
             outputStream.write(("\n\n" + errorMsg + " Please try again later.\n").getBytes());
             throw new StopStreamException(errorMsg, e);
         } finally {
+            try {
+                flushBuffered(outputStream);
+            } catch (IOException e) {
+                log.warn("Unable to flush buffered output", e);
+            }
             outputStream.close();
             entities.close();
             cleanUp();
         }
     }
 
+    /**
+     * Writes any output that this converter buffers itself, e.g., in a writer wrapping the output
+     * stream, to the output stream. It is called before the output stream is flushed, written to
+     * directly or closed.
+     *
+     * @param outputStream the output stream of the response
+     * @throws IOException if the buffered output cannot be written
+     */
+    protected void flushBuffered(OutputStream outputStream) throws IOException {}
+
     protected void cleanUp() {
         ENTITY_SEPARATOR.remove();
     }
@@ -189,6 +246,7 @@ public abstract class AbstractUUWHttpMessageConverter<C, T>
     private void flushWhenNecessary(OutputStream outputStream, int currentCount)
             throws IOException {
         if (currentCount % FLUSH_INTERVAL == 0) {
+            flushBuffered(outputStream);
             outputStream.flush();
         }
     }
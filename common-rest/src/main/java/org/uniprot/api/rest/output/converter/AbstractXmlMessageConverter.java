@@ -1,6 +1,7 @@
 package org.uniprot.api.rest.output.converter;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -12,13 +13,19 @@ import org.uniprot.api.rest.output.context.MessageConverterContext;
 import com.sun.xml.bind.marshaller.DataWriter;
 
 /**
+ * Writes entities as XML. Each response stream uses a single {@link Marshaller}, which writes
+ * every entity through one buffered UTF-8 writer wrapping the response's {@link OutputStream}, so
+ * that no intermediate strings are built per entity. The writer is flushed whenever the response is
+ * flushed, before an error is written to it, and before it is closed.
+ *
  * @author jluo
  * @date: 2 May 2019
  */
 public abstract class AbstractXmlMessageConverter<T, X>
         extends AbstractEntityHttpMessageConverter<T> {
-
+    private static final String ENCODING = "UTF-8";
     private final JAXBContext jaxbContext;
+    private final ThreadLocal<XmlStreamWriter> xmlStreamWriter = new ThreadLocal<>();
 
     public AbstractXmlMessageConverter(Class<T> messageConverterEntryClass, String context) {
         super(MediaType.APPLICATION_XML, messageConverterEntryClass);
@@ -31,8 +38,6 @@ public abstract class AbstractXmlMessageConverter<T, X>
 
     protected abstract X toXml(T entity);
 
-    protected abstract Marshaller getMarshaller();
-
     protected abstract String getFooter();
 
     protected abstract String getHeader();
@@ -40,18 +45,36 @@ public abstract class AbstractXmlMessageConverter<T, X>
     @Override
     protected void before(MessageConverterContext<T> context, OutputStream outputStream)
             throws IOException {
-        outputStream.write(getHeader().getBytes());
+        XmlStreamWriter writer = new XmlStreamWriter(createMarshaller(), outputStream);
+        xmlStreamWriter.set(writer);
+        writer.write(getHeader());
     }
 
     @Override
     protected void writeEntity(T entity, OutputStream outputStream) throws IOException {
-        outputStream.write(getXmlString(entity).getBytes());
+        xmlStreamWriter.get().marshal(toXml(entity));
     }
 
     @Override
     protected void after(MessageConverterContext<T> context, OutputStream outputStream)
             throws IOException {
-        outputStream.write(getFooter().getBytes());
+        XmlStreamWriter writer = xmlStreamWriter.get();
+        writer.write(getFooter());
+        writer.flush();
+    }
+
+    @Override
+    protected void flushBuffered(OutputStream outputStream) throws IOException {
+        XmlStreamWriter writer = xmlStreamWriter.get();
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    protected void cleanUp() {
+        super.cleanUp();
+        xmlStreamWriter.remove();
     }
 
     protected Marshaller createMarshaller() {
@@ -65,19 +88,36 @@ public abstract class AbstractXmlMessageConverter<T, X>
         }
     }
 
-    private String getXmlString(T uniProtEntry) {
-        try {
-            X entry = toXml(uniProtEntry);
-            StringWriter xmlString = new StringWriter();
-            Writer out = new BufferedWriter(xmlString);
-            DataWriter writer = new DataWriter(out, "UTF-8");
-            writer.setIndentStep("  ");
-            getMarshaller().marshal(entry, writer);
-            writer.characters("\n");
-            writer.flush();
-            return xmlString.toString();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+    /** The marshaller and writers used for the lifetime of one response stream. */
+    private static class XmlStreamWriter {
+        private final Marshaller marshaller;
+        private final Writer out;
+        private final DataWriter dataWriter;
+
+        XmlStreamWriter(Marshaller marshaller, OutputStream outputStream) {
+            this.marshaller = marshaller;
+            this.out =
+                    new BufferedWriter(
+                            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            this.dataWriter = new DataWriter(out, ENCODING);
+            this.dataWriter.setIndentStep("  ");
+        }
+
+        void marshal(Object entry) throws IOException {
+            try {
+                marshaller.marshal(entry, dataWriter);
+                dataWriter.characters("\n");
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+
+        void write(String text) throws IOException {
+            out.write(text);
+        }
+
+        void flush() throws IOException {
+            out.flush();
         }
     }
 }
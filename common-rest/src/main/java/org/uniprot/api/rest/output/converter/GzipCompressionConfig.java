@@ -0,0 +1,77 @@
+package org.uniprot.api.rest.output.converter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.uniprot.api.rest.output.UniProtMediaType;
+
+/**
+ * Configures the compression of compressed downloads, and their compression level per format,
+ * e.g.:
+ *
+ * <pre>
+ * download.gzip.level=6
+ * download.gzip.levels.fasta=4
+ * download.gzip.levels.xlsx=1
+ * </pre>
+ *
+ * Formats are named by their file extension, and those without a level of their own are compressed
+ * at the default level. The levels, and the {@code gzipCompressionTaskExecutor} on which the
+ * downloads are compressed, are set on the message converters of the application once it has
+ * started.
+ */
+@Component
+@ConfigurationProperties(prefix = "download.gzip")
+public class GzipCompressionConfig {
+    @Getter @Setter private int level = Deflater.DEFAULT_COMPRESSION;
+    @Getter @Setter private Map<String, Integer> levels = new HashMap<>();
+
+    private final ApplicationContext applicationContext;
+    private final Executor gzipCompressionTaskExecutor;
+
+    public GzipCompressionConfig(
+            ApplicationContext applicationContext,
+            @Qualifier("gzipCompressionTaskExecutor") Executor gzipCompressionTaskExecutor) {
+        this.applicationContext = applicationContext;
+        this.gzipCompressionTaskExecutor = gzipCompressionTaskExecutor;
+    }
+
+    public int getLevel(MediaType mediaType) {
+        int formatLevel = levels.getOrDefault(UniProtMediaType.getFileExtension(mediaType), level);
+        if (formatLevel < Deflater.DEFAULT_COMPRESSION || formatLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException(
+                    "Invalid gzip compression level for " + mediaType + ": " + formatLevel);
+        }
+        return formatLevel;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void configureConverters() {
+        for (RequestMappingHandlerAdapter adapter :
+                applicationContext.getBeansOfType(RequestMappingHandlerAdapter.class).values()) {
+            for (HttpMessageConverter<?> converter : adapter.getMessageConverters()) {
+                if (converter instanceof AbstractUUWHttpMessageConverter
+                        && !converter.getSupportedMediaTypes().isEmpty()) {
+                    AbstractUUWHttpMessageConverter<?, ?> uuwConverter =
+                            (AbstractUUWHttpMessageConverter<?, ?>) converter;
+                    uuwConverter.setGzipLevel(getLevel(converter.getSupportedMediaTypes().get(0)));
+                    uuwConverter.setGzipExecutor(gzipCompressionTaskExecutor);
+                }
+            }
+        }
+    }
+}
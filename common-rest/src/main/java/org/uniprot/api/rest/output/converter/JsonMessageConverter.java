@@ -11,20 +11,24 @@ import java.util.stream.Collectors;
 
 import org.springframework.http.MediaType;
 import org.uniprot.api.rest.output.context.MessageConverterContext;
-import org.uniprot.core.util.Utils;
 import org.uniprot.store.config.returnfield.config.ReturnFieldConfig;
 import org.uniprot.store.config.returnfield.model.ReturnField;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.github.bohnman.squiggly.context.provider.SimpleSquigglyContextProvider;
 import com.github.bohnman.squiggly.filter.SquigglyPropertyFilter;
 import com.github.bohnman.squiggly.parser.SquigglyParser;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 
 /**
  * @param <T> instance of the object that is being written.
@@ -36,12 +40,16 @@ public class JsonMessageConverter<T> extends AbstractEntityHttpMessageConverter<
     private static final String PATH_PREFIX = "$..";
     protected final ObjectMapper objectMapper;
 
-    private static final ThreadLocal<List<ReturnField>> TL_FILTERS = new ThreadLocal<>();
     protected static final ThreadLocal<JsonGenerator> TL_JSON_GENERATOR = new ThreadLocal<>();
-    private static final ThreadLocal<ObjectMapper> TL_FILTER_MAPPER = new ThreadLocal<>();
+    private static final ThreadLocal<FieldProjection> TL_PROJECTION = new ThreadLocal<>();
 
     private static final SquigglyParser SQUIGGLY_PARSER = new SquigglyParser();
     private static final Pattern FILTER_PATTERN = Pattern.compile("\\((.*?)\\)");
+    private static final Configuration JSON_NODE_CONFIGURATION =
+            Configuration.builder()
+                    .jsonProvider(new JacksonJsonNodeJsonProvider())
+                    .mappingProvider(new JacksonMappingProvider())
+                    .build();
     private final ReturnFieldConfig returnFieldConfig;
 
     public JsonMessageConverter(
@@ -57,14 +65,9 @@ public class JsonMessageConverter<T> extends AbstractEntityHttpMessageConverter<
     @SuppressWarnings("squid:S2095")
     protected void before(MessageConverterContext<T> context, OutputStream outputStream)
             throws IOException {
-        List<ReturnField> fieldList = getFilterFieldMap(context.getFields());
-        TL_FILTERS.set(fieldList);
         if (notNullNotEmpty(context.getFields())) {
-            ObjectMapper filterMapper = objectMapper.copy();
-            FilterProvider filterProvider = getFieldsFilterProvider(fieldList);
-            filterMapper.setFilterProvider(filterProvider);
-            TL_FILTER_MAPPER.set(filterMapper);
-            setEntitySeparator(",");
+            List<ReturnField> fieldList = getFilterFieldMap(context.getFields());
+            TL_PROJECTION.set(compileProjection(fieldList));
         }
 
         JsonGenerator generator =
@@ -101,25 +104,9 @@ public class JsonMessageConverter<T> extends AbstractEntityHttpMessageConverter<
     @Override
     protected void writeEntity(T entity, OutputStream outputStream) throws IOException {
         JsonGenerator generator = TL_JSON_GENERATOR.get();
-        List<ReturnField> fields = TL_FILTERS.get();
-        if (Utils.notNullNotEmpty(fields)) {
-            ObjectMapper mapper = TL_FILTER_MAPPER.get();
-            String filteredJson = mapper.writeValueAsString(entity);
-
-            Map<String, String> filterFields = getFieldsWithFilterMap(fields);
-            if (notNullNotEmpty(filterFields)) {
-                DocumentContext referenceJson = JsonPath.parse(filteredJson);
-                for (Map.Entry<String, String> field : filterFields.entrySet()) {
-                    String path = PATH_PREFIX + field.getKey() + field.getValue();
-                    JsonPath filterPath = JsonPath.compile(path);
-                    Object filteredItems = referenceJson.read(filterPath);
-
-                    JsonPath setPath = JsonPath.compile(PATH_PREFIX + field.getKey());
-                    referenceJson = referenceJson.set(setPath, filteredItems);
-                }
-                filteredJson = referenceJson.jsonString();
-            }
-            generator.writeRaw(filteredJson);
+        FieldProjection projection = TL_PROJECTION.get();
+        if (projection != null) {
+            projection.write(generator, entity);
         } else {
             generator.writeObject(entity);
         }
@@ -163,8 +150,7 @@ public class JsonMessageConverter<T> extends AbstractEntityHttpMessageConverter<
             logger.warn("Unable to close json generator", e);
         }
         TL_JSON_GENERATOR.remove();
-        TL_FILTER_MAPPER.remove();
-        TL_FILTERS.remove();
+        TL_PROJECTION.remove();
     }
 
     protected List<ReturnField> getFilterFieldMap(String fields) {
@@ -188,6 +174,20 @@ public class JsonMessageConverter<T> extends AbstractEntityHttpMessageConverter<
         }
     }
 
+    private FieldProjection compileProjection(List<ReturnField> fields) {
+        ObjectMapper filterMapper = objectMapper.copy();
+        filterMapper.setFilterProvider(getFieldsFilterProvider(fields));
+
+        List<FilteredPath> filteredPaths = new ArrayList<>();
+        for (Map.Entry<String, String> field : getFieldsWithFilterMap(fields).entrySet()) {
+            filteredPaths.add(
+                    new FilteredPath(
+                            JsonPath.compile(PATH_PREFIX + field.getKey() + field.getValue()),
+                            JsonPath.compile(PATH_PREFIX + field.getKey())));
+        }
+        return new FieldProjection(filterMapper, filteredPaths);
+    }
+
     private SimpleFilterProvider getFieldsFilterProvider(List<ReturnField> fields) {
         String fieldsPath =
                 fields.stream()
@@ -236,4 +236,48 @@ public class JsonMessageConverter<T> extends AbstractEntityHttpMessageConverter<
             filters.put(path, filter);
         }
     }
+
+    /**
+     * The requested fields of a response, compiled once: a field-filtered mapper writes the
+     * requested properties of each entity, and filtered paths (e.g., comments of one type) are
+     * then applied to its JSON tree, before the result is written to the response's generator.
+     */
+    private static class FieldProjection {
+        private final ObjectMapper filterMapper;
+        private final ObjectWriter filterWriter;
+        private final List<FilteredPath> filteredPaths;
+
+        FieldProjection(ObjectMapper filterMapper, List<FilteredPath> filteredPaths) {
+            this.filterMapper = filterMapper;
+            // entities are written one after another to the response's generator
+            this.filterWriter =
+                    filterMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.filteredPaths = filteredPaths;
+        }
+
+        void write(JsonGenerator generator, Object entity) throws IOException {
+            if (filteredPaths.isEmpty()) {
+                filterWriter.writeValue(generator, entity);
+            } else {
+                JsonNode entityNode = filterMapper.valueToTree(entity);
+                DocumentContext entityJson =
+                        JsonPath.using(JSON_NODE_CONFIGURATION).parse(entityNode);
+                for (FilteredPath filteredPath : filteredPaths) {
+                    Object filteredItems = entityJson.read(filteredPath.filterPath);
+                    entityJson.set(filteredPath.setPath, filteredItems);
+                }
+                generator.writeTree(entityJson.json());
+            }
+        }
+    }
+
+    private static class FilteredPath {
+        private final JsonPath filterPath;
+        private final JsonPath setPath;
+
+        FilteredPath(JsonPath filterPath, JsonPath setPath) {
+            this.filterPath = filterPath;
+            this.setPath = setPath;
+        }
+    }
 }
@@ -2,7 +2,6 @@ package org.uniprot.api.rest.output.converter;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.uniprot.core.util.Utils;
@@ -28,11 +27,4 @@ public class OutputFieldsParser {
         }
         return returnFields;
     }
-
-    public static List<String> getData(Map<String, String> mappedField, List<ReturnField> fields) {
-        return fields.stream()
-                .map(ReturnField::getName)
-                .map(field -> mappedField.getOrDefault(field, ""))
-                .collect(Collectors.toList());
-    }
 }
@@ -0,0 +1,261 @@
+package org.uniprot.api.rest.output.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A gzip output stream that compresses blocks of its input in parallel, on an executor shared by
+ * all responses, e.g., the {@code gzipCompressionTaskExecutor}. Each block is deflated
+ * independently, primed with the end of the previous block as its dictionary so that little
+ * compression is lost at block boundaries, and ends on a byte boundary (a sync flush), so that the
+ * compressed blocks concatenate into the deflate data of a single gzip member, readable by any
+ * gzip client. The CRC of the input is computed by the writing thread, while earlier blocks are
+ * compressed.
+ *
+ * <p>The number of blocks being compressed per stream is bounded by a small fixed depth, so that a
+ * writer faster than its client is held back rather than buffering the response in memory, and
+ * the memory taken by all streams together is bounded by the number of streams. As for {@link
+ * GZIPOutputStream}, {@link #flush()} does not force out buffered input, but only writes the
+ * blocks that have been compressed.
+ */
+public class ParallelGzipOutputStream extends FilterOutputStream {
+    static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int UNKNOWN_OS = 0xff;
+    private static final int TRAILER_SIZE = 8;
+    static final int DEFAULT_MAX_BLOCKS_IN_FLIGHT = 4;
+    // one deflater per level (-1 to 9) per compressing thread, reset for each block
+    private static final ThreadLocal<Deflater[]> DEFLATERS =
+            ThreadLocal.withInitial(() -> new Deflater[Deflater.BEST_COMPRESSION + 2]);
+
+    private final Executor executor;
+    private final int level;
+    private final int blockSize;
+    private final int maxBlocksInFlight;
+    private final Deque<Future<byte[]>> blocksInFlight = new ArrayDeque<>();
+    private final CRC32 crc = new CRC32();
+    private byte[] block;
+    private int blockLength;
+    private byte[] previousBlock;
+    private int previousBlockLength;
+    private long inputSize;
+    private boolean closed;
+
+    /**
+     * Creates a gzip stream compressing on the given executor.
+     *
+     * @param out the stream to write the gzip data to
+     * @param level the compression level, from 0 to 9, or {@link Deflater#DEFAULT_COMPRESSION}
+     * @param executor the executor shared by all streams, on which blocks are compressed
+     * @throws IOException if the gzip header cannot be written
+     */
+    public ParallelGzipOutputStream(OutputStream out, int level, Executor executor)
+            throws IOException {
+        this(out, level, DEFAULT_BLOCK_SIZE, executor, DEFAULT_MAX_BLOCKS_IN_FLIGHT);
+    }
+
+    ParallelGzipOutputStream(
+            OutputStream out, int level, int blockSize, Executor executor, int maxBlocksInFlight)
+            throws IOException {
+        super(out);
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid gzip compression level: " + level);
+        }
+        this.level = level;
+        this.blockSize = blockSize;
+        this.executor = executor;
+        this.maxBlocksInFlight = maxBlocksInFlight;
+        this.block = new byte[blockSize];
+        writeHeader();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        if (blockLength == blockSize) {
+            submitBlock(false);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int length = Math.min(len, blockSize - blockLength);
+            System.arraycopy(b, off, block, blockLength, length);
+            blockLength += length;
+            off += length;
+            len -= length;
+            if (blockLength == blockSize) {
+                submitBlock(false);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (closed) {
+            return;
+        }
+        while (!blocksInFlight.isEmpty() && blocksInFlight.peek().isDone()) {
+            writeBlock(blocksInFlight.remove());
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            submitBlock(true);
+            while (!blocksInFlight.isEmpty()) {
+                writeBlock(blocksInFlight.remove());
+            }
+            writeTrailer();
+        } finally {
+            blocksInFlight.forEach(compressedBlock -> compressedBlock.cancel(true));
+            blocksInFlight.clear();
+            out.close();
+        }
+    }
+
+    private void submitBlock(boolean last) throws IOException {
+        crc.update(block, 0, blockLength);
+        inputSize += blockLength;
+
+        byte[] input = block;
+        int inputLength = blockLength;
+        byte[] dictionary = previousBlock;
+        int dictionaryLength = Math.min(previousBlockLength, DICTIONARY_SIZE);
+        int dictionaryOffset = previousBlockLength - dictionaryLength;
+        FutureTask<byte[]> compressedBlock =
+                new FutureTask<>(
+                        () ->
+                                compress(
+                                        input,
+                                        inputLength,
+                                        dictionary,
+                                        dictionaryOffset,
+                                        dictionaryLength,
+                                        level,
+                                        last));
+        executor.execute(compressedBlock);
+        blocksInFlight.add(compressedBlock);
+
+        previousBlock = input;
+        previousBlockLength = inputLength;
+        if (!last) {
+            block = new byte[blockSize];
+            blockLength = 0;
+        }
+        while (blocksInFlight.size() > maxBlocksInFlight) {
+            writeBlock(blocksInFlight.remove());
+        }
+    }
+
+    private void writeBlock(Future<byte[]> compressedBlock) throws IOException {
+        try {
+            out.write(compressedBlock.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted whilst compressing gzip block");
+        } catch (ExecutionException e) {
+            throw new IOException("Could not compress gzip block", e.getCause());
+        }
+    }
+
+    private static byte[] compress(
+            byte[] input,
+            int inputLength,
+            byte[] dictionary,
+            int dictionaryOffset,
+            int dictionaryLength,
+            int level,
+            boolean last) {
+        Deflater deflater = getDeflater(level);
+        deflater.reset();
+        if (dictionaryLength > 0) {
+            deflater.setDictionary(dictionary, dictionaryOffset, dictionaryLength);
+        }
+        deflater.setInput(input, 0, inputLength);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(inputLength / 2 + 64);
+        byte[] buffer = new byte[DICTIONARY_SIZE];
+        if (last) {
+            deflater.finish();
+            while (!deflater.finished()) {
+                compressed.write(buffer, 0, deflater.deflate(buffer));
+            }
+        } else {
+            // a full output buffer means there may be more to flush
+            int length;
+            do {
+                length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                compressed.write(buffer, 0, length);
+            } while (length == buffer.length);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static Deflater getDeflater(int level) {
+        Deflater[] deflaters = DEFLATERS.get();
+        int index = level - Deflater.DEFAULT_COMPRESSION;
+        if (deflaters[index] == null) {
+            deflaters[index] = new Deflater(level, true);
+        }
+        return deflaters[index];
+    }
+
+    private void writeHeader() throws IOException {
+        // no flags, modification time or extra flags, and an unknown operating system
+        out.write(
+                new byte[] {
+                    (byte) GZIP_MAGIC,
+                    (byte) (GZIP_MAGIC >> 8),
+                    Deflater.DEFLATED,
+                    0,
+                    0,
+                    0,
+                    0,
+                    0,
+                    0,
+                    (byte) UNKNOWN_OS
+                });
+    }
+
+    private void writeTrailer() throws IOException {
+        byte[] trailer = new byte[TRAILER_SIZE];
+        writeInt((int) crc.getValue(), trailer, 0);
+        writeInt((int) inputSize, trailer, 4);
+        out.write(trailer);
+    }
+
+    private static void writeInt(int value, byte[] buffer, int offset) {
+        for (int i = 0; i < 4; i++) {
+            buffer[offset + i] = (byte) (value >> (8 * i));
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
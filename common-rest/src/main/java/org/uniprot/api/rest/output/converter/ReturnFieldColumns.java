@@ -0,0 +1,53 @@
+package org.uniprot.api.rest.output.converter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.uniprot.core.parser.tsv.EntityValueMapper;
+import org.uniprot.store.config.returnfield.model.ReturnField;
+
+/**
+ * The columns of a tabular download, resolved once per response from the requested {@link
+ * ReturnField}s, so that writing a row only maps the entity and visits its values in column
+ * order.
+ *
+ * @param <T> the type of entity written in each row
+ */
+class ReturnFieldColumns<T> {
+    private final EntityValueMapper<T> entityMapper;
+    private final List<String> fieldNames;
+    private final String[] columnFieldNames;
+    private final List<String> labels;
+
+    ReturnFieldColumns(List<ReturnField> fields, EntityValueMapper<T> entityMapper) {
+        this.entityMapper = entityMapper;
+        List<String> names = new ArrayList<>(fields.size());
+        List<String> columnLabels = new ArrayList<>(fields.size());
+        for (ReturnField field : fields) {
+            names.add(field.getName());
+            columnLabels.add(field.getLabel());
+        }
+        this.fieldNames = Collections.unmodifiableList(names);
+        this.columnFieldNames = names.toArray(new String[0]);
+        this.labels = Collections.unmodifiableList(columnLabels);
+    }
+
+    List<String> getLabels() {
+        return labels;
+    }
+
+    void writeRow(T entity, ColumnWriter columnWriter) throws IOException {
+        Map<String, String> values = entityMapper.mapEntity(entity, fieldNames);
+        for (int column = 0; column < columnFieldNames.length; column++) {
+            columnWriter.write(column, values.getOrDefault(columnFieldNames[column], ""));
+        }
+    }
+
+    @FunctionalInterface
+    interface ColumnWriter {
+        void write(int column, String value) throws IOException;
+    }
+}
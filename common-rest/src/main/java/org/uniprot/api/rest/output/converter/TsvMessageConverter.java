@@ -2,23 +2,25 @@ package org.uniprot.api.rest.output.converter;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.uniprot.api.rest.output.UniProtMediaType;
 import org.uniprot.api.rest.output.context.MessageConverterContext;
 import org.uniprot.core.parser.tsv.EntityValueMapper;
 import org.uniprot.store.config.returnfield.config.ReturnFieldConfig;
-import org.uniprot.store.config.returnfield.model.ReturnField;
 
 /**
+ * Writes entities as tab separated values, encoded in UTF-8. The requested columns are resolved
+ * once per response, and each row is encoded into a buffer that is reused for every row.
+ *
  * @author jluo
  * @date: 1 May 2019
  */
 public class TsvMessageConverter<T> extends AbstractEntityHttpMessageConverter<T> {
 
     private final ReturnFieldConfig fieldConfig;
-    private static final ThreadLocal<List<ReturnField>> TL_FIELDS = new ThreadLocal<>();
+    private static final ThreadLocal<TsvRowWriter<?>> TL_ROW_WRITER = new ThreadLocal<>();
     private final EntityValueMapper<T> entityMapper;
 
     public TsvMessageConverter(
@@ -33,29 +35,76 @@ public class TsvMessageConverter<T> extends AbstractEntityHttpMessageConverter<T
     @Override
     protected void before(MessageConverterContext<T> context, OutputStream outputStream)
             throws IOException {
-        TL_FIELDS.set(OutputFieldsParser.parse(context.getFields(), fieldConfig));
-        outputStream.write(getHeader().getBytes());
+        ReturnFieldColumns<T> columns =
+                new ReturnFieldColumns<>(
+                        OutputFieldsParser.parse(context.getFields(), fieldConfig), entityMapper);
+        TsvRowWriter<T> rowWriter = new TsvRowWriter<>(columns);
+        TL_ROW_WRITER.set(rowWriter);
+        rowWriter.writeHeader(outputStream);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected void writeEntity(T entity, OutputStream outputStream) throws IOException {
-        List<String> fieldNames =
-                TL_FIELDS.get().stream().map(ReturnField::getName).collect(Collectors.toList());
-        Map<String, String> resultMap = entityMapper.mapEntity(entity, fieldNames);
-        List<String> result = OutputFieldsParser.getData(resultMap, TL_FIELDS.get());
-        outputStream.write(result.stream().collect(Collectors.joining("\t", "", "\n")).getBytes());
+        ((TsvRowWriter<T>) TL_ROW_WRITER.get()).writeRow(entity, outputStream);
     }
 
     @Override
     protected void cleanUp() {
         super.cleanUp();
-        TL_FIELDS.remove();
+        TL_ROW_WRITER.remove();
     }
 
-    private String getHeader() {
-        List<ReturnField> fields = TL_FIELDS.get();
-        return fields.stream()
-                .map(ReturnField::getLabel)
-                .collect(Collectors.joining("\t", "", "\n"));
+    private static class TsvRowWriter<T> {
+        private static final int INITIAL_CAPACITY = 8192;
+        private final ReturnFieldColumns<T> columns;
+        private byte[] buffer = new byte[INITIAL_CAPACITY];
+        private int length;
+
+        TsvRowWriter(ReturnFieldColumns<T> columns) {
+            this.columns = columns;
+        }
+
+        void writeHeader(OutputStream outputStream) throws IOException {
+            int column = 0;
+            for (String label : columns.getLabels()) {
+                appendColumn(column++, label);
+            }
+            endRow(outputStream);
+        }
+
+        void writeRow(T entity, OutputStream outputStream) throws IOException {
+            columns.writeRow(entity, this::appendColumn);
+            endRow(outputStream);
+        }
+
+        private void appendColumn(int column, String value) {
+            if (column > 0) {
+                append((byte) '\t');
+            }
+            appendUtf8(value);
+        }
+
+        private void endRow(OutputStream outputStream) throws IOException {
+            append((byte) '\n');
+            outputStream.write(buffer, 0, length);
+            length = 0;
+        }
+
+        private void appendUtf8(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (length + bytes.length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + bytes.length));
+            }
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        private void append(byte b) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[length++] = b;
+        }
     }
 }
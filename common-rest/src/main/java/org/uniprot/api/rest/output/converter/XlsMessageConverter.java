@@ -5,9 +5,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
@@ -18,7 +16,6 @@ import org.uniprot.api.rest.output.UniProtMediaType;
 import org.uniprot.api.rest.output.context.MessageConverterContext;
 import org.uniprot.core.parser.tsv.EntityValueMapper;
 import org.uniprot.store.config.returnfield.config.ReturnFieldConfig;
-import org.uniprot.store.config.returnfield.model.ReturnField;
 
 /**
  * @author jluo
@@ -31,7 +28,7 @@ public class XlsMessageConverter<T> extends AbstractEntityHttpMessageConverter<T
     private static final ThreadLocal<AtomicInteger> TL_COUNTER = new ThreadLocal<>();
     private final ReturnFieldConfig fieldConfig;
     private final EntityValueMapper<T> entityMapper;
-    private static final ThreadLocal<List<ReturnField>> TL_FIELDS = new ThreadLocal<>();
+    private static final ThreadLocal<ReturnFieldColumns<?>> TL_COLUMNS = new ThreadLocal<>();
 
     public XlsMessageConverter(
             Class<T> messageConverterEntryClass,
@@ -44,7 +41,9 @@ public class XlsMessageConverter<T> extends AbstractEntityHttpMessageConverter<T
 
     @Override
     protected void before(MessageConverterContext<T> context, OutputStream outputStream) {
-        TL_FIELDS.set(OutputFieldsParser.parse(context.getFields(), fieldConfig));
+        TL_COLUMNS.set(
+                new ReturnFieldColumns<>(
+                        OutputFieldsParser.parse(context.getFields(), fieldConfig), entityMapper));
         SXSSFWorkbook workbook = new SXSSFWorkbook(500);
         TL_WORK_BOOK.set(workbook);
         TL_SHEET.set(workbook.createSheet());
@@ -70,29 +69,21 @@ public class XlsMessageConverter<T> extends AbstractEntityHttpMessageConverter<T
             LOGGER.error("Problem closing workbook", e);
         }
         TL_COUNTER.remove();
-        TL_FIELDS.remove();
+        TL_COLUMNS.remove();
         TL_SHEET.remove();
         TL_WORK_BOOK.remove();
     }
 
     @Override
-    protected void writeEntity(T entity, OutputStream outputStream) {
-        Map<String, String> resultMap = getMappedEntity(entity);
-        List<String> result = OutputFieldsParser.getData(resultMap, TL_FIELDS.get());
-
+    @SuppressWarnings("unchecked")
+    protected void writeEntity(T entity, OutputStream outputStream) throws IOException {
         Row row = TL_SHEET.get().createRow(TL_COUNTER.get().incrementAndGet());
-        updateRow(row, result);
-    }
-
-    private Map<String, String> getMappedEntity(T entity) {
-        List<String> fieldNames =
-                TL_FIELDS.get().stream().map(ReturnField::getName).collect(Collectors.toList());
-        return entityMapper.mapEntity(entity, fieldNames);
+        ((ReturnFieldColumns<T>) TL_COLUMNS.get())
+                .writeRow(entity, (column, value) -> row.createCell(column).setCellValue(value));
     }
 
     protected List<String> getHeader() {
-        List<ReturnField> fields = TL_FIELDS.get();
-        return fields.stream().map(ReturnField::getLabel).collect(Collectors.toList());
+        return TL_COLUMNS.get().getLabels();
     }
 
     private void updateRow(Row row, List<String> result) {
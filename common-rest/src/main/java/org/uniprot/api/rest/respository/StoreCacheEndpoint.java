@@ -0,0 +1,39 @@
+package org.uniprot.api.rest.respository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import org.uniprot.api.common.repository.stream.store.CachingUniProtStoreClient;
+import org.uniprot.store.datastore.UniProtStoreClient;
+
+/**
+ * Actuator endpoint through which the entry caches of the store clients are dropped, once the
+ * store has been loaded with a new release, e.g., by a {@code POST} to {@code
+ * <management base path>/storecache} as part of the release.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "storecache")
+public class StoreCacheEndpoint {
+    private final List<CachingUniProtStoreClient<?>> cachingStoreClients;
+
+    public StoreCacheEndpoint(ObjectProvider<UniProtStoreClient<?>> storeClients) {
+        this.cachingStoreClients =
+                storeClients.stream()
+                        .filter(CachingUniProtStoreClient.class::isInstance)
+                        .map(storeClient -> (CachingUniProtStoreClient<?>) storeClient)
+                        .collect(Collectors.toList());
+    }
+
+    @WriteOperation
+    public void invalidateAll() {
+        log.info("Invalidating the entry caches of {} store clients", cachingStoreClients.size());
+        cachingStoreClients.forEach(CachingUniProtStoreClient::invalidateAll);
+    }
+}
@@ -97,10 +97,39 @@ public abstract class BasicSearchService<D extends Document, R> {
         SolrRequest solrRequest = createSearchSolrRequest(request);
 
         QueryResult<D> results = repository.searchPage(solrRequest, request.getCursor());
-        Stream<R> converted = results.getContent().map(entryConverter).filter(Objects::nonNull);
+        Stream<R> converted = convertPage(results.getContent());
         return QueryResult.of(converted, results.getPage(), results.getFacets());
     }
 
+    /**
+     * Searches as {@link #search(SearchRequest)} does, but returns only the id of each document of
+     * the page, so that entries need not be converted or fetched from a store when only their ids
+     * are written, e.g., for list responses.
+     *
+     * @param request the search request
+     * @return the ids of the page of search results, with its facets and matched fields
+     */
+    public QueryResult<String> searchIds(SearchRequest request) {
+        SolrRequest solrRequest = createSearchSolrRequest(request);
+
+        QueryResult<D> results = repository.searchPage(solrRequest, request.getCursor());
+        Stream<String> ids = results.getContent().map(Document::getDocumentId);
+        return QueryResult.of(
+                ids, results.getPage(), results.getFacets(), results.getMatchedFields());
+    }
+
+    /**
+     * Converts the documents of a page of search results, dropping those that cannot be
+     * converted. Override this to convert a page as a whole, e.g., to fetch all of its entries
+     * from a store in one request.
+     *
+     * @param documents the documents of the page, in rank order
+     * @return the converted entries, in rank order
+     */
+    protected Stream<R> convertPage(Stream<D> documents) {
+        return documents.map(entryConverter).filter(Objects::nonNull);
+    }
+
     public Stream<R> stream(StreamRequest request) {
         SolrRequest solrRequest =
                 createSolrRequestBuilder(request, this.solrSortClause, this.queryBoosts)
@@ -1,6 +1,11 @@
 package org.uniprot.api.rest.service;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -10,6 +15,9 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.springframework.web.util.UriBuilder;
@@ -24,6 +32,7 @@ public class RDFService<T> implements StoreService<T> {
     private static final String OR_DELIMITER_STR = " or ";
     public static final String RDF_CLOSE_TAG = "</rdf:RDF>";
     private static final String OWL_CLOSE_TAG = "</owl:Ontology>";
+    private static final int READ_BUFFER_SIZE = 8192;
     private Class<T> clazz;
     private RestTemplate restTemplate;
 
@@ -37,9 +46,18 @@ public class RDFService<T> implements StoreService<T> {
         List<String> allAccessions = new ArrayList<>();
         accessions.forEach(acc -> allAccessions.add(acc));
         LOGGER.debug("RDF call for accessions : {}", allAccessions);
-        T rdfXML = getEntriesByAccessions(allAccessions);
-        if (Objects.nonNull(rdfXML)) {
-            T rdfResponse = convertRDFForStreaming(rdfXML);
+        T rdfResponse;
+        if (this.clazz == String.class) {
+            rdfResponse =
+                    restTemplate.execute(
+                            getRequestUri(allAccessions),
+                            HttpMethod.GET,
+                            null,
+                            response -> (T) convertRDFForStreaming(response));
+        } else {
+            rdfResponse = getEntriesByAccessions(allAccessions);
+        }
+        if (Objects.nonNull(rdfResponse)) {
             return Arrays.asList(rdfResponse);
         } else {
             return new ArrayList<>();
@@ -57,6 +75,10 @@ public class RDFService<T> implements StoreService<T> {
     }
 
     private T getEntriesByAccessions(List<String> accessions) {
+        return restTemplate.getForObject(getRequestUri(accessions), this.clazz);
+    }
+
+    private URI getRequestUri(List<String> accessions) {
         // create query like id:P12345 or id:P54321 or ....
         String idQuery =
                 accessions.stream()
@@ -68,11 +90,7 @@ public class RDFService<T> implements StoreService<T> {
 
         UriBuilder uriBuilder =
                 handler.builder().queryParam(QUERY_STR, idQuery).queryParam(FORMAT_STR, RDF_STR);
-        URI requestUri = uriBuilder.build();
-
-        T rdfXML = restTemplate.getForObject(requestUri, this.clazz);
-
-        return rdfXML;
+        return uriBuilder.build();
     }
 
     /**
@@ -94,18 +112,54 @@ public class RDFService<T> implements StoreService<T> {
      * beginning of stream and RDF_CLOSE_TAG will be added in the end of the stream. see
      * Stream.concat in StoreStreamer
      *
-     * @param rdfXML
-     * @return
+     * <p>The response is read as a stream: the prolog is skipped without being kept, and only the
+     * entries are copied into the result, so that the XML of a batch is not held in memory more
+     * than once.
+     *
+     * @param response the RDF/XML response of the RDF server
+     * @return the entries of the response
+     * @throws IOException if the response cannot be read
      */
-    private T convertRDFForStreaming(T rdfXML) {
-        T rdfResponse = rdfXML;
-        if (this.clazz == String.class) {
-            int indexOfCloseTag = ((String) rdfXML).indexOf(RDF_CLOSE_TAG);
-            int endIndexOfOwlOntology =
-                    ((String) rdfXML).indexOf(OWL_CLOSE_TAG) + OWL_CLOSE_TAG.length();
-            // get everything between "</owl:Ontology>" and "</rdf:RDF>"
-            rdfResponse = (T) ((String) rdfXML).substring(endIndexOfOwlOntology, indexOfCloseTag);
+    static String convertRDFForStreaming(ClientHttpResponse response) throws IOException {
+        MediaType contentType = response.getHeaders().getContentType();
+        Charset charset =
+                contentType != null && contentType.getCharset() != null
+                        ? contentType.getCharset()
+                        : StandardCharsets.UTF_8;
+        try (Reader reader = new InputStreamReader(response.getBody(), charset)) {
+            return convertRDFForStreaming(reader);
+        }
+    }
+
+    static String convertRDFForStreaming(Reader reader) throws IOException {
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        StringBuilder entries = new StringBuilder();
+        int matchedOwlCloseTag = 0;
+        int length;
+        while ((length = reader.read(buffer)) != -1) {
+            // skip everything up to and including "</owl:Ontology>"
+            int entriesStart = 0;
+            while (entriesStart < length && matchedOwlCloseTag < OWL_CLOSE_TAG.length()) {
+                char c = buffer[entriesStart++];
+                if (c == OWL_CLOSE_TAG.charAt(matchedOwlCloseTag)) {
+                    matchedOwlCloseTag++;
+                } else {
+                    matchedOwlCloseTag = c == OWL_CLOSE_TAG.charAt(0) ? 1 : 0;
+                }
+            }
+            if (matchedOwlCloseTag == OWL_CLOSE_TAG.length()) {
+                entries.append(buffer, entriesStart, length - entriesStart);
+            }
+        }
+        if (matchedOwlCloseTag < OWL_CLOSE_TAG.length()) {
+            LOGGER.warn("RDF response has no {}, no entries returned", OWL_CLOSE_TAG);
+        }
+
+        // drop "</rdf:RDF>" and whatever follows it
+        int indexOfCloseTag = entries.lastIndexOf(RDF_CLOSE_TAG);
+        if (indexOfCloseTag >= 0) {
+            entries.setLength(indexOfCloseTag);
         }
-        return rdfResponse;
+        return entries.toString();
     }
 }
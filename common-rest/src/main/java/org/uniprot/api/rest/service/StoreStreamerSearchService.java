@@ -1,8 +1,12 @@
 package org.uniprot.api.rest.service;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.solr.client.solrj.io.stream.TupleStream;
@@ -82,7 +86,7 @@ public abstract class StoreStreamerSearchService<D extends Document, R>
     public QueryResult<R> getByIds(IdsSearchRequest idsRequest) {
         SolrStreamFacetResponse solrStreamResponse =
                 solrStreamNeeded(idsRequest)
-                        ? searchBySolrStream(idsRequest)
+                        ? searchBySolrStream(idsRequest, false)
                         : new SolrStreamFacetResponse();
 
         // use the ids returned by solr stream if facetFilter is passed
@@ -91,6 +95,52 @@ public abstract class StoreStreamerSearchService<D extends Document, R>
                 Utils.notNullNotEmpty(idsRequest.getFacetFilter())
                         ? solrStreamResponse.getIds()
                         : idsRequest.getIdList();
+        QueryResult<String> idsPage = getIdsPage(idsRequest, solrStreamResponse, ids);
+
+        // get n entries from store
+        Stream<R> entries =
+                this.storeStreamer.streamEntries(
+                        idsPage.getContent().collect(Collectors.toList()));
+
+        return QueryResult.of(entries, idsPage.getPage(), idsPage.getFacets(), null);
+    }
+
+    /**
+     * Gets a page of the ids of the entries that {@link #getByIds(IdsSearchRequest)} would return,
+     * for responses that only list ids, without fetching the entries from the store. The passed
+     * ids are checked against Solr in one id only search, so that only existing ids are listed.
+     *
+     * @param idsRequest the ids request
+     * @return the page of ids, in the order they were passed unless filtered by facetFilter
+     */
+    public QueryResult<String> getIdsByIds(IdsSearchRequest idsRequest) {
+        SolrStreamFacetResponse solrStreamResponse = searchBySolrStream(idsRequest, true);
+
+        List<String> ids;
+        if (Utils.notNullNotEmpty(idsRequest.getFacetFilter())) {
+            ids = solrStreamResponse.getIds();
+        } else {
+            Set<String> existingIds = new HashSet<>(solrStreamResponse.getIds());
+            ids =
+                    idsRequest.getIdList().stream()
+                            .filter(existingIds::contains)
+                            .collect(Collectors.toList());
+        }
+        return getIdsPage(idsRequest, solrStreamResponse, ids);
+    }
+
+    protected SolrRequest createDownloadSolrRequest(StreamRequest request) {
+        return createSolrRequestBuilder(request, solrSortClause, queryBoosts).build();
+    }
+
+    protected abstract UniProtDataType getUniProtDataType();
+
+    protected abstract String getSolrIdField();
+
+    private QueryResult<String> getIdsPage(
+            IdsSearchRequest idsRequest,
+            SolrStreamFacetResponse solrStreamResponse,
+            List<String> ids) {
         // default page size to number of ids passed
         int pageSize = Objects.isNull(idsRequest.getSize()) ? ids.size() : idsRequest.getSize();
 
@@ -101,33 +151,24 @@ public abstract class StoreStreamerSearchService<D extends Document, R>
                 ids.subList(
                         cursorPage.getOffset().intValue(), CursorPage.getNextOffset(cursorPage));
 
-        // get n entries from store
-        Stream<R> entries = this.storeStreamer.streamEntries(idsInPage);
-
         // facets may be set when facetList is passed but that should not be returned with cursor
         List<Facet> facets = solrStreamResponse.getFacets();
         if (Objects.nonNull(idsRequest.getCursor())) {
             facets = null; // do not return facet in case of next page and facetFilter
         }
 
-        return QueryResult.of(entries, cursorPage, facets, null);
-    }
-
-    protected SolrRequest createDownloadSolrRequest(StreamRequest request) {
-        return createSolrRequestBuilder(request, solrSortClause, queryBoosts).build();
+        return QueryResult.of(idsInPage.stream(), cursorPage, facets);
     }
 
-    protected abstract UniProtDataType getUniProtDataType();
-
-    protected abstract String getSolrIdField();
-
-    private SolrStreamFacetResponse searchBySolrStream(IdsSearchRequest idsRequest) {
-        SolrStreamFacetRequest solrStreamRequest = createSolrStreamRequest(idsRequest);
+    private SolrStreamFacetResponse searchBySolrStream(
+            IdsSearchRequest idsRequest, boolean searchIds) {
+        SolrStreamFacetRequest solrStreamRequest = createSolrStreamRequest(idsRequest, searchIds);
         TupleStream tupleStream = this.tupleStreamTemplate.create(solrStreamRequest, facetConfig);
         return this.tupleStreamConverter.convert(tupleStream);
     }
 
-    private SolrStreamFacetRequest createSolrStreamRequest(IdsSearchRequest idsRequest) {
+    private SolrStreamFacetRequest createSolrStreamRequest(
+            IdsSearchRequest idsRequest, boolean searchIds) {
         SolrStreamFacetRequest.SolrStreamFacetRequestBuilder solrRequestBuilder =
                 SolrStreamFacetRequest.builder();
 
@@ -150,9 +191,18 @@ public abstract class StoreStreamerSearchService<D extends Document, R>
             solrRequestBuilder.searchFieldList(getSolrIdField());
         } else {
             solrRequestBuilder.query(termQuery);
+            if (searchIds) {
+                solrRequestBuilder.searchAccession(Boolean.TRUE);
+                solrRequestBuilder.searchSort(getSolrIdField() + " asc");
+                solrRequestBuilder.searchFieldList(getSolrIdField());
+            }
         }
 
-        List<String> facets = idsRequest.getFacetList();
+        // facets are only computed for the first page of a request, when asked for
+        List<String> facets =
+                solrStreamNeeded(idsRequest) && Utils.notNullNotEmpty(idsRequest.getFacetList())
+                        ? idsRequest.getFacetList()
+                        : Collections.emptyList();
 
         return solrRequestBuilder.queryConfig(this.solrQueryConfig).facets(facets).build();
     }
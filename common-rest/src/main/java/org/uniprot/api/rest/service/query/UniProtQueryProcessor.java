@@ -1,5 +1,7 @@
 package org.uniprot.api.rest.service.query;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 
@@ -8,9 +10,13 @@ import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
 import org.apache.lucene.queryparser.flexible.core.parser.EscapeQuerySyntax;
 import org.apache.lucene.queryparser.flexible.standard.parser.EscapeQuerySyntaxImpl;
 import org.apache.lucene.queryparser.flexible.standard.parser.StandardSyntaxParser;
+import org.uniprot.api.rest.metrics.RequestMetrics;
 import org.uniprot.api.rest.service.query.processor.UniProtQueryNodeProcessorPipeline;
 import org.uniprot.api.rest.service.query.processor.UniProtQueryProcessorConfig;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 /**
  * This class does the following:
  *
@@ -23,6 +29,11 @@ import org.uniprot.api.rest.service.query.processor.UniProtQueryProcessorConfig;
  *       tree to give a {@link String} version of the processed client query.
  * </ul>
  *
+ * <p>Processed queries are kept in a bounded LRU cache of query text to processed query, so that
+ * queries repeated by clients (e.g., on clicking facets) are not parsed and processed again. The
+ * cache is bounded by the estimated heap bytes of its entries, from the length of their text, which
+ * is set with {@link #setCacheMaximumBytes(long)}.
+ *
  * <p>Created 24/08/2020
  *
  * @author Edd
@@ -31,8 +42,18 @@ import org.uniprot.api.rest.service.query.processor.UniProtQueryProcessorConfig;
 @Builder
 public class UniProtQueryProcessor implements QueryProcessor {
     public static final String IMPOSSIBLE_FIELD = "NOT_REAL_FIELD";
+    static final long DEFAULT_CACHE_MAXIMUM_BYTES = 16L * 1024 * 1024;
     private static final EscapeQuerySyntaxImpl ESCAPER = new EscapeQuerySyntaxImpl();
+    // rough heap estimate of a cached query and its processed form
+    private static final int ENTRY_BYTES = 128;
+    private static final int BYTES_PER_CHAR = 2;
     private final UniProtQueryNodeProcessorPipeline queryProcessorPipeline;
+    private final Cache<String, String> processedQueries =
+            Caffeine.newBuilder()
+                    .maximumWeight(DEFAULT_CACHE_MAXIMUM_BYTES)
+                    .<String, String>weigher(UniProtQueryProcessor::estimatedBytes)
+                    .recordStats()
+                    .build();
 
     public static UniProtQueryProcessor newInstance(UniProtQueryProcessorConfig config) {
         return new UniProtQueryProcessor(new UniProtQueryNodeProcessorPipeline(config));
@@ -44,6 +65,39 @@ public class UniProtQueryProcessor implements QueryProcessor {
 
     @Override
     public String processQuery(String query) {
+        return RequestMetrics.timer(
+                        RequestMetrics.QUERY_PROCESSING, RequestMetrics.currentRequestTags())
+                .record(() -> processedQueries.get(query, this::parseAndProcessQuery));
+    }
+
+    /**
+     * Sets the maximum heap, in bytes, taken by the cached processed queries. As the size of each
+     * query is estimated from its text, the bound is approximate.
+     *
+     * @param maximumBytes the maximum bytes of the cached queries
+     */
+    public void setCacheMaximumBytes(long maximumBytes) {
+        processedQueries
+                .policy()
+                .eviction()
+                .ifPresent(eviction -> eviction.setMaximum(maximumBytes));
+    }
+
+    /**
+     * Publishes the hit and miss counts of the processed query cache through Micrometer.
+     *
+     * @param registry the registry to publish to
+     * @param processorName the name identifying this processor, e.g., its bean name
+     */
+    public void bindCacheMetrics(MeterRegistry registry, String processorName) {
+        CaffeineCacheMetrics.monitor(registry, processedQueries, processorName);
+    }
+
+    static int estimatedBytes(String query, String processedQuery) {
+        return ENTRY_BYTES + BYTES_PER_CHAR * (query.length() + processedQuery.length());
+    }
+
+    private String parseAndProcessQuery(String query) {
         try {
             StandardSyntaxParser syntaxParser = new StandardSyntaxParser();
 
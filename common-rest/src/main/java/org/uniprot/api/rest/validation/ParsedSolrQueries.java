@@ -0,0 +1,86 @@
+package org.uniprot.api.rest.validation;
+
+import java.util.Optional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.Query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Parses the solr queries checked by the query validators, keeping a bounded LRU cache of query
+ * text to parsed query. The syntax and field validators of a request then share one parse of its
+ * query, and queries repeated by clients (e.g., on clicking facets) are not parsed again. Queries
+ * with invalid syntax are cached too, as an empty result.
+ *
+ * <p>The cache is bounded by the estimated heap bytes of its entries, which grow with the length of
+ * their query text, so that a few very long queries cannot take more heap than many short ones.
+ * The bound is set with {@link #setMaximumBytes(long)}.
+ */
+public class ParsedSolrQueries {
+    public static final String DEFAULT_FIELD_NAME = "default_field";
+    static final long DEFAULT_MAXIMUM_BYTES = 64L * 1024 * 1024;
+    private static final String CACHE_NAME = "parsedSolrQueries";
+    // rough heap estimate: a parsed query holds a few objects for each term of its text
+    private static final int ENTRY_BYTES = 256;
+    private static final int BYTES_PER_CHAR = 16;
+    private static final Cache<String, Optional<Query>> PARSED_QUERIES =
+            Caffeine.newBuilder()
+                    .maximumWeight(DEFAULT_MAXIMUM_BYTES)
+                    .<String, Optional<Query>>weigher(
+                            (queryString, query) -> estimatedBytes(queryString))
+                    .recordStats()
+                    .build();
+
+    private ParsedSolrQueries() {}
+
+    /**
+     * Parses a query, with leading wildcards allowed and terms without a field in {@link
+     * #DEFAULT_FIELD_NAME}.
+     *
+     * @param queryString the query to parse
+     * @return the parsed query, or empty if its syntax is invalid
+     */
+    public static Optional<Query> parse(String queryString) {
+        return PARSED_QUERIES.get(queryString, ParsedSolrQueries::parseQuery);
+    }
+
+    /**
+     * Sets the maximum heap, in bytes, taken by the cached queries. As the size of each query is
+     * estimated from its text, the bound is approximate.
+     *
+     * @param maximumBytes the maximum bytes of the cached queries
+     */
+    public static void setMaximumBytes(long maximumBytes) {
+        PARSED_QUERIES.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumBytes));
+    }
+
+    /**
+     * Publishes the hit and miss counts of the parsed query cache through Micrometer.
+     *
+     * @param registry the registry to publish to
+     */
+    public static void bindCacheMetrics(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, PARSED_QUERIES, CACHE_NAME);
+    }
+
+    static int estimatedBytes(String queryString) {
+        return ENTRY_BYTES + BYTES_PER_CHAR * queryString.length();
+    }
+
+    private static Optional<Query> parseQuery(String queryString) {
+        try {
+            QueryParser qp = new QueryParser(DEFAULT_FIELD_NAME, new WhitespaceAnalyzer());
+            qp.setAllowLeadingWildcard(true);
+            return Optional.of(qp.parse(queryString));
+        } catch (ParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -14,9 +14,7 @@ import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.Payload;
 
-import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.index.Term;
-import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.*;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.slf4j.Logger;
@@ -56,7 +54,7 @@ public @interface ValidSolrQueryFields {
     class QueryFieldValidator implements ConstraintValidator<ValidSolrQueryFields, String> {
 
         private static final Logger LOGGER = getLogger(QueryFieldValidator.class);
-        private static final String DEFAULT_FIELD_NAME = "default_field";
+        private static final String DEFAULT_FIELD_NAME = ParsedSolrQueries.DEFAULT_FIELD_NAME;
         private String messagePrefix;
         private SearchFieldConfig searchFieldConfig;
 
@@ -94,11 +92,9 @@ public @interface ValidSolrQueryFields {
             boolean isValid = true;
             if (Utils.notNullNotEmpty(queryString)) {
                 try {
-                    QueryParser qp = new QueryParser(DEFAULT_FIELD_NAME, new WhitespaceAnalyzer());
-                    qp.setAllowLeadingWildcard(true);
-                    Query query = qp.parse(queryString);
-                    if (!(query instanceof MatchAllDocsQuery)) {
-                        isValid = hasValidQueryField(query, context);
+                    Optional<Query> query = ParsedSolrQueries.parse(queryString);
+                    if (query.isPresent() && !(query.get() instanceof MatchAllDocsQuery)) {
+                        isValid = hasValidQueryField(query.get(), context);
                     }
                     if (!isValid) {
                         context.disableDefaultConstraintViolation();
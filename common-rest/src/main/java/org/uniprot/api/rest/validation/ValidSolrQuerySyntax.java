@@ -10,9 +10,6 @@ import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.Payload;
 
-import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
-import org.apache.lucene.queryparser.classic.ParseException;
-import org.apache.lucene.queryparser.classic.QueryParser;
 import org.uniprot.core.util.Utils;
 
 /**
@@ -40,13 +37,7 @@ public @interface ValidSolrQuerySyntax {
         public boolean isValid(String queryString, ConstraintValidatorContext context) {
             boolean isValid = true;
             if (Utils.notNullNotEmpty(queryString)) {
-                try {
-                    QueryParser qp = new QueryParser("", new WhitespaceAnalyzer());
-                    qp.setAllowLeadingWildcard(true);
-                    qp.parse(queryString);
-                } catch (ParseException e) {
-                    isValid = false;
-                }
+                isValid = ParsedSolrQueries.parse(queryString).isPresent();
             }
             return isValid;
         }
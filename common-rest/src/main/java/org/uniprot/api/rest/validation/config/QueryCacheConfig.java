@@ -0,0 +1,70 @@
+package org.uniprot.api.rest.validation.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.uniprot.api.rest.service.query.QueryProcessor;
+import org.uniprot.api.rest.service.query.UniProtQueryProcessor;
+import org.uniprot.api.rest.validation.ParsedSolrQueries;
+
+/**
+ * Configures the query caches: the parsed queries shared by the query validators, and the processed
+ * queries of each {@link UniProtQueryProcessor} bean. Their maximum heap, in bytes, is set by the
+ * properties {@code query.cache.parsed.maximumBytes} and {@code
+ * query.cache.processed.maximumBytes}, the latter applying to the cache of each processor.
+ *
+ * <p>As a {@link MeterBinder}, it publishes the hit and miss counts of the caches through
+ * Micrometer, naming the cache of each processor after its bean.
+ */
+@Component
+public class QueryCacheConfig implements MeterBinder {
+    private final ApplicationContext applicationContext;
+    private final long parsedQueryCacheBytes;
+    private final long processedQueryCacheBytes;
+
+    public QueryCacheConfig(
+            ApplicationContext applicationContext,
+            @Value("${query.cache.parsed.maximumBytes:67108864}") long parsedQueryCacheBytes,
+            @Value("${query.cache.processed.maximumBytes:16777216}")
+                    long processedQueryCacheBytes) {
+        this.applicationContext = applicationContext;
+        this.parsedQueryCacheBytes = parsedQueryCacheBytes;
+        this.processedQueryCacheBytes = processedQueryCacheBytes;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    void setCacheMaximumBytes() {
+        ParsedSolrQueries.setMaximumBytes(parsedQueryCacheBytes);
+        for (UniProtQueryProcessor processor : getQueryProcessors().values()) {
+            processor.setCacheMaximumBytes(processedQueryCacheBytes);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ParsedSolrQueries.bindCacheMetrics(registry);
+        for (Map.Entry<String, UniProtQueryProcessor> processor : getQueryProcessors().entrySet()) {
+            processor.getValue().bindCacheMetrics(registry, processor.getKey());
+        }
+    }
+
+    private Map<String, UniProtQueryProcessor> getQueryProcessors() {
+        Map<String, UniProtQueryProcessor> queryProcessors = new LinkedHashMap<>();
+        for (Map.Entry<String, QueryProcessor> processor :
+                applicationContext.getBeansOfType(QueryProcessor.class).entrySet()) {
+            if (processor.getValue() instanceof UniProtQueryProcessor) {
+                queryProcessors.put(
+                        processor.getKey(), (UniProtQueryProcessor) processor.getValue());
+            }
+        }
+        return queryProcessors;
+    }
+}
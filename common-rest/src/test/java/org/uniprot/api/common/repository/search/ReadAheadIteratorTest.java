@@ -0,0 +1,160 @@
+package org.uniprot.api.common.repository.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReadAheadIteratorTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void iteratesOverAllElementsInOrder() {
+        CountingSource source = new CountingSource(5);
+        ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(source, 2, executor);
+
+        List<Integer> elements = new ArrayList<>();
+        assertTimeoutPreemptively(TIMEOUT, () -> iterator.forEachRemaining(elements::add));
+
+        assertThat(elements, contains(0, 1, 2, 3, 4));
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void fetchesAheadOfConsumerUpToBound() throws InterruptedException {
+        CountingSource source = new CountingSource(100);
+        ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(source, 2, executor);
+
+        assertThat(source.awaitFetched(2), is(true));
+        // give the fetcher the chance to go beyond its bound
+        Thread.sleep(100);
+
+        // 2 waiting to be consumed, and 1 waiting to be added to them
+        assertThat(source.fetched.get(), is(lessThanOrEqualTo(3)));
+        iterator.close();
+    }
+
+    @Test
+    void closingStopsFetchingAndClosesSource() throws InterruptedException {
+        CountingSource source = new CountingSource(100);
+        ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(source, 1, executor);
+        assertTimeoutPreemptively(TIMEOUT, () -> iterator.next());
+
+        iterator.close();
+
+        assertThat(source.closed.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS), is(true));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    void sourceIsClosedWhenExhausted() throws InterruptedException {
+        CountingSource source = new CountingSource(1);
+        ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(source, 1, executor);
+
+        assertTimeoutPreemptively(TIMEOUT, () -> iterator.forEachRemaining(element -> {}));
+
+        assertThat(source.closed.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS), is(true));
+    }
+
+    @Test
+    void fetchFailureIsThrownToConsumer() {
+        CountingSource source = new CountingSource(3);
+        source.failAt = 2;
+        ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(source, 1, executor);
+
+        assertTimeoutPreemptively(
+                TIMEOUT,
+                () -> {
+                    assertThat(iterator.next(), is(0));
+                    assertThat(iterator.next(), is(1));
+                    assertThrows(QueryRetrievalException.class, iterator::hasNext);
+                });
+    }
+
+    @Test
+    void errorInFetcherIsThrownToConsumer() throws InterruptedException {
+        CountingSource source = new CountingSource(3);
+        source.errorAt = 1;
+        ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(source, 1, executor);
+
+        assertTimeoutPreemptively(
+                TIMEOUT,
+                () -> {
+                    assertThat(iterator.next(), is(0));
+                    assertThrows(StackOverflowError.class, iterator::hasNext);
+                    assertThat(iterator.hasNext(), is(false));
+                });
+        assertThat(source.closed.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS), is(true));
+    }
+
+    private static class CountingSource implements Iterator<Integer>, Closeable {
+        private final int size;
+        private final AtomicInteger fetched = new AtomicInteger();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private volatile int failAt = -1;
+        private volatile int errorAt = -1;
+
+        CountingSource(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return fetched.get() < size;
+        }
+
+        @Override
+        public Integer next() {
+            int element = fetched.get();
+            if (element == failAt) {
+                throw new QueryRetrievalException("Problem fetching " + element);
+            }
+            if (element == errorAt) {
+                throw new StackOverflowError();
+            }
+            return fetched.getAndIncrement();
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        boolean awaitFetched(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT.toMillis();
+            while (fetched.get() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            return fetched.get() >= count;
+        }
+    }
+}
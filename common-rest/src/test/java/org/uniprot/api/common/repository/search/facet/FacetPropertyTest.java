@@ -0,0 +1,26 @@
+package org.uniprot.api.common.repository.search.facet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class FacetPropertyTest {
+
+    @Test
+    void intervalsAreOrderedByNumericKey() {
+        Map<String, String> intervals = new HashMap<>();
+        for (int i = 1; i <= 11; i++) {
+            intervals.put(String.valueOf(i), "[" + i + "," + i + "]");
+        }
+        FacetProperty facetProperty = new FacetProperty();
+        facetProperty.setInterval(intervals);
+
+        assertThat(
+                facetProperty.getIntervalsInKeyOrder().keySet(),
+                contains("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11"));
+    }
+}
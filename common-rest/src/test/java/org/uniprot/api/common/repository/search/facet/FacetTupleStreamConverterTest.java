@@ -147,6 +147,66 @@ class FacetTupleStreamConverterTest {
         assertEquals(Long.valueOf(2L), itemValue2.getCount());
     }
 
+    @Test
+    void convertRangeBucketedIntervalFacet() throws Exception {
+        Tuple tuple1 = getRangeBucketTuple("length", "1", 4L);
+        Tuple tuple2 = getRangeBucketTuple("length", "2", 2L);
+        Tuple tuple3 = getRangeBucketTuple("length", "3", 0L);
+        Tuple tuple4 = getRangeBucketTuple("length", "4", 0L);
+        Tuple tuple5 = getRangeBucketTuple("length", "5", 2L);
+        Tuple eofTuple = new Tuple();
+        eofTuple.EOF = true;
+
+        when(tupleStream.read()).thenReturn(tuple5, tuple2, tuple4, tuple1, tuple3, eofTuple);
+
+        FacetTupleStreamConverter facetConverter =
+                new FacetTupleStreamConverter(idFieldName, new FakeFacetConfig());
+        SolrStreamFacetResponse response = facetConverter.convert(tupleStream);
+
+        List<Facet> facets = response.getFacets();
+        assertNotNull(facets);
+        assertEquals(1, facets.size());
+        Facet lengthFacet = facets.get(0);
+        assertEquals("Sequence Length", lengthFacet.getLabel());
+        assertEquals("length", lengthFacet.getName());
+        assertEquals(3, lengthFacet.getValues().size());
+
+        FacetItem itemValue0 = lengthFacet.getValues().get(0);
+        assertEquals("1 - 200", itemValue0.getLabel());
+        assertEquals("[1 TO 200]", itemValue0.getValue());
+        assertEquals(Long.valueOf(4L), itemValue0.getCount());
+
+        FacetItem itemValue1 = lengthFacet.getValues().get(1);
+        assertEquals("201 - 400", itemValue1.getLabel());
+        assertEquals("[201 TO 400]", itemValue1.getValue());
+        assertEquals(Long.valueOf(2L), itemValue1.getCount());
+
+        FacetItem itemValue2 = lengthFacet.getValues().get(2);
+        assertEquals(">= 801", itemValue2.getLabel());
+        assertEquals("[801 TO *]", itemValue2.getValue());
+        assertEquals(Long.valueOf(2L), itemValue2.getCount());
+    }
+
+    @Test
+    void rangeBucketedIntervalFacetWithoutValuesIsNotListed() throws Exception {
+        Tuple tuple1 = getRangeBucketTuple("length", "1", 0L);
+        Tuple tuple2 = getRangeBucketTuple("length", "2", 0L);
+        Tuple tuple3 = getRangeBucketTuple("length", "3", 0L);
+        Tuple tuple4 = getRangeBucketTuple("length", "4", 0L);
+        Tuple tuple5 = getRangeBucketTuple("length", "5", 0L);
+        Tuple eofTuple = new Tuple();
+        eofTuple.EOF = true;
+
+        when(tupleStream.read()).thenReturn(tuple1, tuple2, tuple3, tuple4, tuple5, eofTuple);
+
+        FacetTupleStreamConverter facetConverter =
+                new FacetTupleStreamConverter(idFieldName, new FakeFacetConfig());
+        SolrStreamFacetResponse response = facetConverter.convert(tupleStream);
+
+        assertNotNull(response.getFacets());
+        assertTrue(response.getFacets().isEmpty());
+    }
+
     @Test
     void convertFacetWithAccessions() throws IOException {
         Tuple tuple1 = getTuple("reviewed", true, 234L);
@@ -189,4 +249,12 @@ class FacetTupleStreamConverterTest {
         tuple.fields = map;
         return tuple;
     }
+
+    private Tuple getRangeBucketTuple(String facet, String intervalKey, Long count) {
+        Tuple tuple = new Tuple();
+        Map<Object, Object> map = new HashMap<>();
+        map.put(FacetTupleStreamConverter.getRangeBucketName(facet, intervalKey), count);
+        tuple.fields = map;
+        return tuple;
+    }
 }
@@ -8,6 +8,8 @@ import java.util.List;
 
 import org.apache.http.client.HttpClient;
 import org.apache.solr.client.solrj.io.stream.FacetStream;
+import org.apache.solr.client.solrj.io.stream.ParallelListStream;
+import org.apache.solr.client.solrj.io.stream.SelectStream;
 import org.apache.solr.client.solrj.io.stream.TupleStream;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeAll;
@@ -48,9 +50,27 @@ class FacetTupleStreamTemplateTest {
         facetConfig.setLimit(5);
         TupleStream tupleStream = tupleStreamTemplate.create(request, facetConfig);
         assertThat(tupleStream, Matchers.is(Matchers.notNullValue()));
+        assertThat(tupleStream, Matchers.instanceOf(ParallelListStream.class));
         assertThat(tupleStream.children(), Matchers.is(Matchers.iterableWithSize(3)));
         tupleStream
                 .children()
                 .forEach(child -> assertThat(child, Matchers.instanceOf(FacetStream.class)));
     }
+
+    @Test
+    void testCreateTupleStreamCountsEachIntervalOfRangeFacet() {
+        SolrStreamFacetRequest request =
+                SolrStreamFacetRequest.builder()
+                        .query("accession_id:(P12345 OR Q12345)")
+                        .facets(Arrays.asList("reviewed", "length"))
+                        .build();
+        FacetConfig facetConfig = new FakeFacetConfig();
+        facetConfig.setLimit(5);
+        TupleStream tupleStream = tupleStreamTemplate.create(request, facetConfig);
+        assertThat(tupleStream.children(), Matchers.is(Matchers.iterableWithSize(6)));
+        assertThat(tupleStream.children().get(0), Matchers.instanceOf(FacetStream.class));
+        tupleStream.children().stream()
+                .skip(1)
+                .forEach(child -> assertThat(child, Matchers.instanceOf(SelectStream.class)));
+    }
 }
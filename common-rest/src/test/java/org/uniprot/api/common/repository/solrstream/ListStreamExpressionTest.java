@@ -23,6 +23,17 @@ class ListStreamExpressionTest {
         Assertions.assertEquals(2, listStreamExpression.getParameters().size());
     }
 
+    @Test
+    void testCreateParallelList() {
+        List<StreamExpression> streamExpressions = new ArrayList<>();
+        streamExpressions.add(createExpression());
+        streamExpressions.add(createExpression());
+        ListStreamExpression listStreamExpression =
+                new ParallelListStreamExpression(streamExpressions);
+        Assertions.assertEquals("plist", listStreamExpression.getFunctionName());
+        Assertions.assertEquals(2, listStreamExpression.getParameters().size());
+    }
+
     private FacetStreamExpression createExpression() {
         SolrStreamFacetRequest.SolrStreamFacetRequestBuilder builder =
                 SolrStreamFacetRequest.builder();
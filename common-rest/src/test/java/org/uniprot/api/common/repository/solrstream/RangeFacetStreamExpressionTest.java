@@ -0,0 +1,50 @@
+package org.uniprot.api.common.repository.solrstream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.apache.solr.client.solrj.io.stream.expr.StreamExpression;
+import org.apache.solr.client.solrj.io.stream.expr.StreamExpressionNamedParameter;
+import org.apache.solr.client.solrj.io.stream.expr.StreamExpressionValue;
+import org.junit.jupiter.api.Test;
+
+class RangeFacetStreamExpressionTest {
+
+    @Test
+    void createsCountOfIntervalNamedAfterFacetAndInterval() {
+        SolrStreamFacetRequest request =
+                SolrStreamFacetRequest.builder().query("accession_id:P12345").build();
+
+        RangeFacetStreamExpression expression =
+                new RangeFacetStreamExpression("uniprot", "length", "1", "[1,200]", request);
+
+        assertEquals("select", expression.getFunctionName());
+        assertEquals(2, expression.getParameters().size());
+        StreamExpression stats = (StreamExpression) expression.getParameters().get(0);
+        assertEquals("stats", stats.getFunctionName());
+        assertEquals(3, stats.getParameters().size());
+        assertEquals("uniprot", ((StreamExpressionValue) stats.getParameters().get(0)).getValue());
+        StreamExpressionNamedParameter query =
+                (StreamExpressionNamedParameter) stats.getParameters().get(1);
+        assertEquals("q", query.getName());
+        assertEquals(
+                "(accession_id:P12345) AND length:[1 TO 200]",
+                ((StreamExpressionValue) query.getParameter()).getValue());
+        assertEquals("count", ((StreamExpression) stats.getParameters().get(2)).getFunctionName());
+        assertEquals(
+                "count(*) as length.1",
+                ((StreamExpressionValue) expression.getParameters().get(1)).getValue());
+    }
+
+    @Test
+    void queryIsMandatory() {
+        SolrStreamFacetRequest request = SolrStreamFacetRequest.builder().build();
+
+        IllegalArgumentException exception =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                new RangeFacetStreamExpression(
+                                        "uniprot", "length", "1", "[1,200]", request));
+        assertEquals("query is a mandatory param", exception.getMessage());
+    }
+}
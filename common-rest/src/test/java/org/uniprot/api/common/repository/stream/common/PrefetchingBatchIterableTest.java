@@ -0,0 +1,209 @@
+package org.uniprot.api.common.repository.stream.common;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrefetchingBatchIterableTest {
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void keepsOrderOfSourceWhenPrefetching() {
+        List<String> ids = asList("a", "b", "c", "d", "e", "f", "g");
+        PrefetchingBatchIterable<String> iterable =
+                new PrefetchingBatchIterable<>(
+                        new SlowUpperCaseBatchIterable(ids, 2), executorService, 3);
+
+        List<String> results =
+                StreamSupport.stream(iterable.spliterator(), false)
+                        .flatMap(Collection::stream)
+                        .collect(Collectors.toList());
+
+        assertThat(results, contains("A", "B", "C", "D", "E", "F", "G"));
+    }
+
+    @Test
+    void fetchesNoMoreThanQueueDepthAheadOfConsumer() {
+        List<String> ids = asList("a", "b", "c", "d", "e", "f", "g", "h");
+        SlowUpperCaseBatchIterable source = new SlowUpperCaseBatchIterable(ids, 1);
+        PrefetchingBatchIterable<String> iterable =
+                new PrefetchingBatchIterable<>(source, executorService, 2);
+
+        Iterator<Collection<String>> iterator = iterable.iterator();
+        assertThat(iterator.next(), contains("A"));
+
+        // one batch consumed, and at most two more requested
+        assertThat(source.requestedBatches.get(), is(lessThanOrEqualTo(3)));
+    }
+
+    @Test
+    void emptySourceHasNoBatches() {
+        PrefetchingBatchIterable<String> iterable =
+                new PrefetchingBatchIterable<>(
+                        new SlowUpperCaseBatchIterable(asList(), 2), executorService, 2);
+
+        assertThat(iterable.iterator().hasNext(), is(false));
+    }
+
+    @Test
+    void conversionExceptionIsPropagatedToConsumer() {
+        BatchIterable<String> failing =
+                new BatchIterable<String>(asList("a", "b"), 1) {
+                    @Override
+                    protected List<String> convertBatch(List<String> batch) {
+                        throw new IllegalArgumentException("store failure");
+                    }
+                };
+        PrefetchingBatchIterable<String> iterable =
+                new PrefetchingBatchIterable<>(failing, executorService, 2);
+
+        Iterator<Collection<String>> iterator = iterable.iterator();
+        assertThrows(IllegalArgumentException.class, iterator::next);
+    }
+
+    @Test
+    void batchNotConvertedInTimeFailsConsumer() {
+        BatchIterable<String> blocking =
+                new BatchIterable<String>(asList("a", "b"), 1) {
+                    @Override
+                    protected List<String> convertBatch(List<String> batch) {
+                        try {
+                            Thread.sleep(10_000L);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return batch;
+                    }
+                };
+        PrefetchingBatchIterable<String> iterable =
+                new PrefetchingBatchIterable<>(blocking, executorService, 2, Duration.ofMillis(50));
+
+        Iterator<Collection<String>> iterator = iterable.iterator();
+        assertThrows(IllegalStateException.class, iterator::next);
+    }
+
+    @Test
+    void rejectedBatchIsConvertedByConsumerWithoutTimeout() {
+        List<String> ids = asList("a", "b", "c", "d", "e");
+        ExecutorService rejectingExecutor = Executors.newSingleThreadExecutor();
+        rejectingExecutor.shutdown();
+        PrefetchingBatchIterable<String> iterable =
+                new PrefetchingBatchIterable<>(
+                        new SlowUpperCaseBatchIterable(ids, 2), rejectingExecutor, 2);
+
+        List<String> results =
+                StreamSupport.stream(iterable.spliterator(), false)
+                        .flatMap(Collection::stream)
+                        .collect(Collectors.toList());
+
+        assertThat(results, contains("A", "B", "C", "D", "E"));
+    }
+
+    @Test
+    void rejectedBatchIsResubmittedWithinTimeout() {
+        List<String> ids = asList("a", "b", "c", "d", "e");
+        AtomicInteger submissions = new AtomicInteger();
+        ExecutorService busyExecutor =
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>()) {
+                    @Override
+                    public void execute(Runnable command) {
+                        // every other submission finds the executor busy
+                        if (submissions.incrementAndGet() % 2 == 1) {
+                            throw new RejectedExecutionException("busy");
+                        }
+                        super.execute(command);
+                    }
+                };
+        try {
+            PrefetchingBatchIterable<String> iterable =
+                    new PrefetchingBatchIterable<>(
+                            new SlowUpperCaseBatchIterable(ids, 2),
+                            busyExecutor,
+                            2,
+                            Duration.ofSeconds(10));
+
+            List<String> results =
+                    StreamSupport.stream(iterable.spliterator(), false)
+                            .flatMap(Collection::stream)
+                            .collect(Collectors.toList());
+
+            assertThat(results, contains("A", "B", "C", "D", "E"));
+        } finally {
+            busyExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void batchNeverAcceptedByExecutorTimesOut() {
+        ExecutorService rejectingExecutor = Executors.newSingleThreadExecutor();
+        rejectingExecutor.shutdown();
+        PrefetchingBatchIterable<String> iterable =
+                new PrefetchingBatchIterable<>(
+                        new SlowUpperCaseBatchIterable(asList("a", "b"), 1),
+                        rejectingExecutor,
+                        2,
+                        Duration.ofMillis(50));
+
+        Iterator<Collection<String>> iterator = iterable.iterator();
+        assertThrows(IllegalStateException.class, iterator::next);
+    }
+
+    @Test
+    void queueDepthMustBePositive() {
+        SlowUpperCaseBatchIterable source = new SlowUpperCaseBatchIterable(asList("a"), 1);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PrefetchingBatchIterable<>(source, executorService, 0));
+    }
+
+    private static class SlowUpperCaseBatchIterable extends BatchIterable<String> {
+        private final AtomicInteger requestedBatches = new AtomicInteger();
+
+        SlowUpperCaseBatchIterable(Iterable<String> sourceIterable, int batchSize) {
+            super(sourceIterable, batchSize);
+        }
+
+        @Override
+        protected List<String> convertBatch(List<String> batch) {
+            requestedBatches.incrementAndGet();
+            try {
+                // later batches should not overtake earlier ones
+                Thread.sleep(Math.floorMod(batch.hashCode(), 20) + 10L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return batch.stream().map(String::toUpperCase).collect(Collectors.toList());
+        }
+    }
+}
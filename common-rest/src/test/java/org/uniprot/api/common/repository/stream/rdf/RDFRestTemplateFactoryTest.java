@@ -0,0 +1,25 @@
+package org.uniprot.api.common.repository.stream.rdf;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.client.RestTemplate;
+
+class RDFRestTemplateFactoryTest {
+
+    @Test
+    void destroyingRestTemplateClosesConnectionPool() throws Exception {
+        RDFStreamerConfigProperties config = new RDFStreamerConfigProperties();
+        config.setRequestUrl("http://localhost:1/rdf");
+        RestTemplate restTemplate = RDFRestTemplateFactory.createRestTemplate(config);
+
+        assertThat(restTemplate, instanceOf(DisposableBean.class));
+        ((DisposableBean) restTemplate).destroy();
+
+        assertThrows(
+                IllegalStateException.class, () -> restTemplate.getForObject("/", String.class));
+    }
+}
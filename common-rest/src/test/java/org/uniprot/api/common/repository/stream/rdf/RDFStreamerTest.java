@@ -2,9 +2,18 @@ package org.uniprot.api.common.repository.stream.rdf;
 
 import static java.util.Arrays.asList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
+import java.net.URI;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -18,6 +27,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
@@ -31,6 +41,7 @@ import org.uniprot.api.common.repository.stream.document.TupleStreamDocumentIdSt
 import org.uniprot.api.common.repository.stream.store.StreamerConfigProperties;
 import org.uniprot.api.common.repository.stream.store.TupleStreamUtils;
 import org.uniprot.api.rest.service.RDFService;
+import org.uniprot.api.rest.service.RDFServiceTestUtils;
 
 /**
  * @author lgonzales
@@ -74,7 +85,7 @@ class RDFStreamerTest {
                         .build();
 
         when(restTemplate.getUriTemplateHandler()).thenReturn(new DefaultUriBuilderFactory());
-        when(restTemplate.getForObject(any(), any())).thenReturn(SAMPLE_RDF);
+        RDFServiceTestUtils.mockRDFBatchResponse(restTemplate, SAMPLE_RDF);
 
         RDFService<String> rdfService = new RDFService<>(restTemplate, String.class);
 
@@ -104,6 +115,91 @@ class RDFStreamerTest {
                 rdfString);
     }
 
+    @Test
+    void prefetchedBatchesAreStreamedInIdOrder() {
+        SolrRequest solrRequest = SolrRequest.builder().query("*:*").rows(6).totalRows(6).build();
+        when(repository.getAll(solrRequest))
+                .thenReturn(
+                        Stream.of("1", "2", "3", "4", "5", "6")
+                                .map(id -> new TestDocument(id, "name" + id)));
+
+        DocumentIdStream idStream =
+                DefaultDocumentIdStream.<TestDocument>builder()
+                        .documentToId(TestDocument::getDocumentId)
+                        .repository(repository)
+                        .build();
+
+        when(restTemplate.getUriTemplateHandler()).thenReturn(new DefaultUriBuilderFactory());
+        // the first batch is the last to be fetched
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), isNull(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            String query = invocation.<URI>getArgument(0).getQuery();
+                            if (query.contains("id:1")) {
+                                Thread.sleep(200);
+                            }
+                            return "<batch>" + query + "</batch>";
+                        });
+
+        RDFService<String> rdfService = new RDFService<>(restTemplate, String.class);
+
+        RDFStreamer.RDFStreamerBuilder builder = RDFStreamer.builder();
+        builder.idStream(idStream).rdfFetchRetryPolicy(new RetryPolicy<>().withMaxRetries(3));
+        builder.rdfProlog(RDF_PRELOG).rdfBatchSize(2).rdfService(rdfService);
+        ExecutorService fetchExecutor = Executors.newFixedThreadPool(3);
+        builder.rdfFetchQueueDepth(3).rdfFetchTimeoutMillis(10000).rdfFetchExecutor(fetchExecutor);
+        // then
+        RDFStreamer rdfStreamer = builder.build();
+        String rdfString;
+        try (Stream<String> rdfStream = rdfStreamer.idsToRDFStoreStream(solrRequest)) {
+            rdfString = rdfStream.collect(Collectors.joining());
+        } finally {
+            // closing the stream leaves the shared executor to its owner
+            Assertions.assertFalse(fetchExecutor.isShutdown());
+            fetchExecutor.shutdownNow();
+        }
+
+        Assertions.assertTrue(rdfString.contains("id:1"));
+        assertThat(rdfString.indexOf("id:1"), lessThan(rdfString.indexOf("id:3")));
+        assertThat(rdfString.indexOf("id:3"), lessThan(rdfString.indexOf("id:5")));
+        Assertions.assertTrue(rdfString.startsWith(RDF_PRELOG));
+        Assertions.assertTrue(rdfString.endsWith(RDFService.RDF_CLOSE_TAG));
+    }
+
+    @Test
+    void closingPartlyConsumedStreamClosesIdStream() {
+        SolrRequest solrRequest = SolrRequest.builder().query("*:*").rows(6).totalRows(6).build();
+        AtomicBoolean idStreamClosed = new AtomicBoolean();
+        when(repository.getAll(solrRequest))
+                .thenReturn(
+                        Stream.of("1", "2", "3", "4", "5", "6")
+                                .map(id -> new TestDocument(id, "name" + id))
+                                .onClose(() -> idStreamClosed.set(true)));
+
+        DocumentIdStream idStream =
+                DefaultDocumentIdStream.<TestDocument>builder()
+                        .documentToId(TestDocument::getDocumentId)
+                        .repository(repository)
+                        .build();
+
+        when(restTemplate.getUriTemplateHandler()).thenReturn(new DefaultUriBuilderFactory());
+        RDFServiceTestUtils.mockRDFBatchResponse(restTemplate, SAMPLE_RDF);
+        RDFService<String> rdfService = new RDFService<>(restTemplate, String.class);
+
+        RDFStreamer.RDFStreamerBuilder builder = RDFStreamer.builder();
+        builder.idStream(idStream).rdfFetchRetryPolicy(new RetryPolicy<>().withMaxRetries(3));
+        builder.rdfProlog(RDF_PRELOG).rdfBatchSize(2).rdfService(rdfService);
+        RDFStreamer rdfStreamer = builder.build();
+
+        Stream<String> rdfStream = rdfStreamer.idsToRDFStoreStream(solrRequest);
+        Iterator<String> rdfIterator = rdfStream.iterator();
+        Assertions.assertEquals(RDF_PRELOG, rdfIterator.next());
+        Assertions.assertTrue(rdfIterator.next().contains("<sample>text</sample>"));
+        rdfStream.close();
+
+        Assertions.assertTrue(idStreamClosed.get());
+    }
+
     @Test
     void testEmptyResponse() {
         when(repository.getAll(any())).thenReturn(Stream.empty());
@@ -138,7 +234,8 @@ class RDFStreamerTest {
                         .build();
         // RestClientException
         when(restTemplate.getUriTemplateHandler()).thenReturn(new DefaultUriBuilderFactory());
-        when(restTemplate.getForObject(any(), any())).thenThrow(RestClientException.class);
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), isNull(), any()))
+                .thenThrow(RestClientException.class);
         RDFService<String> rdfService = new RDFService<>(restTemplate, String.class);
 
         RDFStreamer.RDFStreamerBuilder builder = RDFStreamer.builder();
@@ -169,7 +266,7 @@ class RDFStreamerTest {
                         .build();
 
         when(restTemplate.getUriTemplateHandler()).thenReturn(new DefaultUriBuilderFactory());
-        when(restTemplate.getForObject(any(), any())).thenReturn(SAMPLE_RDF);
+        RDFServiceTestUtils.mockRDFBatchResponse(restTemplate, SAMPLE_RDF);
 
         RDFService<String> rdfService = new RDFService<>(restTemplate, String.class);
 
@@ -0,0 +1,163 @@
+package org.uniprot.api.common.repository.stream.store;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uniprot.store.datastore.voldemort.VoldemortClient;
+
+class CachingUniProtStoreClientTest {
+    private VoldemortClient<String> voldemortClient;
+    private StoreCacheConfigProperties cacheConfig;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        voldemortClient = (VoldemortClient<String>) mock(VoldemortClient.class);
+        when(voldemortClient.getEntry(any())).thenAnswer(inv -> entry(inv.getArgument(0)));
+        when(voldemortClient.getEntryMap(any())).thenAnswer(inv -> entryMap(inv.getArgument(0)));
+        when(voldemortClient.getEntries(any())).thenAnswer(inv -> entries(inv.getArgument(0)));
+
+        cacheConfig = new StoreCacheConfigProperties();
+        cacheConfig.setEnabled(true);
+        cacheConfig.setMaxBatchSize(3);
+    }
+
+    @Test
+    void singleEntryIsFetchedFromStoreOnlyOnce() {
+        CachingUniProtStoreClient<String> client = cachingClient();
+
+        assertThat(client.getEntry("p1"), is(Optional.of("P1")));
+        assertThat(client.getEntry("p1"), is(Optional.of("P1")));
+
+        verify(voldemortClient, times(1)).getEntry("p1");
+    }
+
+    @Test
+    void missingEntryIsNotCached() {
+        CachingUniProtStoreClient<String> client = cachingClient();
+
+        assertThat(client.getEntry("missing"), is(Optional.empty()));
+        assertThat(client.getEntry("missing"), is(Optional.empty()));
+
+        verify(voldemortClient, times(2)).getEntry("missing");
+    }
+
+    @Test
+    void onlyMissingEntriesOfPageAreFetchedFromStore() {
+        CachingUniProtStoreClient<String> client = cachingClient();
+        client.getEntry("p2");
+
+        List<String> entries = client.getEntries(asList("p1", "p2", "missing"));
+
+        assertThat(entries, contains("P1", "P2"));
+        verify(voldemortClient).getEntryMap(asList("p1", "missing"));
+    }
+
+    @Test
+    void largeBatchesBypassCache() {
+        CachingUniProtStoreClient<String> client = cachingClient();
+
+        List<String> entries = client.getEntries(asList("p1", "p2", "p3", "p4"));
+        client.getEntry("p1");
+
+        assertThat(entries, contains("P1", "P2", "P3", "P4"));
+        verify(voldemortClient, times(1)).getEntry("p1");
+    }
+
+    @Test
+    void entriesExpireAfterWrite() {
+        cacheConfig.setExpireAfterWriteSeconds(0);
+        CachingUniProtStoreClient<String> client = cachingClient();
+
+        client.getEntry("p1");
+        client.getEntry("p1");
+
+        verify(voldemortClient, times(2)).getEntry("p1");
+    }
+
+    @Test
+    void invalidatedEntriesAreFetchedFromStoreAgain() {
+        CachingUniProtStoreClient<String> client = cachingClient();
+
+        client.getEntry("p1");
+        client.invalidateAll();
+        client.getEntry("p1");
+
+        verify(voldemortClient, times(2)).getEntry("p1");
+    }
+
+    @Test
+    void disabledCacheAlwaysUsesStore() {
+        cacheConfig.setEnabled(false);
+        CachingUniProtStoreClient<String> client = cachingClient();
+
+        client.getEntry("p1");
+        client.getEntry("p1");
+
+        verify(voldemortClient, times(2)).getEntry("p1");
+    }
+
+    @Test
+    void hitsAndMissesArePublished() {
+        CachingUniProtStoreClient<String> client = cachingClient();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        client.bindTo(registry);
+
+        client.getEntry("p1");
+        client.getEntry("p1");
+
+        assertThat(
+                registry.get("cache.gets")
+                        .tag("cache", "test")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count(),
+                is(1.0));
+        assertThat(
+                registry.get("cache.gets")
+                        .tag("cache", "test")
+                        .tag("result", "miss")
+                        .functionCounter()
+                        .count(),
+                is(1.0));
+    }
+
+    private CachingUniProtStoreClient<String> cachingClient() {
+        return new CachingUniProtStoreClient<>(
+                voldemortClient, cacheConfig, "test", String::length);
+    }
+
+    private static Optional<String> entry(String id) {
+        return id.startsWith("missing") ? Optional.empty() : Optional.of(id.toUpperCase());
+    }
+
+    private static Map<String, String> entryMap(Iterable<String> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+                .filter(id -> !id.startsWith("missing"))
+                .collect(Collectors.toMap(id -> id, String::toUpperCase));
+    }
+
+    private static List<String> entries(Iterable<String> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+                .filter(id -> !id.startsWith("missing"))
+                .map(String::toUpperCase)
+                .collect(Collectors.toList());
+    }
+}
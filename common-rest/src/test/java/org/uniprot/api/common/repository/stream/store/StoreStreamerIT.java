@@ -3,6 +3,7 @@ package org.uniprot.api.common.repository.stream.store;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.Mockito.when;
@@ -12,6 +13,8 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -20,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.RetryPolicy;
 
 import org.apache.solr.client.solrj.io.stream.TupleStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,6 +54,7 @@ class StoreStreamerIT {
     private static final String FAKE_FILTER_QUERY = "any filter query";
 
     private SolrRequest solrRequest;
+    private ExecutorService prefetchExecutor;
     @Mock private UniProtStoreClient<String> fakeStore;
     @Mock private VoldemortClient<String> fakeClient;
 
@@ -58,6 +63,12 @@ class StoreStreamerIT {
         fakeStore = new FakeUniProtStoreClient(fakeClient);
         solrRequest =
                 SolrRequest.builder().query(FAKE_QUERY).filterQuery(FAKE_FILTER_QUERY).build();
+        prefetchExecutor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prefetchExecutor.shutdownNow();
     }
 
     @Test
@@ -144,6 +155,53 @@ class StoreStreamerIT {
                         transformString("e")));
     }
 
+    @Test
+    void canTransformSourceStreamWhenPrefetchingStoreBatches() {
+        StoreStreamer<String> storeStreamer =
+                createSearchStoreStream(1, tupleStream(asList("a", "b", "c", "d", "e")), 2);
+        Stream<String> storeStream = storeStreamer.idsToStoreStream(solrRequest);
+        List<String> results = storeStream.collect(Collectors.toList());
+        storeStream.close();
+        assertThat(
+                results,
+                contains(
+                        transformString("a"),
+                        transformString("b"),
+                        transformString("c"),
+                        transformString("d"),
+                        transformString("e")));
+    }
+
+    @Test
+    void closingPartlyConsumedPrefetchingStreamKeepsSharedExecutor() {
+        List<String> ids = asList("a", "b", "c", "d", "e");
+        StoreStreamer<String> storeStreamer = createSearchStoreStream(1, tupleStream(ids), 2);
+
+        try (Stream<String> storeStream = storeStreamer.idsToStoreStream(solrRequest)) {
+            assertThat(
+                    storeStream.limit(2).collect(Collectors.toList()),
+                    contains(transformString("a"), transformString("b")));
+        }
+
+        assertThat(prefetchExecutor.isShutdown(), is(false));
+        List<String> results =
+                createSearchStoreStream(1, tupleStream(ids), 2)
+                        .idsToStoreStream(solrRequest)
+                        .collect(Collectors.toList());
+        assertThat(results.size(), is(ids.size()));
+    }
+
+    @Test
+    void whenStoreExceptionWhilstPrefetching_thenEnsureExceptionThrown() {
+        List<String> ids = asList("a", "b", "c", "d", "e");
+        when(fakeClient.getEntries(anyIterable())).thenThrow(RetrievalException.class);
+        StoreStreamer<String> storeStreamer = createSearchStoreStream(1, tupleStream(ids), 2);
+
+        assertThrows(
+                RetrievalException.class,
+                () -> storeStreamer.idsToStoreStream(solrRequest).collect(Collectors.toList()));
+    }
+
     @Test
     void whenStoreExceptionDuringIdStreaming_thenEnsureIOExceptionThrown() throws IOException {
         List<String> ids = asList("a", "b", "c", "d", "e");
@@ -166,12 +224,18 @@ class StoreStreamerIT {
 
     private StoreStreamer<String> createSearchStoreStream(
             int streamerBatchSize, TupleStream tupleStream) {
+        return createSearchStoreStream(streamerBatchSize, tupleStream, 0);
+    }
+
+    private StoreStreamer<String> createSearchStoreStream(
+            int streamerBatchSize, TupleStream tupleStream, int storeFetchQueueDepth) {
         TupleStreamTemplate mockTupleStreamTemplate = Mockito.mock(TupleStreamTemplate.class);
         when(mockTupleStreamTemplate.create(ArgumentMatchers.any())).thenReturn(tupleStream);
 
         StreamerConfigProperties streamConfig = new StreamerConfigProperties();
         streamConfig.setIdFieldName(ID);
         streamConfig.setStoreBatchSize(STORE_BATCH_SIZE);
+        streamConfig.setStoreFetchQueueDepth(storeFetchQueueDepth);
         DocumentIdStream idStream =
                 TupleStreamDocumentIdStream.builder()
                         .tupleStreamTemplate(mockTupleStreamTemplate)
@@ -183,6 +247,7 @@ class StoreStreamerIT {
                 .storeClient(fakeStore)
                 .storeFetchRetryPolicy(new RetryPolicy<>().withMaxRetries(3))
                 .documentIdStream(idStream)
+                .prefetchExecutor(prefetchExecutor)
                 .build();
     }
 
@@ -0,0 +1,106 @@
+package org.uniprot.api.common.repository.stream.store;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import net.jodah.failsafe.RetryPolicy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uniprot.store.datastore.UniProtStoreClient;
+import org.uniprot.store.datastore.voldemort.RetrievalException;
+
+class SubBatchStoreFetcherTest {
+    private ExecutorService executorService;
+    private UniProtStoreClient<String> storeClient;
+    private RetryPolicy<Object> retryPolicy;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        storeClient = (UniProtStoreClient<String>) mock(UniProtStoreClient.class);
+        retryPolicy = new RetryPolicy<>().handle(IOException.class).withMaxRetries(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void subBatchesAreMergedInRequestOrder() {
+        when(storeClient.getEntries(any())).thenAnswer(inv -> transform(inv.getArgument(0)));
+        SubBatchStoreFetcher<String> fetcher =
+                new SubBatchStoreFetcher<>(storeClient, retryPolicy, executorService, 3);
+
+        List<String> entries = fetcher.getEntries(asList("a", "b", "c", "d", "e", "f", "g"));
+
+        assertThat(entries, contains("A", "B", "C", "D", "E", "F", "G"));
+        verify(storeClient).getEntries(asList("a", "b", "c"));
+        verify(storeClient).getEntries(asList("d", "e", "f"));
+        verify(storeClient).getEntries(asList("g"));
+    }
+
+    @Test
+    void withoutExecutorBatchIsFetchedInOneCall() {
+        when(storeClient.getEntries(any())).thenAnswer(inv -> transform(inv.getArgument(0)));
+        SubBatchStoreFetcher<String> fetcher =
+                new SubBatchStoreFetcher<>(storeClient, retryPolicy, null, 3);
+
+        List<String> entries = fetcher.getEntries(asList("a", "b", "c", "d"));
+
+        assertThat(entries, contains("A", "B", "C", "D"));
+        verify(storeClient, times(1)).getEntries(any());
+    }
+
+    @Test
+    void failingSubBatchIsRetriedOnItsOwn() {
+        when(storeClient.getEntries(asList("a", "b"))).thenReturn(asList("A", "B"));
+        when(storeClient.getEntries(asList("c", "d")))
+                .thenAnswer(
+                        inv -> {
+                            throw new IOException("store unavailable");
+                        })
+                .thenReturn(asList("C", "D"));
+        SubBatchStoreFetcher<String> fetcher =
+                new SubBatchStoreFetcher<>(storeClient, retryPolicy, executorService, 2);
+
+        List<String> entries = fetcher.getEntries(asList("a", "b", "c", "d"));
+
+        assertThat(entries, contains("A", "B", "C", "D"));
+        verify(storeClient, times(1)).getEntries(asList("a", "b"));
+        verify(storeClient, times(2)).getEntries(asList("c", "d"));
+    }
+
+    @Test
+    void storeExceptionIsPropagated() {
+        when(storeClient.getEntries(any())).thenThrow(RetrievalException.class);
+        SubBatchStoreFetcher<String> fetcher =
+                new SubBatchStoreFetcher<>(storeClient, retryPolicy, executorService, 2);
+
+        assertThrows(
+                RetrievalException.class, () -> fetcher.getEntries(asList("a", "b", "c", "d")));
+    }
+
+    private static List<String> transform(Iterable<String> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+                .map(String::toUpperCase)
+                .collect(Collectors.toList());
+    }
+}
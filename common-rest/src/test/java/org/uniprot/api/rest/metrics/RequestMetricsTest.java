@@ -0,0 +1,94 @@
+package org.uniprot.api.rest.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.uniprot.api.rest.output.UniProtMediaType;
+
+class RequestMetricsTest {
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void tagsAreTakenFromCurrentRequest() {
+        bindRequest("/uniprotkb/search", UniProtMediaType.FASTA_MEDIA_TYPE_VALUE);
+
+        assertThat(
+                RequestMetrics.currentRequestTags(),
+                is(Tags.of("resource", "uniprotkb", "media.type", "text/fasta")));
+    }
+
+    @Test
+    void mediaTypeOfResponseReplacesAcceptHeader() {
+        bindRequest("/uniref/stream", "*/*");
+
+        assertThat(
+                RequestMetrics.currentRequestTags(MediaType.APPLICATION_JSON),
+                is(Tags.of("resource", "uniref", "media.type", "application/json")));
+    }
+
+    @Test
+    void unknownMediaTypesAreTaggedAsOther() {
+        bindRequest("/uniparc/search", "text/html,application/xhtml+xml");
+
+        assertThat(
+                RequestMetrics.currentRequestTags(),
+                is(Tags.of("resource", "uniparc", "media.type", "other")));
+    }
+
+    @Test
+    void tagsWithoutRequestAreNone() {
+        assertThat(
+                RequestMetrics.currentRequestTags(),
+                is(Tags.of("resource", "none", "media.type", "none")));
+    }
+
+    @Test
+    void timersAreRegisteredWithTags() {
+        bindRequest("/keywords/search", UniProtMediaType.TSV_MEDIA_TYPE_VALUE);
+
+        RequestMetrics.timer(RequestMetrics.SOLR_PAGE, RequestMetrics.currentRequestTags())
+                .record(5, TimeUnit.MILLISECONDS);
+
+        Timer timer =
+                registry.find(RequestMetrics.SOLR_PAGE)
+                        .tags("resource", "keywords", "media.type", "text/tsv")
+                        .timer();
+        assertThat(timer, is(notNullValue()));
+        assertThat(timer.count(), is(1L));
+    }
+
+    private static void bindRequest(String servletPath, String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServletPath(servletPath);
+        request.addHeader(HttpHeaders.ACCEPT, accept);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
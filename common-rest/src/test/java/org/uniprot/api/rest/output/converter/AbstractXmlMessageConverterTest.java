@@ -0,0 +1,173 @@
+package org.uniprot.api.rest.output.converter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.xml.bind.Marshaller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.uniprot.api.rest.output.context.FileType;
+import org.uniprot.api.rest.output.context.MessageConverterContext;
+
+class AbstractXmlMessageConverterTest {
+    private static final String HEADER = "<entries>\n";
+    private static final String FOOTER = "</entries>";
+
+    @Test
+    void writesAllEntitiesBetweenHeaderAndFooter() throws IOException {
+        FakeXmlMessageConverter converter = new FakeXmlMessageConverter();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        converter.writeInternal(createContext("one", "two"), null, httpOutputMessage(os));
+
+        String xml = os.toString(StandardCharsets.UTF_8);
+        assertThat(xml, startsWith(HEADER + "<entry>"));
+        assertThat(xml, endsWith("</entry>\n" + FOOTER));
+        assertThat(xml, containsString("<name>one</name>"));
+        assertThat(
+                xml.indexOf("<name>one</name>"), is(lessThan(xml.indexOf("<name>two</name>"))));
+    }
+
+    @Test
+    void writesUtf8RegardlessOfPlatformEncoding() throws IOException {
+        FakeXmlMessageConverter converter = new FakeXmlMessageConverter();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        converter.writeInternal(createContext("Pérez α"), null, httpOutputMessage(os));
+
+        assertThat(os.toString(StandardCharsets.UTF_8), containsString("<name>Pérez α</name>"));
+    }
+
+    @Test
+    void usesOneMarshallerPerResponse() throws IOException {
+        FakeXmlMessageConverter converter = new FakeXmlMessageConverter();
+
+        converter.writeInternal(
+                createContext("one", "two", "three"),
+                null,
+                httpOutputMessage(new ByteArrayOutputStream()));
+        converter.writeInternal(
+                createContext("four", "five"),
+                null,
+                httpOutputMessage(new ByteArrayOutputStream()));
+
+        assertThat(converter.createdMarshallers.get(), is(2));
+    }
+
+    @Test
+    void flushingResponseWritesBufferedXml() throws IOException {
+        FakeXmlMessageConverter converter = new FakeXmlMessageConverter();
+        List<Integer> flushedSizes = new ArrayList<>();
+        ByteArrayOutputStream os =
+                new ByteArrayOutputStream() {
+                    @Override
+                    public void flush() {
+                        flushedSizes.add(size());
+                    }
+                };
+
+        converter.writeInternal(createContext("one"), null, httpOutputMessage(os));
+
+        // the response is flushed before the first entity, when only the header is buffered
+        assertThat(flushedSizes.get(0), is(greaterThanOrEqualTo(HEADER.length())));
+    }
+
+    @Test
+    void errorIsWrittenAfterBufferedXml() {
+        FakeXmlMessageConverter converter = new FakeXmlMessageConverter();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        Stream<String> failingEntities =
+                Stream.of("one", "two")
+                        .map(
+                                name -> {
+                                    if (name.equals("two")) {
+                                        throw new IllegalStateException("store failure");
+                                    }
+                                    return name;
+                                });
+        MessageConverterContext<String> context =
+                MessageConverterContext.<String>builder()
+                        .fileType(FileType.FILE)
+                        .entities(failingEntities)
+                        .build();
+
+        assertThrows(
+                StopStreamException.class,
+                () -> converter.writeInternal(context, null, httpOutputMessage(os)));
+
+        String xml = os.toString(StandardCharsets.UTF_8);
+        assertThat(xml, startsWith(HEADER));
+        assertThat(xml, containsString("<name>one</name>"));
+        assertThat(
+                xml.indexOf("<name>one</name>"),
+                is(lessThan(xml.indexOf("Error encountered when streaming data."))));
+    }
+
+    private static MessageConverterContext<String> createContext(String... names) {
+        return MessageConverterContext.<String>builder()
+                .fileType(FileType.FILE)
+                .entities(Stream.of(names))
+                .build();
+    }
+
+    private static HttpOutputMessage httpOutputMessage(OutputStream os) {
+        return new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return os;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return null;
+            }
+        };
+    }
+
+    private static class FakeXmlMessageConverter
+            extends AbstractXmlMessageConverter<String, FakeXmlEntry> {
+        private final AtomicInteger createdMarshallers = new AtomicInteger();
+
+        FakeXmlMessageConverter() {
+            super(String.class, FakeXmlEntry.class.getPackageName());
+        }
+
+        @Override
+        protected FakeXmlEntry toXml(String entity) {
+            return new FakeXmlEntry(entity);
+        }
+
+        @Override
+        protected String getFooter() {
+            return FOOTER;
+        }
+
+        @Override
+        protected String getHeader() {
+            return HEADER;
+        }
+
+        @Override
+        protected Marshaller createMarshaller() {
+            createdMarshallers.incrementAndGet();
+            return super.createMarshaller();
+        }
+    }
+}
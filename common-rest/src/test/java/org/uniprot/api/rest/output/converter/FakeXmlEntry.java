@@ -0,0 +1,22 @@
+package org.uniprot.api.rest.output.converter;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * A minimal JAXB entry, listed in this package's {@code jaxb.index}, for testing {@link
+ * AbstractXmlMessageConverter}.
+ */
+@XmlRootElement(name = "entry")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class FakeXmlEntry {
+    @XmlElement private String name;
+
+    public FakeXmlEntry() {}
+
+    FakeXmlEntry(String name) {
+        this.name = name;
+    }
+}
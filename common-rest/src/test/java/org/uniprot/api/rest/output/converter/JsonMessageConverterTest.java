@@ -283,6 +283,34 @@ class JsonMessageConverterTest {
                 result);
     }
 
+    @Test
+    void writeCanWriteEntitiesWithFilteredPathReturnFieldAndOnlyKeepMatchingItems()
+            throws IOException {
+        List<UniProtKBEntry> entities = List.of(getEntity(), getEntity());
+        MessageConverterContext<UniProtKBEntry> messageContext =
+                MessageConverterContext.<UniProtKBEntry>builder()
+                        .fields("accession,cc_function")
+                        .build();
+        log.debug("------- BEGIN: writeCanWriteEntitiesWithFilteredPathReturnFieldAndOnlyKeep");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeBefore(messageContext, outputStream);
+        jsonMessageConverter.writeEntities(
+                entities.stream(), outputStream, Instant.now(), new AtomicInteger(0));
+        writeAfter(messageContext, outputStream);
+        String result = outputStream.toString("UTF-8");
+        log.debug(result);
+
+        DocumentContext resultJson = JsonPath.parse(result);
+        assertEquals(new Integer(2), resultJson.read(JsonPath.compile("$.results.size()")));
+        List<String> commentTypes =
+                resultJson.read(JsonPath.compile("$.results[*].comments[*].commentType"));
+        assertFalse(commentTypes.isEmpty());
+        assertTrue(commentTypes.stream().allMatch("FUNCTION"::equals));
+        assertEquals(
+                List.of("P00001", "P00001"),
+                resultJson.read(JsonPath.compile("$.results[*].primaryAccession")));
+    }
+
     @Test
     void writeCanWriteOkayAndFailedEntities() throws IOException {
         List<UniProtKBEntry> entities = new ArrayList<>();
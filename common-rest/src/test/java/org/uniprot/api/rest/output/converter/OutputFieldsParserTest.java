@@ -2,9 +2,7 @@ package org.uniprot.api.rest.output.converter;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.uniprot.store.config.UniProtDataType;
@@ -39,24 +37,4 @@ class OutputFieldsParserTest {
         assertEquals("id", returnField.get(0).getName());
         assertEquals("name", returnField.get(1).getName());
     }
-
-    @Test
-    void canGetData() {
-
-        ReturnFieldConfig returnFieldConfig =
-                ReturnFieldConfigFactory.getReturnFieldConfig(UniProtDataType.KEYWORD);
-        List<ReturnField> returnField =
-                OutputFieldsParser.parse("id,name,definition", returnFieldConfig);
-
-        Map<String, String> mappedFields = new HashMap<>();
-        mappedFields.put("id", "idValue");
-        mappedFields.put("name", "nameValue");
-        List<String> result = OutputFieldsParser.getData(mappedFields, returnField);
-
-        assertNotNull(result);
-        assertEquals(3, result.size());
-        assertEquals("idValue", result.get(0));
-        assertEquals("nameValue", result.get(1));
-        assertEquals("", result.get(2));
-    }
 }
@@ -0,0 +1,117 @@
+package org.uniprot.api.rest.output.converter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Compares the throughput of compressed downloads written with {@link ParallelGzipOutputStream}
+ * against {@link GZIPOutputStream}, by compressing FASTA-like entries written in chunks the size
+ * of an entry, as the message converters do. The rates are logged, in MB/s of uncompressed input,
+ * and the compressed outputs are checked to be of similar size and to decompress to the input.
+ *
+ * <p>Being slow and machine dependent, it is excluded from the unit tests, and is run with the
+ * {@code benchmark-tests} profile.
+ */
+@Slf4j
+@Tag("benchmark")
+class ParallelGzipOutputStreamBenchmarkTest {
+    private static final int INPUT_SIZE = 64 * 1024 * 1024;
+    private static final int ENTRY_SIZE = 1024;
+    private static final int REPETITIONS = 3;
+    private static final double BYTES_PER_MB = 1024 * 1024;
+    private static final byte[] INPUT = ParallelGzipOutputStreamTest.entries(INPUT_SIZE);
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void setUp() {
+        // as the gzipCompressionTaskExecutor, with a thread per processor
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Deflater.BEST_SPEED, Deflater.DEFAULT_COMPRESSION})
+    void compressionRatesAtLevel(int level) throws IOException {
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream(INPUT_SIZE / 2);
+        double gzipRate = rate(() -> compress(gzipStream(gzip, level)), gzip);
+
+        ByteArrayOutputStream parallelGzip = new ByteArrayOutputStream(INPUT_SIZE / 2);
+        double parallelGzipRate =
+                rate(
+                        () ->
+                                compress(
+                                        new ParallelGzipOutputStream(
+                                                parallelGzip, level, executor)),
+                        parallelGzip);
+
+        log.info(
+                "gzip level {}: GZIPOutputStream {} MB/s ({} bytes), "
+                        + "ParallelGzipOutputStream {} MB/s ({} bytes)",
+                level,
+                String.format("%.1f", gzipRate),
+                gzip.size(),
+                String.format("%.1f", parallelGzipRate),
+                parallelGzip.size());
+
+        assertThat(parallelGzip.size(), is(lessThan(gzip.size() + gzip.size() / 20)));
+        assertThat(ParallelGzipOutputStreamTest.gunzip(parallelGzip.toByteArray()), is(INPUT));
+    }
+
+    private static double rate(Compression compression, ByteArrayOutputStream out)
+            throws IOException {
+        // the first run warms up the compression code
+        double bestRate = 0;
+        for (int i = 0; i <= REPETITIONS; i++) {
+            out.reset();
+            long start = System.nanoTime();
+            compression.run();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            if (i > 0) {
+                bestRate = Math.max(bestRate, INPUT_SIZE / BYTES_PER_MB / seconds);
+            }
+        }
+        return bestRate;
+    }
+
+    private static void compress(OutputStream gzip) throws IOException {
+        try (gzip) {
+            for (int offset = 0; offset < INPUT_SIZE; offset += ENTRY_SIZE) {
+                gzip.write(INPUT, offset, Math.min(ENTRY_SIZE, INPUT_SIZE - offset));
+            }
+        }
+    }
+
+    private static OutputStream gzipStream(OutputStream out, int level) throws IOException {
+        return new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Compression {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,165 @@
+package org.uniprot.api.rest.output.converter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelGzipOutputStreamTest {
+    private static final int BLOCK_SIZE = 1024;
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, BLOCK_SIZE - 1, BLOCK_SIZE, BLOCK_SIZE + 1, 50 * BLOCK_SIZE + 7})
+    void compressedBlocksDecompressToInput(int size) throws IOException {
+        byte[] input = entries(size);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream gzip = gzipStream(compressed, Deflater.DEFAULT_COMPRESSION)) {
+            gzip.write(input);
+        }
+
+        assertThat(gunzip(compressed.toByteArray()), is(input));
+    }
+
+    @Test
+    void singleBytesAndFlushesDecompressToInput() throws IOException {
+        byte[] input = entries(10 * BLOCK_SIZE);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream gzip = gzipStream(compressed, Deflater.BEST_SPEED)) {
+            for (int i = 0; i < input.length; i++) {
+                gzip.write(input[i]);
+                if (i % 100 == 0) {
+                    gzip.flush();
+                }
+            }
+        }
+
+        assertThat(gunzip(compressed.toByteArray()), is(input));
+    }
+
+    @Test
+    void flushesAtBlockBoundariesDecompressToInput() throws IOException {
+        byte[] input = entries(4 * BLOCK_SIZE);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream gzip = gzipStream(compressed, Deflater.BEST_SPEED)) {
+            for (int offset = 0; offset < input.length; offset += BLOCK_SIZE) {
+                gzip.write(input, offset, BLOCK_SIZE);
+                gzip.flush();
+                gzip.flush();
+            }
+        }
+
+        assertThat(gunzip(compressed.toByteArray()), is(input));
+    }
+
+    @Test
+    void contentRepeatedInPreviousBlockIsCompressed() throws IOException {
+        // each block is primed with the previous one, so repeats of a chunk shorter than a block
+        // are found across block boundaries
+        byte[] chunk = new byte[BLOCK_SIZE - 200];
+        new Random(1).nextBytes(chunk);
+        byte[] input = new byte[100 * BLOCK_SIZE];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = chunk[i % chunk.length];
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream gzip = gzipStream(compressed, Deflater.DEFAULT_COMPRESSION)) {
+            gzip.write(input);
+        }
+
+        assertThat(compressed.size(), is(lessThan(input.length / 20)));
+        assertThat(gunzip(compressed.toByteArray()), is(input));
+    }
+
+    @Test
+    void blocksCompressedByWritingThreadDecompressToInput() throws IOException {
+        byte[] input = entries(10 * BLOCK_SIZE + 7);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream gzip =
+                new ParallelGzipOutputStream(
+                        compressed, Deflater.DEFAULT_COMPRESSION, BLOCK_SIZE, Runnable::run, 4)) {
+            gzip.write(input);
+        }
+
+        assertThat(gunzip(compressed.toByteArray()), is(input));
+    }
+
+    @Test
+    void closingTwiceWritesOneTrailer() throws IOException {
+        byte[] input = entries(BLOCK_SIZE);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        ParallelGzipOutputStream gzip = gzipStream(compressed, Deflater.DEFAULT_COMPRESSION);
+        gzip.write(input);
+        gzip.close();
+        int size = compressed.size();
+        gzip.close();
+
+        assertThat(compressed.size(), is(size));
+        assertThat(gunzip(compressed.toByteArray()), is(input));
+        assertThrows(IOException.class, () -> gzip.write(input));
+    }
+
+    @Test
+    void invalidLevelIsRejected() {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class, () -> gzipStream(compressed, 10));
+    }
+
+    static byte[] entries(int size) {
+        Random random = new Random(size);
+        StringBuilder entries = new StringBuilder(size);
+        while (entries.length() < size) {
+            entries.append(">sp|P")
+                    .append(random.nextInt(100_000))
+                    .append("|PROTEIN_HUMAN Some protein OS=Homo sapiens OX=9606\n");
+            for (int i = 0; i < 60; i++) {
+                entries.append("ACDEFGHIKLMNPQRSTVWY".charAt(random.nextInt(20)));
+            }
+            entries.append('\n');
+        }
+        return entries.substring(0, size).getBytes();
+    }
+
+    static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gunzip.readAllBytes();
+        }
+    }
+
+    private ParallelGzipOutputStream gzipStream(ByteArrayOutputStream out, int level)
+            throws IOException {
+        return new ParallelGzipOutputStream(out, level, BLOCK_SIZE, executor, 4);
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -71,4 +73,25 @@ class TsvMessageConverterTest {
                                 + "/evidence=\"ECO:0000269|PubMed:11389730\"\t"
                                 + "FUNCTION: [Isoform 4]: value. {ECO:0000256|PIRNR:PIRNR001360}."));
     }
+
+    @Test
+    void canWriteRowsInUtf8WithEmptyMissingColumns() throws IOException {
+        TsvMessageConverter<String> converter =
+                new TsvMessageConverter<>(
+                        String.class,
+                        ReturnFieldConfigFactory.getReturnFieldConfig(UniProtDataType.UNIPROTKB),
+                        (entity, fieldNames) -> Map.of("accession", entity));
+        MessageConverterContext<String> messageContext =
+                MessageConverterContext.<String>builder().fields("accession,gene_orf").build();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        converter.before(messageContext, outputStream);
+        converter.writeEntity("P12345", outputStream);
+        converter.writeEntity("Pérez-α-\uD83E\uDDEC", outputStream);
+        converter.cleanUp();
+
+        assertEquals(
+                "Entry\tGene Names (ORF)\nP12345\t\nPérez-α-\uD83E\uDDEC\t\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,33 @@
+package org.uniprot.api.rest.respository;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.uniprot.api.common.repository.stream.store.CachingUniProtStoreClient;
+import org.uniprot.store.datastore.UniProtStoreClient;
+
+class StoreCacheEndpointTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void invalidatesCachesOfAllCachingStoreClients() {
+        CachingUniProtStoreClient<String> firstClient = mock(CachingUniProtStoreClient.class);
+        CachingUniProtStoreClient<String> secondClient = mock(CachingUniProtStoreClient.class);
+        UniProtStoreClient<String> nonCachingClient = mock(UniProtStoreClient.class);
+        ObjectProvider<UniProtStoreClient<?>> storeClients = mock(ObjectProvider.class);
+        when(storeClients.stream())
+                .thenReturn(
+                        Stream.<UniProtStoreClient<?>>of(
+                                firstClient, nonCachingClient, secondClient));
+
+        new StoreCacheEndpoint(storeClients).invalidateAll();
+
+        verify(firstClient).invalidateAll();
+        verify(secondClient).invalidateAll();
+    }
+}
@@ -4,10 +4,15 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import lombok.Builder;
 import lombok.Data;
@@ -20,11 +25,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.uniprot.api.common.exception.ResourceNotFoundException;
 import org.uniprot.api.common.exception.ServiceException;
+import org.uniprot.api.common.repository.search.QueryResult;
 import org.uniprot.api.common.repository.search.SolrQueryConfig;
 import org.uniprot.api.common.repository.search.SolrQueryRepository;
 import org.uniprot.api.common.repository.search.SolrRequest;
 import org.uniprot.api.common.repository.search.facet.FacetConfig;
 import org.uniprot.api.common.repository.search.facet.FakeFacetConfig;
+import org.uniprot.api.common.repository.search.page.impl.CursorPage;
 import org.uniprot.api.rest.request.SearchRequest;
 import org.uniprot.api.rest.search.AbstractSolrSortClause;
 import org.uniprot.api.rest.search.FakeSolrSortClause;
@@ -371,6 +378,25 @@ class BasicSearchServiceTest {
         assertEquals(2, solrRequest.getSorts().size());
     }
 
+    @Test
+    void searchIds_returnsDocumentIdsWithoutConvertingEntries() {
+        FakeSearchRequest request = new FakeSearchRequest();
+        request.setQuery("queryValue");
+        when(repository.searchPage(any(SolrRequest.class), isNull()))
+                .thenReturn(
+                        QueryResult.of(
+                                Stream.of(
+                                        FakeDocument.builder().id("1").build(),
+                                        FakeDocument.builder().id("2").build()),
+                                CursorPage.of(null, defaultPageSize)));
+
+        QueryResult<String> result = service.searchIds(request);
+
+        assertEquals(List.of("1", "2"), result.getContent().collect(Collectors.toList()));
+        assertNotNull(result.getPage());
+        verifyNoInteractions(entryConverter);
+    }
+
     @Builder
     private static class FakeDocument implements Document {
 
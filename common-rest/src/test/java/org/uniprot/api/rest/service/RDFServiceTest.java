@@ -0,0 +1,63 @@
+package org.uniprot.api.rest.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+class RDFServiceTest {
+    private static final String PROLOG =
+            "<?xml version='1.0' encoding='UTF-8'?>\n"
+                    + "<rdf:RDF>\n"
+                    + "    <owl:Ontology rdf:about=\"\">\n"
+                    + "        <owl:imports rdf:resource=\"http://purl.uniprot.org/core/\"/>\n"
+                    + "    </owl:Ontology>";
+    private static final String ENTRIES =
+            "\n    <sample>text</sample>\n    <anotherSample>text2</anotherSample>\n";
+
+    @Test
+    void getEntriesReturnsEntriesWithoutPrologAndCloseTag() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.getUriTemplateHandler()).thenReturn(new DefaultUriBuilderFactory());
+        RDFServiceTestUtils.mockRDFBatchResponse(
+                restTemplate, PROLOG + ENTRIES + RDFService.RDF_CLOSE_TAG);
+        RDFService<String> rdfService = new RDFService<>(restTemplate, String.class);
+
+        List<String> entries = rdfService.getEntries(List.of("P12345", "P54321"));
+
+        assertThat(entries, contains(ENTRIES));
+    }
+
+    @Test
+    void tagsSplitAcrossReadsAreFound() throws IOException {
+        // the close tag of the ontology straddles the first and second reads of the response
+        int padding = 8192 - 5 - PROLOG.indexOf("</owl:Ontology>");
+        String rdfXML = " ".repeat(padding) + PROLOG + ENTRIES + RDFService.RDF_CLOSE_TAG;
+
+        assertThat(RDFService.convertRDFForStreaming(new StringReader(rdfXML)), is(ENTRIES));
+    }
+
+    @Test
+    void partialMatchesOfOntologyCloseTagAreSkipped() throws IOException {
+        String rdfXML =
+                "<rdf:RDF></owl:Ont</owl:</owl:Ontology>" + ENTRIES + RDFService.RDF_CLOSE_TAG;
+
+        assertThat(RDFService.convertRDFForStreaming(new StringReader(rdfXML)), is(ENTRIES));
+    }
+
+    @Test
+    void entriesAreEmptyWithoutOntology() throws IOException {
+        String rdfXML = "<rdf:RDF>" + RDFService.RDF_CLOSE_TAG;
+
+        assertThat(RDFService.convertRDFForStreaming(new StringReader(rdfXML)), is(""));
+    }
+}
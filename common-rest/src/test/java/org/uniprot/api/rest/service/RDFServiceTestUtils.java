@@ -0,0 +1,38 @@
+package org.uniprot.api.rest.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+public class RDFServiceTestUtils {
+    private RDFServiceTestUtils() {}
+
+    /**
+     * Makes a mocked {@link RestTemplate} respond with the given RDF/XML to each batch of entries
+     * requested by an {@link RDFService}, which reads the response as a stream.
+     *
+     * @param restTemplate the mocked rest template of the RDF service
+     * @param rdfXML the RDF/XML response
+     */
+    public static void mockRDFBatchResponse(RestTemplate restTemplate, String rdfXML) {
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), isNull(), any()))
+                .thenAnswer(
+                        invocation ->
+                                invocation
+                                        .<ResponseExtractor<?>>getArgument(3)
+                                        .extractData(
+                                                new MockClientHttpResponse(
+                                                        rdfXML.getBytes(StandardCharsets.UTF_8),
+                                                        HttpStatus.OK)));
+    }
+}
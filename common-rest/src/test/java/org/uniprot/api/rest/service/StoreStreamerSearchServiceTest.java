@@ -0,0 +1,233 @@
+package org.uniprot.api.rest.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.Data;
+
+import org.apache.solr.client.solrj.io.Tuple;
+import org.apache.solr.client.solrj.io.stream.TupleStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.uniprot.api.common.repository.search.QueryResult;
+import org.uniprot.api.common.repository.search.SolrQueryConfig;
+import org.uniprot.api.common.repository.search.SolrQueryRepository;
+import org.uniprot.api.common.repository.search.facet.FakeFacetConfig;
+import org.uniprot.api.common.repository.search.page.impl.CursorPage;
+import org.uniprot.api.common.repository.solrstream.FacetTupleStreamTemplate;
+import org.uniprot.api.common.repository.solrstream.SolrStreamFacetRequest;
+import org.uniprot.api.common.repository.stream.store.StoreStreamer;
+import org.uniprot.api.rest.request.IdsSearchRequest;
+import org.uniprot.api.rest.search.FakeSolrSortClause;
+import org.uniprot.api.rest.service.query.QueryProcessor;
+import org.uniprot.store.config.UniProtDataType;
+import org.uniprot.store.config.searchfield.model.SearchFieldItem;
+import org.uniprot.store.search.document.Document;
+
+@ExtendWith(MockitoExtension.class)
+class StoreStreamerSearchServiceTest {
+    private static final String ID_FIELD = "accession_id";
+    @Mock private SolrQueryRepository<Document> repository;
+    @Mock private StoreStreamer<String> storeStreamer;
+    @Mock private SolrQueryConfig solrQueryConfig;
+    @Mock private FacetTupleStreamTemplate tupleStreamTemplate;
+    private StoreStreamerSearchService<Document, String> service;
+
+    @BeforeEach
+    void setUp() {
+        service =
+                new FakeStoreStreamerSearchService(
+                        repository, storeStreamer, solrQueryConfig, tupleStreamTemplate);
+    }
+
+    @Test
+    void idsNotInSolrAreNotListed() throws IOException {
+        TupleStream tupleStream = createTupleStream("P1", "P3");
+        when(tupleStreamTemplate.create(any(), any())).thenReturn(tupleStream);
+
+        QueryResult<String> result = service.getIdsByIds(createRequest("P1,P2,P3"));
+
+        assertThat(result.getContent().collect(Collectors.toList()), contains("P1", "P3"));
+        assertThat(result.getPage().getTotalElements(), is(2L));
+    }
+
+    @Test
+    void idsAreListedInRequestedOrder() throws IOException {
+        // ids are returned by Solr sorted
+        TupleStream tupleStream = createTupleStream("P1", "P2", "P3");
+        when(tupleStreamTemplate.create(any(), any())).thenReturn(tupleStream);
+
+        QueryResult<String> result = service.getIdsByIds(createRequest("P3, p1,P2"));
+
+        assertThat(result.getContent().collect(Collectors.toList()), contains("P3", "P1", "P2"));
+    }
+
+    @Test
+    void idsAreSearchedByTermsQuery() throws IOException {
+        TupleStream tupleStream = createTupleStream("P1");
+        ArgumentCaptor<SolrStreamFacetRequest> solrRequest =
+                ArgumentCaptor.forClass(SolrStreamFacetRequest.class);
+        when(tupleStreamTemplate.create(solrRequest.capture(), any())).thenReturn(tupleStream);
+
+        service.getIdsByIds(createRequest("P1,P2"));
+
+        assertThat(solrRequest.getValue().getQuery(), is("({!terms f=accession_id}P1,P2)"));
+        assertThat(solrRequest.getValue().isSearchAccession(), is(true));
+        assertThat(solrRequest.getValue().getSearchFieldList(), is(ID_FIELD));
+    }
+
+    @Test
+    void facetFilterSelectsIdsInSolrOrder() throws IOException {
+        TupleStream tupleStream = createTupleStream("P1", "P3");
+        ArgumentCaptor<SolrStreamFacetRequest> solrRequest =
+                ArgumentCaptor.forClass(SolrStreamFacetRequest.class);
+        when(tupleStreamTemplate.create(solrRequest.capture(), any())).thenReturn(tupleStream);
+        FakeIdsSearchRequest request = createRequest("P3,P2,P1");
+        request.setFacetFilter("reviewed:true");
+
+        QueryResult<String> result = service.getIdsByIds(request);
+
+        assertThat(result.getContent().collect(Collectors.toList()), contains("P1", "P3"));
+        assertThat(solrRequest.getValue().getQuery(), is("reviewed:true"));
+        assertThat(
+                solrRequest.getValue().getFilteredQuery(),
+                is("({!terms f=accession_id}P3,P2,P1)"));
+    }
+
+    @Test
+    void idsArePagedByCursor() throws IOException {
+        // each page checks the ids against Solr
+        TupleStream firstStream = createTupleStream("P1", "P2", "P3", "P4", "P5");
+        TupleStream secondStream = createTupleStream("P1", "P2", "P3", "P4", "P5");
+        TupleStream lastStream = createTupleStream("P1", "P2", "P3", "P4", "P5");
+        when(tupleStreamTemplate.create(any(), any()))
+                .thenReturn(firstStream, secondStream, lastStream);
+        FakeIdsSearchRequest request = createRequest("P5,P4,P3,P2,P1");
+        request.setSize(2);
+
+        QueryResult<String> firstPage = service.getIdsByIds(request);
+        request.setCursor(((CursorPage) firstPage.getPage()).getEncryptedNextCursor());
+        QueryResult<String> secondPage = service.getIdsByIds(request);
+        request.setCursor(((CursorPage) secondPage.getPage()).getEncryptedNextCursor());
+        QueryResult<String> lastPage = service.getIdsByIds(request);
+
+        assertThat(firstPage.getContent().collect(Collectors.toList()), contains("P5", "P4"));
+        assertThat(secondPage.getContent().collect(Collectors.toList()), contains("P3", "P2"));
+        assertThat(lastPage.getContent().collect(Collectors.toList()), contains("P1"));
+        assertThat(((CursorPage) lastPage.getPage()).hasNextPage(), is(false));
+    }
+
+    @Test
+    void entriesAreNotFetchedFromStore() throws IOException {
+        TupleStream tupleStream = createTupleStream("P1");
+        when(tupleStreamTemplate.create(any(), any())).thenReturn(tupleStream);
+
+        service.getIdsByIds(createRequest("P1"));
+
+        verify(storeStreamer, never()).streamEntries(any());
+    }
+
+    private static FakeIdsSearchRequest createRequest(String ids) {
+        FakeIdsSearchRequest request = new FakeIdsSearchRequest();
+        request.setCommaSeparatedIds(ids);
+        return request;
+    }
+
+    private static TupleStream createTupleStream(String... ids) throws IOException {
+        TupleStream tupleStream = mock(TupleStream.class);
+        Tuple[] tuples =
+                Stream.concat(
+                                Arrays.stream(ids).map(StoreStreamerSearchServiceTest::createTuple),
+                                Stream.of(eof()))
+                        .toArray(Tuple[]::new);
+        when(tupleStream.read())
+                .thenReturn(tuples[0], Arrays.copyOfRange(tuples, 1, tuples.length));
+        return tupleStream;
+    }
+
+    private static Tuple createTuple(String id) {
+        Tuple tuple = new Tuple();
+        Map<Object, Object> map = new HashMap<>();
+        map.put(ID_FIELD, id);
+        tuple.fields = map;
+        return tuple;
+    }
+
+    private static Tuple eof() {
+        Tuple tuple = new Tuple();
+        tuple.EOF = true;
+        return tuple;
+    }
+
+    private static class FakeStoreStreamerSearchService
+            extends StoreStreamerSearchService<Document, String> {
+        FakeStoreStreamerSearchService(
+                SolrQueryRepository<Document> repository,
+                StoreStreamer<String> storeStreamer,
+                SolrQueryConfig solrQueryConfig,
+                FacetTupleStreamTemplate tupleStreamTemplate) {
+            super(
+                    repository,
+                    new FakeFacetConfig(),
+                    new FakeSolrSortClause(),
+                    storeStreamer,
+                    solrQueryConfig,
+                    tupleStreamTemplate);
+        }
+
+        @Override
+        public String findByUniqueId(String uniqueId, String filters) {
+            return uniqueId;
+        }
+
+        @Override
+        protected UniProtDataType getUniProtDataType() {
+            return UniProtDataType.UNIPROTKB;
+        }
+
+        @Override
+        protected String getSolrIdField() {
+            return ID_FIELD;
+        }
+
+        @Override
+        protected SearchFieldItem getIdField() {
+            SearchFieldItem item = new SearchFieldItem();
+            item.setFieldName(ID_FIELD);
+            return item;
+        }
+
+        @Override
+        protected QueryProcessor getQueryProcessor() {
+            return query -> query;
+        }
+    }
+
+    @Data
+    private static class FakeIdsSearchRequest implements IdsSearchRequest {
+        private String commaSeparatedIds;
+        private String download;
+        private String facetFilter;
+        private String facets;
+        private String cursor;
+        private Integer size;
+        private String fields;
+    }
+}
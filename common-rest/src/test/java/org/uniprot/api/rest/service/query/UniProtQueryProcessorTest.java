@@ -3,9 +3,13 @@ package org.uniprot.api.rest.service.query;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -172,6 +176,27 @@ class UniProtQueryProcessorTest {
         assertThat(processedQuery, is(query));
     }
 
+    @Test
+    void repeatedQueryIsProcessedOnce() throws QueryNodeException {
+        UniProtQueryNodeProcessorPipeline mockPipeline =
+                mock(UniProtQueryNodeProcessorPipeline.class);
+        when(mockPipeline.process(any(QueryNode.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        UniProtQueryProcessor processor = new UniProtQueryProcessor(mockPipeline);
+        String query = "field:value";
+        assertThat(processor.processQuery(query), is(query));
+        assertThat(processor.processQuery(query), is(query));
+        verify(mockPipeline, times(1)).process(any(QueryNode.class));
+    }
+
+    @Test
+    void longerQueriesWeighMore() {
+        assertThat(
+                UniProtQueryProcessor.estimatedBytes("gene:CDC7 OR gene:CDC8", "gene:CDC7"),
+                is(greaterThan(UniProtQueryProcessor.estimatedBytes("gene:CDC7", "gene:CDC7"))));
+    }
+
     @Test
     void handlesFuzzySearch() {
         String query = "roam~3.0";
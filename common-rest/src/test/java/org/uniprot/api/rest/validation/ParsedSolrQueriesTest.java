@@ -0,0 +1,39 @@
+package org.uniprot.api.rest.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.apache.lucene.search.Query;
+import org.junit.jupiter.api.Test;
+
+class ParsedSolrQueriesTest {
+
+    @Test
+    void repeatedQueryIsParsedOnce() {
+        Optional<Query> query = ParsedSolrQueries.parse("accession:P21802 AND gene:*");
+
+        assertTrue(query.isPresent());
+        assertSame(query.get(), ParsedSolrQueries.parse("accession:P21802 AND gene:*").get());
+    }
+
+    @Test
+    void termsWithoutFieldAreInDefaultField() {
+        Optional<Query> query = ParsedSolrQueries.parse("P21802");
+
+        assertTrue(query.isPresent());
+        assertEquals(ParsedSolrQueries.DEFAULT_FIELD_NAME + ":P21802", query.get().toString());
+    }
+
+    @Test
+    void invalidSyntaxIsEmpty() {
+        assertFalse(ParsedSolrQueries.parse("((organism_id:9606)").isPresent());
+    }
+
+    @Test
+    void longerQueriesWeighMore() {
+        assertTrue(
+                ParsedSolrQueries.estimatedBytes("gene:CDC7 OR gene:CDC8")
+                        > ParsedSolrQueries.estimatedBytes("gene:CDC7"));
+    }
+}
@@ -119,9 +119,16 @@ public class IdMappingJobController {
         ResponseEntity<JobStatusResponse> response;
         switch (job.getJobStatus()) {
             case NEW:
-            case RUNNING:
                 response = ResponseEntity.ok(new JobStatusResponse(job.getJobStatus()));
                 break;
+            case RUNNING:
+                response =
+                        ResponseEntity.ok(
+                                new JobStatusResponse(
+                                        job.getJobStatus(),
+                                        job.getTotalChunks(),
+                                        job.getCompletedChunks()));
+                break;
             case FINISHED:
                 String redirectUrl = idMappingJobService.getRedirectPathToResults(job, url);
 
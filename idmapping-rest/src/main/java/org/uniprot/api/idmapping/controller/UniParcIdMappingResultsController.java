@@ -122,7 +122,7 @@ public class UniParcIdMappingResultsController extends BasicSearchController<Uni
 
         QueryResult<UniParcEntryPair> result =
                 this.idService.getMappedEntries(
-                        searchRequest, cachedJobResult.getIdMappingResult());
+                        searchRequest, cachedJobResult.getIdMappingResult(), jobId);
 
         return super.getSearchResponse(result, searchRequest.getFields(), request, response);
     }
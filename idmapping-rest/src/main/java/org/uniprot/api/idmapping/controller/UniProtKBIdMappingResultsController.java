@@ -132,7 +132,7 @@ public class UniProtKBIdMappingResultsController extends BasicSearchController<U
 
         QueryResult<UniProtKBEntryPair> result =
                 this.idService.getMappedEntries(
-                        searchRequest, cachedJobResult.getIdMappingResult());
+                        searchRequest, cachedJobResult.getIdMappingResult(), jobId);
         return super.getSearchResponse(result, searchRequest.getFields(), request, response);
     }
 
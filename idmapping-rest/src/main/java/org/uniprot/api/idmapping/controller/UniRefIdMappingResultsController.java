@@ -112,7 +112,7 @@ public class UniRefIdMappingResultsController extends BasicSearchController<UniR
 
         QueryResult<UniRefEntryPair> result =
                 this.idService.getMappedEntries(
-                        searchRequest, cachedJobResult.getIdMappingResult());
+                        searchRequest, cachedJobResult.getIdMappingResult(), jobId);
 
         return super.getSearchResponse(result, searchRequest.getFields(), request, response);
     }
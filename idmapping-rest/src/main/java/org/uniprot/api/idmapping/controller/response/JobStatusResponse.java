@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * @author sahmad
  * @created 22/02/2021
@@ -11,6 +13,14 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 @EqualsAndHashCode
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JobStatusResponse {
     private final JobStatus jobStatus;
+    // progress of a running job, in chunks of its ids mapped
+    private final Integer totalChunks;
+    private final Integer completedChunks;
+
+    public JobStatusResponse(JobStatus jobStatus) {
+        this(jobStatus, null, null);
+    }
 }
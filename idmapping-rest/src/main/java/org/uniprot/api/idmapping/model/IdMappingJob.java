@@ -1,5 +1,6 @@
 package org.uniprot.api.idmapping.model;
 
+import java.io.Serializable;
 import java.util.Date;
 
 import lombok.Builder;
@@ -14,12 +15,16 @@ import org.uniprot.api.idmapping.controller.response.JobStatus;
  */
 @Data
 @Builder(toBuilder = true)
-public class IdMappingJob {
+public class IdMappingJob implements Serializable {
+    private static final long serialVersionUID = -3297617204745530428L;
     private String jobId;
     private JobStatus jobStatus;
     private IdMappingJobRequest idMappingRequest;
     private IdMappingResult idMappingResult;
     private String errorMessage;
+    // progress of a running job, in chunks of its ids mapped
+    private int totalChunks;
+    private int completedChunks;
     @Builder.Default private Date created = new Date();
     @Builder.Default private Date updated = new Date();
 }
@@ -1,19 +1,75 @@
 package org.uniprot.api.idmapping.model;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
-import lombok.Builder;
+import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.Singular;
 
 /**
  * Created 17/02/2021
  *
  * @author Edd
  */
-@Builder
 @Data
-public class IdMappingResult {
-    @Singular private List<String> unmappedIds;
-    @Singular private List<IdMappingStringPair> mappedIds;
+@AllArgsConstructor
+public class IdMappingResult implements Serializable {
+    private static final long serialVersionUID = 5818216446417367413L;
+
+    private List<String> unmappedIds;
+    // stored compactly, since a job can have hundreds of thousands of mapped ids
+    private MappedIdPairs mappedIds;
+
+    public static IdMappingResultBuilder builder() {
+        return new IdMappingResultBuilder();
+    }
+
+    public static class IdMappingResultBuilder {
+        private final List<String> unmappedIds = new ArrayList<>();
+        private final MappedIdPairs.Builder mappedIds = MappedIdPairs.builder();
+
+        IdMappingResultBuilder() {}
+
+        public IdMappingResultBuilder unmappedId(String unmappedId) {
+            this.unmappedIds.add(unmappedId);
+            return this;
+        }
+
+        public IdMappingResultBuilder unmappedIds(Collection<? extends String> unmappedIds) {
+            this.unmappedIds.addAll(unmappedIds);
+            return this;
+        }
+
+        public IdMappingResultBuilder clearUnmappedIds() {
+            this.unmappedIds.clear();
+            return this;
+        }
+
+        public IdMappingResultBuilder mappedId(IdMappingStringPair mappedId) {
+            this.mappedIds.add(mappedId);
+            return this;
+        }
+
+        public IdMappingResultBuilder mappedId(String from, String to) {
+            this.mappedIds.add(from, to);
+            return this;
+        }
+
+        public IdMappingResultBuilder mappedIds(
+                Collection<? extends IdMappingStringPair> mappedIds) {
+            this.mappedIds.addAll(mappedIds);
+            return this;
+        }
+
+        public IdMappingResultBuilder clearMappedIds() {
+            this.mappedIds.clear();
+            return this;
+        }
+
+        public IdMappingResult build() {
+            return new IdMappingResult(List.copyOf(unmappedIds), mappedIds.build());
+        }
+    }
 }
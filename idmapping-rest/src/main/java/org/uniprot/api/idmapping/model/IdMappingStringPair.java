@@ -1,5 +1,7 @@
 package org.uniprot.api.idmapping.model;
 
+import java.io.Serializable;
+
 import lombok.*;
 
 /**
@@ -12,7 +14,9 @@ import lombok.*;
 @AllArgsConstructor
 @ToString
 @EqualsAndHashCode
-public class IdMappingStringPair implements EntryPair<String> {
+public class IdMappingStringPair implements EntryPair<String>, Serializable {
+    private static final long serialVersionUID = -6207424473880165938L;
+
     private final String from;
     private final String to;
 }
@@ -0,0 +1,296 @@
+package org.uniprot.api.idmapping.model;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A compact, read-only list of mapped {@link IdMappingStringPair}s.
+ *
+ * <p>Rather than holding one pair object per mapping, the distinct from and to ids are each
+ * stored once in a table, and every pair is recorded as an index into both tables. Pairs are only
+ * created when requested via {@link #get(int)}; callers that need just the from or to ids should
+ * use {@link #getFrom(int)} and {@link #getTo(int)}.
+ *
+ * <p>Sub-lists are views sharing the same tables, so slicing a page of pairs is cheap.
+ */
+public class MappedIdPairs extends AbstractList<IdMappingStringPair>
+        implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 7312893614436091325L;
+    // rough heap sizes, assuming compressed references and strings of one byte per character
+    private static final int ARRAY_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_BYTES = 40;
+    private static final MappedIdPairs EMPTY =
+            new MappedIdPairs(new String[0], new String[0], new int[0], new int[0], 0, 0, true);
+
+    private final String[] fromIds;
+    private final String[] toIds;
+    private final int[] fromIndexes;
+    private final int[] toIndexes;
+    private final int offset;
+    private final int size;
+    // whether every id in the to-id table is referenced by these pairs
+    private final boolean allToIdsReferenced;
+
+    private MappedIdPairs(
+            String[] fromIds,
+            String[] toIds,
+            int[] fromIndexes,
+            int[] toIndexes,
+            int offset,
+            int size,
+            boolean allToIdsReferenced) {
+        this.fromIds = fromIds;
+        this.toIds = toIds;
+        this.fromIndexes = fromIndexes;
+        this.toIndexes = toIndexes;
+        this.offset = offset;
+        this.size = size;
+        this.allToIdsReferenced = allToIdsReferenced;
+    }
+
+    public static MappedIdPairs empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public IdMappingStringPair get(int index) {
+        return new IdMappingStringPair(getFrom(index), getTo(index));
+    }
+
+    public String getFrom(int index) {
+        return fromIds[fromIndexes[position(index)]];
+    }
+
+    public String getTo(int index) {
+        return toIds[toIndexes[position(index)]];
+    }
+
+    /**
+     * Returns the distinct to ids of these pairs, in the order they first appear.
+     *
+     * @return the distinct to ids
+     */
+    public List<String> getDistinctToIds() {
+        if (allToIdsReferenced) {
+            return Collections.unmodifiableList(Arrays.asList(toIds));
+        }
+        Set<String> distinctToIds = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            distinctToIds.add(getTo(i));
+        }
+        return new ArrayList<>(distinctToIds);
+    }
+
+    /**
+     * Returns the pairs whose to id is contained in {@code toIds}, keeping their current order.
+     * This takes time linear in the number of pairs and ids.
+     *
+     * @param toIds the to ids to keep
+     * @return the filtered pairs, sharing the id tables of these pairs
+     */
+    public MappedIdPairs filterByTo(Collection<String> toIds) {
+        Set<String> toIdSet = toIds instanceof Set ? (Set<String>) toIds : new HashSet<>(toIds);
+        boolean[] keptToIndexes = new boolean[this.toIds.length];
+        for (int i = 0; i < this.toIds.length; i++) {
+            keptToIndexes[i] = toIdSet.contains(this.toIds[i]);
+        }
+
+        int[] positions = new int[size];
+        int count = 0;
+        for (int i = offset; i < offset + size; i++) {
+            if (keptToIndexes[toIndexes[i]]) {
+                positions[count++] = i;
+            }
+        }
+        return select(positions, count);
+    }
+
+    /**
+     * Returns the pairs ordered by their to id, following the order of {@code orderedToIds}.
+     * Pairs with the same to id keep their current relative order, and pairs whose to id is not
+     * in {@code orderedToIds} are dropped. This takes time linear in the number of pairs and ids.
+     *
+     * @param orderedToIds the to ids in the required order
+     * @return the ordered pairs, sharing the id tables of these pairs
+     */
+    public MappedIdPairs orderByTo(List<String> orderedToIds) {
+        Map<String, Integer> toIdIndexes = new HashMap<>();
+        for (int i = 0; i < toIds.length; i++) {
+            toIdIndexes.put(toIds[i], i);
+        }
+
+        // chain the positions of the pairs with each to id, in their current order
+        int[] firstPosition = new int[toIds.length];
+        int[] lastPosition = new int[toIds.length];
+        int[] nextPosition = new int[fromIndexes.length];
+        Arrays.fill(firstPosition, -1);
+        for (int i = offset; i < offset + size; i++) {
+            int toIndex = toIndexes[i];
+            nextPosition[i] = -1;
+            if (firstPosition[toIndex] < 0) {
+                firstPosition[toIndex] = i;
+            } else {
+                nextPosition[lastPosition[toIndex]] = i;
+            }
+            lastPosition[toIndex] = i;
+        }
+
+        int[] positions = new int[size];
+        int count = 0;
+        for (String toId : orderedToIds) {
+            Integer toIndex = toIdIndexes.get(toId);
+            if (toIndex != null) {
+                for (int p = firstPosition[toIndex]; p >= 0; p = nextPosition[p]) {
+                    if (count == positions.length) {
+                        positions = Arrays.copyOf(positions, count * 2);
+                    }
+                    positions[count++] = p;
+                }
+            }
+        }
+        return select(positions, count);
+    }
+
+    /**
+     * Estimates the heap taken by these pairs, including the id tables and index arrays they share
+     * with the pairs they were derived from, since holding these pairs keeps all of them alive.
+     *
+     * @return the estimated number of bytes retained by these pairs
+     */
+    public long estimatedBytes() {
+        return estimatedBytes(fromIds)
+                + estimatedBytes(toIds)
+                + ARRAY_BYTES
+                + (long) Integer.BYTES * fromIndexes.length
+                + ARRAY_BYTES
+                + (long) Integer.BYTES * toIndexes.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public MappedIdPairs subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new MappedIdPairs(
+                fromIds,
+                toIds,
+                fromIndexes,
+                toIndexes,
+                offset + fromIndex,
+                toIndex - fromIndex,
+                false);
+    }
+
+    private MappedIdPairs select(int[] positions, int count) {
+        int[] selectedFromIndexes = new int[count];
+        int[] selectedToIndexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            selectedFromIndexes[i] = fromIndexes[positions[i]];
+            selectedToIndexes[i] = toIndexes[positions[i]];
+        }
+        return new MappedIdPairs(
+                fromIds, toIds, selectedFromIndexes, selectedToIndexes, 0, count, false);
+    }
+
+    private static long estimatedBytes(String[] ids) {
+        long bytes = ARRAY_BYTES + (long) REFERENCE_BYTES * ids.length;
+        for (String id : ids) {
+            bytes += STRING_BYTES + id.length();
+        }
+        return bytes;
+    }
+
+    private int position(int index) {
+        Objects.checkIndex(index, size);
+        return offset + index;
+    }
+
+    /**
+     * Builds a {@link MappedIdPairs}, encoding each distinct from and to id exactly once. Equal
+     * ids added to the builder are therefore shared by all pairs that refer to them.
+     */
+    public static class Builder {
+        private static final int INITIAL_CAPACITY = 16;
+        private final Map<String, Integer> fromIdIndexes = new HashMap<>();
+        private final Map<String, Integer> toIdIndexes = new HashMap<>();
+        private int[] fromIndexes = new int[INITIAL_CAPACITY];
+        private int[] toIndexes = new int[INITIAL_CAPACITY];
+        private int size;
+
+        private Builder() {}
+
+        public Builder add(String from, String to) {
+            if (size == fromIndexes.length) {
+                int capacity = size * 2;
+                fromIndexes = Arrays.copyOf(fromIndexes, capacity);
+                toIndexes = Arrays.copyOf(toIndexes, capacity);
+            }
+            fromIndexes[size] = encode(fromIdIndexes, from);
+            toIndexes[size] = encode(toIdIndexes, to);
+            size++;
+            return this;
+        }
+
+        public Builder add(IdMappingStringPair pair) {
+            return add(pair.getFrom(), pair.getTo());
+        }
+
+        public Builder addAll(Collection<? extends IdMappingStringPair> pairs) {
+            pairs.forEach(this::add);
+            return this;
+        }
+
+        public Builder clear() {
+            fromIdIndexes.clear();
+            toIdIndexes.clear();
+            fromIndexes = new int[INITIAL_CAPACITY];
+            toIndexes = new int[INITIAL_CAPACITY];
+            size = 0;
+            return this;
+        }
+
+        public MappedIdPairs build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new MappedIdPairs(
+                    decode(fromIdIndexes),
+                    decode(toIdIndexes),
+                    Arrays.copyOf(fromIndexes, size),
+                    Arrays.copyOf(toIndexes, size),
+                    0,
+                    size,
+                    true);
+        }
+
+        private static int encode(Map<String, Integer> idIndexes, String id) {
+            return idIndexes.computeIfAbsent(id, key -> idIndexes.size());
+        }
+
+        private static String[] decode(Map<String, Integer> idIndexes) {
+            String[] ids = new String[idIndexes.size()];
+            idIndexes.forEach((id, index) -> ids[index] = id);
+            return ids;
+        }
+    }
+}
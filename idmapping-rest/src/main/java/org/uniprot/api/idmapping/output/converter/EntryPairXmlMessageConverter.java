@@ -1,7 +1,5 @@
 package org.uniprot.api.idmapping.output.converter;
 
-import javax.xml.bind.Marshaller;
-
 import org.uniprot.api.idmapping.model.EntryPair;
 import org.uniprot.api.rest.output.converter.AbstractXmlMessageConverter;
 import org.uniprot.core.xml.Converter;
@@ -33,11 +31,6 @@ public class EntryPairXmlMessageConverter<T extends EntryPair<U>, U, V>
         return this.converter.toXml(entryPair.getTo());
     }
 
-    @Override
-    protected Marshaller getMarshaller() {
-        return createMarshaller();
-    }
-
     @Override
     protected String getFooter() {
         return this.footer;
@@ -1,14 +1,19 @@
 package org.uniprot.api.idmapping.service;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.PostConstruct;
+
+import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,28 +33,49 @@ import org.uniprot.api.common.repository.stream.rdf.RDFStreamer;
 import org.uniprot.api.common.repository.stream.store.StoreStreamer;
 import org.uniprot.api.idmapping.model.IdMappingResult;
 import org.uniprot.api.idmapping.model.IdMappingStringPair;
+import org.uniprot.api.idmapping.model.MappedIdPairs;
 import org.uniprot.api.rest.request.SearchRequest;
 import org.uniprot.api.rest.request.StreamRequest;
 import org.uniprot.api.rest.search.SortUtils;
 import org.uniprot.core.util.Utils;
 import org.uniprot.store.config.UniProtDataType;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 /**
  * @author sahmad
  * @created 16/02/2021
  */
 @Slf4j
 public abstract class BasicIdService<T, U> {
+    static final long DEFAULT_SOLR_SEARCH_CACHE_MAX_BYTES = 256L * 1024 * 1024;
+    static final long DEFAULT_SOLR_SEARCH_CACHE_EXPIRY_MINUTES = 20;
     private final StoreStreamer<T> storeStreamer;
     private final FacetTupleStreamTemplate tupleStream;
     private final FacetTupleStreamConverter facetTupleStreamConverter;
     private final RDFStreamer rdfStreamer;
     private final SolrQueryConfig queryConfig;
     private final FacetConfig facetConfig;
+    private Cache<SolrSearchKey, SolrSearchResult> solrSearchResultCache;
 
     @Value("${search.default.page.size:#{null}}")
     private Integer defaultPageSize;
 
+    // the cached pairs share the id tables of their job's result, which are included in its weight;
+    // the limit applies to each id service, as each of them has its own cache
+    @Value(
+            "${id.mapping.solr.search.cache.maximumBytes:"
+                    + DEFAULT_SOLR_SEARCH_CACHE_MAX_BYTES
+                    + "}")
+    private long solrSearchCacheMaximumBytes = DEFAULT_SOLR_SEARCH_CACHE_MAX_BYTES;
+
+    @Value(
+            "${id.mapping.solr.search.cache.expireAfterAccessMinutes:"
+                    + DEFAULT_SOLR_SEARCH_CACHE_EXPIRY_MINUTES
+                    + "}")
+    private long solrSearchCacheExpiryMinutes = DEFAULT_SOLR_SEARCH_CACHE_EXPIRY_MINUTES;
+
     protected BasicIdService(
             StoreStreamer<T> storeStreamer,
             FacetTupleStreamTemplate tupleStream,
@@ -66,28 +92,23 @@ public abstract class BasicIdService<T, U> {
     }
 
     public QueryResult<U> getMappedEntries(
-            SearchRequest searchRequest, IdMappingResult mappingResult) {
-        List<IdMappingStringPair> mappedIds = mappingResult.getMappedIds();
+            SearchRequest searchRequest, IdMappingResult mappingResult, String jobId) {
+        MappedIdPairs mappedIds = mappingResult.getMappedIds();
         List<Facet> facets = null;
         if (needSearchInSolr(searchRequest)) {
-            List<String> toIds = getMappedToIds(mappedIds);
-
-            long start = System.currentTimeMillis();
-            SolrStreamFacetResponse solrStreamResponse = searchBySolrStream(toIds, searchRequest);
-            long end = System.currentTimeMillis();
-            log.debug("Time taken to search solr in ms {}", (end - start));
-
-            facets = solrStreamResponse.getFacets();
-
-            List<String> solrToIds = solrStreamResponse.getIds();
-            if (Utils.notNullNotEmpty(searchRequest.getQuery())) {
-                // Apply Filter in PIR result
-                mappedIds = applyQueryFilter(mappedIds, solrToIds);
-            }
-
-            if (Utils.notNullNotEmpty(searchRequest.getSort())) {
-                mappedIds = applySort(mappedIds, solrToIds);
+            SolrSearchResult solrSearchResult;
+            if (Utils.notNull(jobId)) {
+                // paging through the same job and search re-uses the first page's solr search
+                MappedIdPairs jobMappedIds = mappedIds;
+                solrSearchResult =
+                        solrSearchResultCache.get(
+                                new SolrSearchKey(jobId, searchRequest),
+                                key -> searchInSolr(searchRequest, jobMappedIds));
+            } else {
+                solrSearchResult = searchInSolr(searchRequest, mappedIds);
             }
+            mappedIds = solrSearchResult.getMappedIds();
+            facets = solrSearchResult.getFacets();
         }
 
         // compute the cursor and get subset of accessions as per cursor
@@ -102,19 +123,16 @@ public abstract class BasicIdService<T, U> {
     }
 
     public Stream<U> streamEntries(StreamRequest streamRequest, IdMappingResult mappingResult) {
-        List<IdMappingStringPair> mappedIds =
+        MappedIdPairs mappedIds =
                 streamFilterAndSortEntries(streamRequest, mappingResult.getMappedIds());
         return streamEntries(mappedIds);
     }
 
     public Stream<String> streamRDF(StreamRequest streamRequest, IdMappingResult mappingResult) {
-        List<IdMappingStringPair> fromToPairs =
+        MappedIdPairs fromToPairs =
                 streamFilterAndSortEntries(streamRequest, mappingResult.getMappedIds());
         // get unique entry ids
-        List<String> entryIds = new ArrayList<>();
-        fromToPairs.stream()
-                .filter(ft -> !entryIds.contains(ft.getTo()))
-                .forEach(ft -> entryIds.add(ft.getTo()));
+        List<String> entryIds = fromToPairs.getDistinctToIds();
 
         return this.rdfStreamer.streamRDFXML(entryIds.stream());
     }
@@ -133,10 +151,30 @@ public abstract class BasicIdService<T, U> {
         return this.storeStreamer.streamEntries(toIds);
     }
 
-    private List<IdMappingStringPair> streamFilterAndSortEntries(
-            StreamRequest streamRequest, List<IdMappingStringPair> mappedIds) {
+    protected ExecutorService getStoreFetchExecutor() {
+        return this.storeStreamer.getStoreFetchExecutor();
+    }
+
+    // created once the cache limits have been injected
+    @PostConstruct
+    void initSolrSearchResultCache() {
+        solrSearchResultCache =
+                Caffeine.newBuilder()
+                        .maximumWeight(solrSearchCacheMaximumBytes)
+                        .<SolrSearchKey, SolrSearchResult>weigher(
+                                (key, value) -> weigh(value.getMappedIds()))
+                        .expireAfterAccess(Duration.ofMinutes(solrSearchCacheExpiryMinutes))
+                        .build();
+    }
+
+    private static int weigh(MappedIdPairs mappedIds) {
+        return (int) Math.min(Integer.MAX_VALUE, mappedIds.estimatedBytes());
+    }
+
+    private MappedIdPairs streamFilterAndSortEntries(
+            StreamRequest streamRequest, MappedIdPairs mappedIds) {
         if (Utils.notNull(streamRequest.getQuery()) || Utils.notNull(streamRequest.getSort())) {
-            List<String> toIds = getMappedToIds(mappedIds);
+            List<String> toIds = mappedIds.getDistinctToIds();
 
             long start = System.currentTimeMillis();
 
@@ -158,6 +196,26 @@ public abstract class BasicIdService<T, U> {
         return mappedIds;
     }
 
+    private SolrSearchResult searchInSolr(SearchRequest searchRequest, MappedIdPairs mappedIds) {
+        List<String> toIds = mappedIds.getDistinctToIds();
+
+        long start = System.currentTimeMillis();
+        SolrStreamFacetResponse solrStreamResponse = searchBySolrStream(toIds, searchRequest);
+        long end = System.currentTimeMillis();
+        log.debug("Time taken to search solr in ms {}", (end - start));
+
+        List<String> solrToIds = solrStreamResponse.getIds();
+        if (Utils.notNullNotEmpty(searchRequest.getQuery())) {
+            // Apply Filter in PIR result
+            mappedIds = applyQueryFilter(mappedIds, solrToIds);
+        }
+
+        if (Utils.notNullNotEmpty(searchRequest.getSort())) {
+            mappedIds = applySort(mappedIds, solrToIds);
+        }
+        return new SolrSearchResult(mappedIds, solrStreamResponse.getFacets());
+    }
+
     private SolrStreamFacetResponse searchBySolrStream(
             List<String> ids, SearchRequest searchRequest) {
         SolrStreamFacetRequest solrStreamRequest = createSolrStreamRequest(ids, searchRequest);
@@ -173,18 +231,14 @@ public abstract class BasicIdService<T, U> {
         return pageSize;
     }
 
-    private Stream<U> getPagedEntries(
-            List<IdMappingStringPair> mappedIdPairs, CursorPage cursorPage) {
-        List<IdMappingStringPair> mappedIdsInPage =
+    private Stream<U> getPagedEntries(MappedIdPairs mappedIdPairs, CursorPage cursorPage) {
+        MappedIdPairs mappedIdsInPage =
                 mappedIdPairs.subList(
                         cursorPage.getOffset().intValue(), CursorPage.getNextOffset(cursorPage));
 
         // extract ids to get entries from store
-        Set<String> toIds =
-                mappedIdsInPage.stream()
-                        .map(IdMappingStringPair::getTo)
-                        .collect(Collectors.toSet());
-        Stream<T> entries = getEntries(new ArrayList<>(toIds));
+        List<String> toIds = mappedIdsInPage.getDistinctToIds();
+        Stream<T> entries = getEntries(toIds);
         // accession -> entry map
         Map<String, T> idEntryMap = constructIdEntryMap(entries);
         // from -> uniprot entry
@@ -196,44 +250,20 @@ public abstract class BasicIdService<T, U> {
     /**
      * This method is responsible to sort mappedIdPairs by solrToIds.
      *
-     * <p>Initially we create a Map<To,List<From>> to expose our order attribute "to" Then we
-     * iterate over solrToIds (that is our sort reference) and map to all possible "from" that was
-     * previously created (Map<To,List<From>>).
+     * <p>Pairs are grouped by their "to" id, keeping the relative order of their "from" ids, and
+     * the groups are then emitted in the order of solrToIds (that is our sort reference). Pairs
+     * whose "to" id is not in solrToIds are dropped.
      *
      * @param mappedIdPairs Mapped Ids returned by PIR service
      * @param solrToIds Sorted Ids returned by Solr
      * @return mappedIdPairs sorted by solrToIds
      */
-    private List<IdMappingStringPair> applySort(
-            List<IdMappingStringPair> mappedIdPairs, List<String> solrToIds) {
-        // create a Map<To,List<From>>
-        Map<String, List<String>> toMap =
-                mappedIdPairs.stream()
-                        .collect(
-                                Collectors.groupingBy(
-                                        IdMappingStringPair::getTo,
-                                        Collectors.mapping(
-                                                IdMappingStringPair::getFrom,
-                                                Collectors.toList())));
-        mappedIdPairs =
-                solrToIds.stream()
-                        .flatMap(
-                                to ->
-                                        toMap.get(to).stream()
-                                                .map(from -> new IdMappingStringPair(from, to)))
-                        .collect(Collectors.toList());
-        return mappedIdPairs;
+    private MappedIdPairs applySort(MappedIdPairs mappedIdPairs, List<String> solrToIds) {
+        return mappedIdPairs.orderByTo(solrToIds);
     }
 
-    private List<IdMappingStringPair> applyQueryFilter(
-            List<IdMappingStringPair> mappedIdPairs, List<String> solrToIds) {
-        return mappedIdPairs.stream()
-                .filter(idPair -> solrToIds.contains(idPair.getTo()))
-                .collect(Collectors.toList());
-    }
-
-    private List<String> getMappedToIds(List<IdMappingStringPair> mappedIdPairs) {
-        return mappedIdPairs.stream().map(IdMappingStringPair::getTo).collect(Collectors.toList());
+    private MappedIdPairs applyQueryFilter(MappedIdPairs mappedIdPairs, List<String> solrToIds) {
+        return mappedIdPairs.filterByTo(solrToIds);
     }
 
     private SolrStreamFacetRequest createSolrStreamRequest(
@@ -298,6 +328,30 @@ public abstract class BasicIdService<T, U> {
                 || Utils.notNullNotEmpty(searchRequest.getSort());
     }
 
+    /** Identifies a solr search over the results of an id mapping job. */
+    @EqualsAndHashCode
+    private static class SolrSearchKey {
+        private final String jobId;
+        private final String query;
+        private final String sort;
+        private final String facets;
+
+        SolrSearchKey(String jobId, SearchRequest searchRequest) {
+            this.jobId = jobId;
+            this.query = searchRequest.getQuery();
+            this.sort = searchRequest.getSort();
+            this.facets = searchRequest.getFacets();
+        }
+    }
+
+    /** The filtered and sorted pairs of a job, and the facets, resulting from a solr search. */
+    @Getter
+    @AllArgsConstructor
+    private static class SolrSearchResult {
+        private final MappedIdPairs mappedIds;
+        private final List<Facet> facets;
+    }
+
     @Builder
     @Getter
     private static class SearchStreamRequest implements SearchRequest {
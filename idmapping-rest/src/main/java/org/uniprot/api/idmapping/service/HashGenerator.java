@@ -1,55 +1,126 @@
 package org.uniprot.api.idmapping.service;
 
-import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.spec.InvalidKeySpecException;
-import java.util.List;
-
-import javax.crypto.SecretKeyFactory;
-import javax.crypto.spec.PBEKeySpec;
 
 import org.apache.commons.codec.binary.Hex;
 import org.uniprot.api.common.exception.ServiceException;
 import org.uniprot.api.idmapping.controller.request.IdMappingJobRequest;
+import org.uniprot.api.rest.metrics.RequestMetrics;
 import org.uniprot.core.util.Utils;
 
 /**
+ * Generates a job id from the fingerprint of an id mapping request. Requests that differ only in
+ * letter case, or in whitespace around their values or ids, have the same fingerprint. Empty ids,
+ * e.g., after a trailing comma, are ignored, as they were by earlier job ids.
+ *
+ * <p>The request is fed to the digest as it is read, through a small buffer, rather than first
+ * being copied into a canonical string. Job ids are prefixed with the version of the fingerprint
+ * format, so that any change to the format cannot produce ids that clash with earlier ones. The
+ * time taken to generate each job id is recorded in the {@link RequestMetrics#JOB_ID} timer.
+ *
  * @author sahmad
  * @created 22/02/2021
  */
 public class HashGenerator {
-    private static final String ALGORITHM_NAME = "PBKDF2WithHmacSHA1";
-    private static final int ITERATION_COUNT = 16;
-    private static final int KEY_LENGTH = 160;
-    private static final String SALT_STR = "UNIPROT_SALT";
-    private static final byte[] SALT = SALT_STR.getBytes(StandardCharsets.UTF_8);
+    static final String FINGERPRINT_VERSION = "v2";
+    private static final String ALGORITHM_NAME = "SHA-256";
+    // 160 bits, the same length as the earlier job ids
+    private static final int FINGERPRINT_LENGTH = 20;
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte FIELD_SEPARATOR = '\t';
+    private static final byte ID_SEPARATOR = ',';
+    private static final byte ESCAPE = 0;
 
-    @SuppressWarnings("squid:S2053")
     public String generateHash(IdMappingJobRequest request) throws ServiceException {
+        return RequestMetrics.timer(RequestMetrics.JOB_ID, RequestMetrics.currentRequestTags())
+                .record(() -> fingerprint(request));
+    }
+
+    private static String fingerprint(IdMappingJobRequest request) {
         try {
-            char[] requestArray = convertRequestToArray(request);
-            PBEKeySpec keySpec = new PBEKeySpec(requestArray, SALT, ITERATION_COUNT, KEY_LENGTH);
-            SecretKeyFactory skf = SecretKeyFactory.getInstance(ALGORITHM_NAME);
-            byte[] hash = skf.generateSecret(keySpec).getEncoded();
-            return Hex.encodeHexString(hash);
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            Fingerprint fingerprint = new Fingerprint(MessageDigest.getInstance(ALGORITHM_NAME));
+            fingerprint.addValue(request.getFrom());
+            fingerprint.add(FIELD_SEPARATOR);
+            fingerprint.addValue(request.getTo());
+            fingerprint.add(FIELD_SEPARATOR);
+            fingerprint.addIds(request.getIds());
+            if (Utils.notNullNotEmpty(request.getTaxId())) {
+                fingerprint.add(FIELD_SEPARATOR);
+                fingerprint.addValue(request.getTaxId());
+            }
+            return FINGERPRINT_VERSION + Hex.encodeHexString(fingerprint.digest());
+        } catch (NoSuchAlgorithmException e) {
             throw new ServiceException("Problem during hash creation", e);
         }
     }
 
-    private char[] convertRequestToArray(IdMappingJobRequest request) {
-        StringBuilder builder = new StringBuilder();
-        builder.append(request.getFrom().strip().toLowerCase());
-        builder.append(request.getTo().strip().toLowerCase());
-        List.of(request.getIds().strip().split(",")).stream()
-                .map(String::toLowerCase)
-                .map(String::strip)
-                .forEach(builder::append);
+    private static class Fingerprint {
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+
+        Fingerprint(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        void addValue(String value) {
+            addStripped(value, 0, value.length());
+        }
+
+        void addIds(String ids) {
+            int start = 0;
+            for (int i = 0; i <= ids.length(); i++) {
+                if (i == ids.length() || ids.charAt(i) == ',') {
+                    if (addStripped(ids, start, i)) {
+                        add(ID_SEPARATOR);
+                    }
+                    start = i + 1;
+                }
+            }
+        }
+
+        byte[] digest() {
+            flush();
+            byte[] fingerprint = new byte[FINGERPRINT_LENGTH];
+            System.arraycopy(digest.digest(), 0, fingerprint, 0, FINGERPRINT_LENGTH);
+            return fingerprint;
+        }
+
+        private boolean addStripped(String value, int start, int end) {
+            while (start < end && Character.isWhitespace(value.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+                end--;
+            }
+            for (int i = start; i < end; i++) {
+                add(Character.toLowerCase(value.charAt(i)));
+            }
+            return start < end;
+        }
+
+        private void add(char c) {
+            if (c > 0 && c < 0x80) {
+                add((byte) c);
+            } else {
+                // escape characters outside ASCII, so that each character is encoded uniquely
+                add(ESCAPE);
+                add((byte) (c >> 8));
+                add((byte) c);
+            }
+        }
 
-        if (Utils.notNullNotEmpty(request.getTaxId())) {
-            builder.append(request.getTaxId().strip().toLowerCase());
+        private void add(byte b) {
+            if (position == buffer.length) {
+                flush();
+            }
+            buffer[position++] = b;
         }
 
-        return builder.toString().toCharArray();
+        private void flush() {
+            digest.update(buffer, 0, position);
+            position = 0;
+        }
     }
 }
@@ -19,6 +19,15 @@ public interface IdMappingJobCacheService {
 
     void delete(String key);
 
+    /**
+     * Restarts the lifetime of a cached job, as when the same job is submitted again, without
+     * changing anything else. If the job changes while its lifetime is restarted, e.g., because
+     * it finishes, the change is kept and the lifetime is left as it is.
+     *
+     * @param key the id of the job
+     */
+    void refreshExpiry(String key);
+
     default IdMappingJob getJobAsResource(String jobId) {
         if (exists(jobId)) {
             return get(jobId);
@@ -23,6 +23,22 @@ public abstract class IdMappingPIRService {
 
     public abstract IdMappingResult mapIds(IdMappingJobRequest request);
 
+    /**
+     * Maps the ids of a request, reporting progress to a listener as the chunks that the request
+     * is split into are mapped. Implementations that do not split requests report a single chunk.
+     *
+     * @param request the request whose ids should be mapped
+     * @param progressListener the listener notified of progress
+     * @return the mapping result
+     */
+    public IdMappingResult mapIds(
+            IdMappingJobRequest request, ChunkProgressListener progressListener) {
+        progressListener.onProgress(0, 1);
+        IdMappingResult result = mapIds(request);
+        progressListener.onProgress(1, 1);
+        return result;
+    }
+
     public QueryResult<IdMappingStringPair> queryResultPage(
             IdMappingPageRequest request, IdMappingResult result) {
         int pageSize = Objects.isNull(request.getSize()) ? defaultPageSize : request.getSize();
@@ -47,4 +63,10 @@ public abstract class IdMappingPIRService {
         return QueryResult.of(
                 result.getMappedIds().stream(), null, null, null, result.getUnmappedIds());
     }
+
+    /** Notified of the number of chunks of a request that have been mapped. */
+    @FunctionalInterface
+    public interface ChunkProgressListener {
+        void onProgress(int completedChunks, int totalChunks);
+    }
 }
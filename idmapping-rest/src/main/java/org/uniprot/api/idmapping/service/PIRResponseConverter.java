@@ -4,13 +4,13 @@ import static java.util.Arrays.asList;
 
 import java.util.Arrays;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpServerErrorException;
 import org.uniprot.api.idmapping.controller.request.IdMappingJobRequest;
 import org.uniprot.api.idmapping.model.IdMappingResult;
-import org.uniprot.api.idmapping.model.IdMappingStringPair;
 import org.uniprot.core.util.Utils;
 import org.uniprot.store.config.UniProtDataType;
 import org.uniprot.store.config.searchfield.factory.SearchFieldConfigFactory;
@@ -53,17 +53,27 @@ public class PIRResponseConverter {
 
     public IdMappingResult convertToIDMappings(
             IdMappingJobRequest request, ResponseEntity<String> response) {
+        Stream<String> lines = response.hasBody() ? response.getBody().lines() : Stream.empty();
+        return convertToIDMappings(request, response.getStatusCode(), lines);
+    }
+
+    /**
+     * Converts the lines of a PIR response as they are read, so that the response body need not
+     * be held in memory as a whole.
+     *
+     * @param request the request sent to PIR
+     * @param statusCode the status code of PIR's response
+     * @param lines the lines of PIR's response body
+     * @return the mapping result
+     */
+    public IdMappingResult convertToIDMappings(
+            IdMappingJobRequest request, HttpStatus statusCode, Stream<String> lines) {
         IdMappingResult.IdMappingResultBuilder builder = IdMappingResult.builder();
-        HttpStatus statusCode = response.getStatusCode();
         if (statusCode.equals(HttpStatus.OK)) {
-            if (response.hasBody()) {
-                response.getBody()
-                        .lines()
-                        .filter(line -> !line.startsWith("Taxonomy ID:"))
-                        .filter(Utils::notNullNotEmpty)
-                        //                        .filter(line -> !line.startsWith("MSG:"))
-                        .forEach(line -> convertLine(line, request, builder));
-            }
+            lines.filter(line -> !line.startsWith("Taxonomy ID:"))
+                    .filter(Utils::notNullNotEmpty)
+                    //                        .filter(line -> !line.startsWith("MSG:"))
+                    .forEach(line -> convertLine(line, request, builder));
         } else {
             throw new HttpServerErrorException(statusCode, "PIR id-mapping service error");
         }
@@ -88,13 +98,7 @@ public class PIRResponseConverter {
                 Arrays.stream(rowParts[1].split(";"))
                         // filter based on valid to
                         .filter(toValue -> isValidIdPattern(request.getTo(), toValue))
-                        .map(
-                                toValue ->
-                                        IdMappingStringPair.builder()
-                                                .from(fromValue)
-                                                .to(toValue)
-                                                .build())
-                        .forEach(builder::mappedId);
+                        .forEach(toValue -> builder.mappedId(fromValue, toValue));
             }
         }
     }
@@ -1,18 +1,27 @@
 package org.uniprot.api.idmapping.service.config;
 
+import java.io.File;
+import java.time.Duration;
+
+import org.ehcache.CacheManager;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 import org.uniprot.api.common.concurrency.TaskExecutorProperties;
+import org.uniprot.api.idmapping.model.IdMappingJob;
 import org.uniprot.api.idmapping.service.IdMappingJobCacheService;
-import org.uniprot.api.idmapping.service.impl.EhCacheMappingJobService;
+import org.uniprot.api.idmapping.service.impl.IdMappingJobExpiryPolicy;
+import org.uniprot.api.idmapping.service.impl.TieredMappingJobCacheService;
+import org.uniprot.core.util.Utils;
 
 /**
  * Created 15/02/2021
@@ -24,6 +33,8 @@ import org.uniprot.api.idmapping.service.impl.EhCacheMappingJobService;
 public class IdMappingConfig {
     private static final String PIR_ID_MAPPING_CACHE = "pirIDMappingCache";
     private TaskExecutorProperties taskExecutorProperties = new TaskExecutorProperties();
+    private TaskExecutorProperties pirChunkTaskExecutorProperties = new TaskExecutorProperties();
+    private IdMappingJobCacheProperties cacheProperties = new IdMappingJobCacheProperties();
 
     @Bean
     @Profile("live")
@@ -41,22 +52,80 @@ public class IdMappingConfig {
         return configurableJobTaskExecutor;
     }
 
+    /**
+     * Creates the executor that sends the chunks of large jobs to PIR. It is shared by all jobs,
+     * so its pool size bounds the number of concurrent requests sent to PIR.
+     *
+     * @return the executor
+     */
+    @Bean
+    @Profile("live")
+    public ThreadPoolTaskExecutor pirChunkTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pirChunkTaskExecutorProperties.getCorePoolSize());
+        executor.setMaxPoolSize(pirChunkTaskExecutorProperties.getMaxPoolSize());
+        executor.setQueueCapacity(pirChunkTaskExecutorProperties.getQueueCapacity());
+        executor.setKeepAliveSeconds(pirChunkTaskExecutorProperties.getKeepAliveSeconds());
+        executor.setAllowCoreThreadTimeOut(
+                pirChunkTaskExecutorProperties.isAllowCoreThreadTimeout());
+        executor.setWaitForTasksToCompleteOnShutdown(
+                pirChunkTaskExecutorProperties.isWaitForTasksToCompleteOnShutdown());
+        executor.setThreadNamePrefix("pir-chunk-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
     @Bean
     public RestTemplate idMappingRestTemplate(RestTemplateBuilder restTemplateBuilder) {
         return restTemplateBuilder.build();
     }
 
-    @Bean
+    /**
+     * Creates the cache manager holding id mapping jobs. Jobs are bounded on heap by their
+     * estimated size, expire a fixed time after they were last updated, and when a disk path is
+     * configured, overflow to a persistent disk tier that survives restarts.
+     *
+     * @return the cache manager
+     */
+    @Bean(destroyMethod = "close")
     @Profile("live")
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(PIR_ID_MAPPING_CACHE);
+    public CacheManager idMappingJobCacheManager() {
+        ResourcePoolsBuilder resourcePools =
+                ResourcePoolsBuilder.newResourcePoolsBuilder()
+                        .heap(cacheProperties.getHeapSizeMB(), MemoryUnit.MB);
+        boolean diskEnabled = Utils.notNullNotEmpty(cacheProperties.getDiskPath());
+        if (diskEnabled) {
+            resourcePools =
+                    resourcePools.disk(cacheProperties.getDiskSizeMB(), MemoryUnit.MB, true);
+        }
+
+        CacheConfiguration<String, IdMappingJob> cacheConfiguration =
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                                String.class, IdMappingJob.class, resourcePools)
+                        .withExpiry(
+                                new IdMappingJobExpiryPolicy(
+                                        Duration.ofSeconds(cacheProperties.getTimeToLiveSeconds())))
+                        .withSizeOfMaxObjectGraph(cacheProperties.getMaxObjectGraphSize())
+                        .build();
+
+        CacheManagerBuilder<CacheManager> cacheManagerBuilder =
+                CacheManagerBuilder.newCacheManagerBuilder()
+                        .withCache(PIR_ID_MAPPING_CACHE, cacheConfiguration);
+        if (diskEnabled) {
+            return cacheManagerBuilder
+                    .with(CacheManagerBuilder.persistence(new File(cacheProperties.getDiskPath())))
+                    .build(true);
+        } else {
+            return cacheManagerBuilder.build(true);
+        }
     }
 
     @Bean
     @Profile("live")
-    public IdMappingJobCacheService cacheService(CacheManager cacheManager) {
-        Cache mappingCache = cacheManager.getCache(PIR_ID_MAPPING_CACHE);
-        return new EhCacheMappingJobService(mappingCache);
+    public IdMappingJobCacheService cacheService(CacheManager idMappingJobCacheManager) {
+        return new TieredMappingJobCacheService(
+                idMappingJobCacheManager.getCache(
+                        PIR_ID_MAPPING_CACHE, String.class, IdMappingJob.class));
     }
 
     @Bean
@@ -67,4 +136,13 @@ public class IdMappingConfig {
     public void setTaskExecutorProperties(TaskExecutorProperties taskExecutorProperties) {
         this.taskExecutorProperties = taskExecutorProperties;
     }
+
+    public void setPirChunkTaskExecutorProperties(
+            TaskExecutorProperties pirChunkTaskExecutorProperties) {
+        this.pirChunkTaskExecutorProperties = pirChunkTaskExecutorProperties;
+    }
+
+    public void setCacheProperties(IdMappingJobCacheProperties cacheProperties) {
+        this.cacheProperties = cacheProperties;
+    }
 }
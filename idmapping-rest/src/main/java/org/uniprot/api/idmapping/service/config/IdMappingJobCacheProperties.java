@@ -0,0 +1,24 @@
+package org.uniprot.api.idmapping.service.config;
+
+import lombok.Data;
+
+/**
+ * Records properties used to configure the cache holding id mapping jobs and their results.
+ */
+@Data
+public class IdMappingJobCacheProperties {
+    static final long DEFAULT_TIME_TO_LIVE_SECONDS = 24 * 60 * 60;
+    static final long DEFAULT_HEAP_SIZE_MB = 4000;
+    static final long DEFAULT_MAX_OBJECT_GRAPH_SIZE = 10_000_000;
+    static final long DEFAULT_DISK_SIZE_MB = 20_000;
+
+    // how long a job lives, counted from the last time it was updated
+    private long timeToLiveSeconds = DEFAULT_TIME_TO_LIVE_SECONDS;
+    // maximum (estimated) heap occupied by cached jobs
+    private long heapSizeMB = DEFAULT_HEAP_SIZE_MB;
+    // jobs whose object graph exceeds this size cannot be weighed, and are not cached on heap
+    private long maxObjectGraphSize = DEFAULT_MAX_OBJECT_GRAPH_SIZE;
+    // when set, jobs overflowing the heap are written to a persistent disk tier in this directory
+    private String diskPath;
+    private long diskSizeMB = DEFAULT_DISK_SIZE_MB;
+}
@@ -13,6 +13,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.uniprot.api.common.repository.search.SolrRequestConverter;
 import org.uniprot.api.common.repository.solrstream.FacetTupleStreamTemplate;
 import org.uniprot.api.common.repository.stream.common.TupleStreamTemplate;
@@ -88,13 +89,17 @@ public class UniParcIdMappingResultsConfig {
             @Qualifier("uniParcTupleStreamTemplate") TupleStreamTemplate tupleStreamTemplate,
             @Qualifier("uniParcStreamerConfigProperties") StreamerConfigProperties streamConfig,
             @Qualifier("uniParcDocumentIdStream") TupleStreamDocumentIdStream documentIdStream,
-            @Qualifier("uniParcStoreRetryPolicy") RetryPolicy<Object> uniParcStoreRetryPolicy) {
+            @Qualifier("uniParcStoreRetryPolicy") RetryPolicy<Object> uniParcStoreRetryPolicy,
+            @Qualifier("streamPrefetchTaskExecutor") ThreadPoolTaskExecutor prefetchTaskExecutor,
+            @Qualifier("storeFetchTaskExecutor") ThreadPoolTaskExecutor storeFetchTaskExecutor) {
         return StoreStreamer.<UniParcEntry>builder()
                 .streamConfig(streamConfig)
                 .storeClient(storeClient)
                 .tupleStreamTemplate(tupleStreamTemplate)
                 .storeFetchRetryPolicy(uniParcStoreRetryPolicy)
                 .documentIdStream(documentIdStream)
+                .prefetchExecutor(prefetchTaskExecutor.getThreadPoolExecutor())
+                .storeFetchExecutor(storeFetchTaskExecutor.getThreadPoolExecutor())
                 .build();
     }
 
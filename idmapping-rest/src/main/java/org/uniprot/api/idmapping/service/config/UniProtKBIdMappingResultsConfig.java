@@ -14,6 +14,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.uniprot.api.common.repository.search.SolrRequestConverter;
 import org.uniprot.api.common.repository.solrstream.FacetTupleStreamTemplate;
 import org.uniprot.api.common.repository.stream.common.TupleStreamTemplate;
@@ -71,7 +72,9 @@ public class UniProtKBIdMappingResultsConfig {
             @Qualifier("uniProtKBTupleStreamTemplate") TupleStreamTemplate tupleStreamTemplate,
             @Qualifier("uniProtKBStreamerConfigProperties") StreamerConfigProperties streamConfig,
             @Qualifier("uniprotKBdocumentIdStream") TupleStreamDocumentIdStream documentIdStream,
-            @Qualifier("uniProtKBStoreRetryPolicy") RetryPolicy<Object> uniProtKBStoreRetryPolicy) {
+            @Qualifier("uniProtKBStoreRetryPolicy") RetryPolicy<Object> uniProtKBStoreRetryPolicy,
+            @Qualifier("streamPrefetchTaskExecutor") ThreadPoolTaskExecutor prefetchTaskExecutor,
+            @Qualifier("storeFetchTaskExecutor") ThreadPoolTaskExecutor storeFetchTaskExecutor) {
 
         return StoreStreamer.<UniProtKBEntry>builder()
                 .streamConfig(streamConfig)
@@ -79,6 +82,8 @@ public class UniProtKBIdMappingResultsConfig {
                 .tupleStreamTemplate(tupleStreamTemplate)
                 .storeFetchRetryPolicy(uniProtKBStoreRetryPolicy)
                 .documentIdStream(documentIdStream)
+                .prefetchExecutor(prefetchTaskExecutor.getThreadPoolExecutor())
+                .storeFetchExecutor(storeFetchTaskExecutor.getThreadPoolExecutor())
                 .build();
     }
 
@@ -13,6 +13,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.uniprot.api.common.repository.search.SolrRequestConverter;
 import org.uniprot.api.common.repository.solrstream.FacetTupleStreamTemplate;
 import org.uniprot.api.common.repository.stream.common.TupleStreamTemplate;
@@ -88,7 +89,9 @@ public class UniRefIdMappingResultsConfig {
             @Qualifier("uniRefTupleStreamTemplate") TupleStreamTemplate tupleStreamTemplate,
             @Qualifier("uniRefStreamerConfigProperties") StreamerConfigProperties streamConfig,
             @Qualifier("uniRefDocumentIdStream") TupleStreamDocumentIdStream documentIdStream,
-            @Qualifier("uniRefStoreRetryPolicy") RetryPolicy<Object> uniRefStoreRetryPolicy) {
+            @Qualifier("uniRefStoreRetryPolicy") RetryPolicy<Object> uniRefStoreRetryPolicy,
+            @Qualifier("streamPrefetchTaskExecutor") ThreadPoolTaskExecutor prefetchTaskExecutor,
+            @Qualifier("storeFetchTaskExecutor") ThreadPoolTaskExecutor storeFetchTaskExecutor) {
 
         return StoreStreamer.<UniRefEntryLight>builder()
                 .streamConfig(streamConfig)
@@ -96,6 +99,8 @@ public class UniRefIdMappingResultsConfig {
                 .tupleStreamTemplate(tupleStreamTemplate)
                 .storeFetchRetryPolicy(uniRefStoreRetryPolicy)
                 .documentIdStream(documentIdStream)
+                .prefetchExecutor(prefetchTaskExecutor.getThreadPoolExecutor())
+                .storeFetchExecutor(storeFetchTaskExecutor.getThreadPoolExecutor())
                 .build();
     }
 
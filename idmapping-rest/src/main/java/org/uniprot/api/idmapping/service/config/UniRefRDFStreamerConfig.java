@@ -2,24 +2,21 @@ package org.uniprot.api.idmapping.service.config;
 
 import java.io.IOException;
 import java.time.temporal.ChronoUnit;
-import java.util.Collections;
 
 import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.RetryPolicy;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.uniprot.api.common.repository.stream.rdf.RDFRestTemplateFactory;
 import org.uniprot.api.common.repository.stream.rdf.RDFStreamer;
 import org.uniprot.api.common.repository.stream.rdf.RDFStreamerConfigProperties;
-import org.uniprot.api.rest.output.RequestResponseLoggingInterceptor;
 import org.uniprot.api.rest.respository.RepositoryConfig;
 import org.uniprot.api.rest.service.RDFPrologs;
 import org.uniprot.api.rest.service.RDFService;
@@ -36,7 +33,8 @@ public class UniRefRDFStreamerConfig {
     @Bean
     public RDFStreamer uniRefRDFStreamer(
             RestTemplate uniRefRestTemplate,
-            RDFStreamerConfigProperties uniRefRDFConfigProperties) {
+            RDFStreamerConfigProperties uniRefRDFConfigProperties,
+            @Qualifier("rdfFetchTaskExecutor") ThreadPoolTaskExecutor rdfFetchTaskExecutor) {
         int rdfRetryDelay = uniRefRDFConfigProperties.getRetryDelayMillis();
         int maxRdfRetryDelay = rdfRetryDelay * 8;
         RetryPolicy<Object> rdfRetryPolicy =
@@ -52,6 +50,9 @@ public class UniRefRDFStreamerConfig {
 
         return RDFStreamer.builder()
                 .rdfBatchSize(uniRefRDFConfigProperties.getBatchSize())
+                .rdfFetchQueueDepth(uniRefRDFConfigProperties.getFetchQueueDepth())
+                .rdfFetchTimeoutMillis(uniRefRDFConfigProperties.getFetchTimeoutMillis())
+                .rdfFetchExecutor(rdfFetchTaskExecutor.getThreadPoolExecutor())
                 .rdfFetchRetryPolicy(rdfRetryPolicy)
                 .rdfService(new RDFService<>(uniRefRestTemplate, String.class))
                 .rdfProlog(RDFPrologs.UNIREF_RDF_PROLOG)
@@ -61,14 +62,7 @@ public class UniRefRDFStreamerConfig {
     @Bean
     @Profile("live")
     RestTemplate uniRefRestTemplate(RDFStreamerConfigProperties uniRefRDFConfigProperties) {
-        ClientHttpRequestFactory factory =
-                new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory());
-        RestTemplate restTemplate = new RestTemplate(factory);
-        restTemplate.setInterceptors(
-                Collections.singletonList(new RequestResponseLoggingInterceptor()));
-        restTemplate.setUriTemplateHandler(
-                new DefaultUriBuilderFactory(uniRefRDFConfigProperties.getRequestUrl()));
-        return restTemplate;
+        return RDFRestTemplateFactory.createRestTemplate(uniRefRDFConfigProperties);
     }
 
     @Bean
@@ -0,0 +1,57 @@
+package org.uniprot.api.idmapping.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import org.ehcache.expiry.ExpiryPolicy;
+import org.uniprot.api.idmapping.model.IdMappingJob;
+
+/**
+ * Expires an {@link IdMappingJob} a fixed time after it was last updated, rather than after it
+ * was put into the cache. This means that a job restored from a persistent tier, or re-put after
+ * finishing, keeps the lifetime it had. Reading a job does not extend its lifetime; re-submitting
+ * the same job does, since that updates the job.
+ */
+public class IdMappingJobExpiryPolicy implements ExpiryPolicy<String, IdMappingJob> {
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    public IdMappingJobExpiryPolicy(Duration timeToLive) {
+        this(timeToLive, Clock.systemUTC());
+    }
+
+    IdMappingJobExpiryPolicy(Duration timeToLive, Clock clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    @Override
+    public Duration getExpiryForCreation(String key, IdMappingJob value) {
+        return remainingTimeToLive(value);
+    }
+
+    @Override
+    public Duration getExpiryForAccess(String key, Supplier<? extends IdMappingJob> value) {
+        // leave expiry unchanged
+        return null;
+    }
+
+    @Override
+    public Duration getExpiryForUpdate(
+            String key, Supplier<? extends IdMappingJob> oldValue, IdMappingJob newValue) {
+        return remainingTimeToLive(newValue);
+    }
+
+    private Duration remainingTimeToLive(IdMappingJob job) {
+        Date lastUpdated = job.getUpdated() == null ? job.getCreated() : job.getUpdated();
+        if (lastUpdated == null) {
+            return timeToLive;
+        }
+
+        Duration age = Duration.between(lastUpdated.toInstant(), clock.instant());
+        Duration remaining = timeToLive.minus(age);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
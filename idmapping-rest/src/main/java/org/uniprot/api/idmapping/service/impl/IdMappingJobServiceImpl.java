@@ -1,6 +1,5 @@
 package org.uniprot.api.idmapping.service.impl;
 
-import java.util.Date;
 import java.util.Set;
 
 import lombok.extern.slf4j.Slf4j;
@@ -80,13 +79,10 @@ public class IdMappingJobServiceImpl implements IdMappingJobService {
                     idMappingJob.getIdMappingRequest().getIds().split(",").length,
                     idsForLog(idMappingJob.getIdMappingRequest().getIds()));
             // create task and submit
-            JobTask jobTask = new JobTask(idMappingJob, pirService);
+            JobTask jobTask = new JobTask(idMappingJob, pirService, cacheService);
             jobTaskExecutor.execute(jobTask);
         } else {
-            IdMappingJob job = this.cacheService.get(jobId);
-
-            // update expiry time
-            job.setUpdated(new Date());
+            this.cacheService.refreshExpiry(jobId);
         }
 
         return new JobSubmitResponse(jobId);
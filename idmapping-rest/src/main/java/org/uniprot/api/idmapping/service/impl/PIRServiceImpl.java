@@ -2,11 +2,28 @@ package org.uniprot.api.idmapping.service.impl;
 
 import static org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -14,6 +31,7 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.uniprot.api.idmapping.controller.request.IdMappingJobRequest;
 import org.uniprot.api.idmapping.model.IdMappingResult;
+import org.uniprot.api.idmapping.model.MappedIdPairs;
 import org.uniprot.api.idmapping.service.IdMappingPIRService;
 import org.uniprot.api.idmapping.service.PIRResponseConverter;
 import org.uniprot.store.config.idmapping.IdMappingFieldConfig;
@@ -27,6 +45,7 @@ import org.uniprot.store.config.idmapping.IdMappingFieldConfig;
 @Service
 public class PIRServiceImpl extends IdMappingPIRService {
     static final HttpHeaders HTTP_HEADERS = new HttpHeaders();
+    static final int DEFAULT_CHUNK_SIZE = 10_000;
 
     static {
         HTTP_HEADERS.setContentType(APPLICATION_FORM_URLENCODED);
@@ -35,6 +54,8 @@ public class PIRServiceImpl extends IdMappingPIRService {
     public final String pirIdMappingUrl;
     private final RestTemplate restTemplate;
     private final PIRResponseConverter pirResponseConverter;
+    private final int chunkSize;
+    private final ThreadPoolTaskExecutor chunkExecutor;
 
     @Autowired
     public PIRServiceImpl(
@@ -42,12 +63,17 @@ public class PIRServiceImpl extends IdMappingPIRService {
             @Value("${search.default.page.size:#{null}}") Integer defaultPageSize,
             @Value(
                             "${id.mapping.pir.url:https://idmapping.uniprot.org/cgi-bin/idmapping_http_client_async}")
-                    String pirMappingUrl) {
+                    String pirMappingUrl,
+            @Value("${id.mapping.pir.chunkSize:" + DEFAULT_CHUNK_SIZE + "}") int chunkSize,
+            ThreadPoolTaskExecutor pirChunkTaskExecutor) {
 
         super(defaultPageSize);
         this.restTemplate = idMappingRestTemplate;
         this.pirResponseConverter = new PIRResponseConverter();
         this.pirIdMappingUrl = UriComponentsBuilder.fromHttpUrl(pirMappingUrl).toUriString();
+        this.chunkSize = chunkSize;
+        // shared by all jobs, which bounds the number of concurrent requests sent to PIR
+        this.chunkExecutor = pirChunkTaskExecutor;
     }
 
     public String getPirIdMappingUrl() {
@@ -56,11 +82,121 @@ public class PIRServiceImpl extends IdMappingPIRService {
 
     @Override
     public IdMappingResult mapIds(IdMappingJobRequest request) {
+        return mapIds(request, (completedChunks, totalChunks) -> {});
+    }
+
+    /**
+     * Maps the ids of a request by splitting them into chunks of at most {@code chunkSize} ids,
+     * which are sent to PIR concurrently. The results of the chunks are merged in the order of
+     * the request's ids.
+     *
+     * @param request the request whose ids should be mapped
+     * @param progressListener the listener notified as each chunk is mapped
+     * @return the mapping result
+     */
+    @Override
+    public IdMappingResult mapIds(
+            IdMappingJobRequest request, ChunkProgressListener progressListener) {
+        List<IdMappingJobRequest> chunks = createChunks(request);
+        progressListener.onProgress(0, chunks.size());
+        if (chunks.size() == 1) {
+            IdMappingResult result = mapChunk(chunks.get(0));
+            progressListener.onProgress(1, 1);
+            return result;
+        }
+
+        CompletionService<IdMappingResult> completionService =
+                new ExecutorCompletionService<>(chunkExecutor);
+        List<Future<IdMappingResult>> chunkResults = new ArrayList<>();
+        for (IdMappingJobRequest chunk : chunks) {
+            chunkResults.add(completionService.submit(() -> mapChunk(chunk)));
+        }
+
+        try {
+            for (int completed = 1; completed <= chunks.size(); completed++) {
+                // fail fast if any chunk fails
+                completionService.take().get();
+                progressListener.onProgress(completed, chunks.size());
+            }
+
+            IdMappingResult.IdMappingResultBuilder builder = IdMappingResult.builder();
+            for (Future<IdMappingResult> chunkResult : chunkResults) {
+                mergeInto(builder, chunkResult.get());
+            }
+            return builder.build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted whilst mapping ids", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new IllegalStateException("Could not map ids", e.getCause());
+            }
+        } finally {
+            chunkResults.forEach(chunkResult -> chunkResult.cancel(true));
+        }
+    }
+
+    private List<IdMappingJobRequest> createChunks(IdMappingJobRequest request) {
+        String[] requestIds = request.getIds().split(",");
+        if (requestIds.length <= chunkSize) {
+            return List.of(request);
+        }
+
+        // an id repeated in different chunks would be mapped, and its pairs merged, more than once
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(requestIds)));
+
+        List<IdMappingJobRequest> chunks = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            IdMappingJobRequest chunk = new IdMappingJobRequest();
+            chunk.setFrom(request.getFrom());
+            chunk.setTo(request.getTo());
+            chunk.setTaxId(request.getTaxId());
+            int end = Math.min(start + chunkSize, ids.size());
+            chunk.setIds(String.join(",", ids.subList(start, end)));
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private IdMappingResult mapChunk(IdMappingJobRequest chunk) {
         HttpEntity<MultiValueMap<String, String>> requestBody =
-                new HttpEntity<>(createPostBody(request), HTTP_HEADERS);
+                new HttpEntity<>(createPostBody(chunk), HTTP_HEADERS);
+
+        // parse the response as it is read, rather than first reading it into a String
+        return restTemplate.execute(
+                pirIdMappingUrl,
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(requestBody),
+                response -> {
+                    try (BufferedReader reader =
+                            new BufferedReader(
+                                    new InputStreamReader(
+                                            response.getBody(), getCharset(response)))) {
+                        return pirResponseConverter.convertToIDMappings(
+                                chunk, response.getStatusCode(), reader.lines());
+                    }
+                });
+    }
+
+    private static Charset getCharset(ClientHttpResponse response) {
+        MediaType contentType = response.getHeaders().getContentType();
+        if (contentType != null && contentType.getCharset() != null) {
+            return contentType.getCharset();
+        } else {
+            // the default charset used when reading the response as a String
+            return StandardCharsets.ISO_8859_1;
+        }
+    }
 
-        return pirResponseConverter.convertToIDMappings(
-                request, restTemplate.postForEntity(pirIdMappingUrl, requestBody, String.class));
+    private static void mergeInto(
+            IdMappingResult.IdMappingResultBuilder builder, IdMappingResult chunkResult) {
+        builder.unmappedIds(chunkResult.getUnmappedIds());
+        MappedIdPairs mappedIds = chunkResult.getMappedIds();
+        for (int i = 0; i < mappedIds.size(); i++) {
+            builder.mappedId(mappedIds.getFrom(i), mappedIds.getTo(i));
+        }
     }
 
     private MultiValueMap<String, String> createPostBody(IdMappingJobRequest request) {
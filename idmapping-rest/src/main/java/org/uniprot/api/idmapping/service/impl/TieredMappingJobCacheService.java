@@ -0,0 +1,54 @@
+package org.uniprot.api.idmapping.service.impl;
+
+import java.util.Date;
+
+import org.ehcache.Cache;
+import org.uniprot.api.idmapping.model.IdMappingJob;
+import org.uniprot.api.idmapping.service.IdMappingJobCacheService;
+
+/**
+ * An {@link IdMappingJobCacheService} backed directly by an Ehcache {@link Cache}, which is
+ * bounded by weight on heap, and can overflow to a persistent disk tier.
+ *
+ * <p>Note that jobs are mutated after being put into the cache, so they must be put again after
+ * each update for the cache to re-weigh them, and to persist the change to any disk tier. A job
+ * read from a disk tier is a copy, so it must not be put back unless it is known to be current.
+ */
+public class TieredMappingJobCacheService implements IdMappingJobCacheService {
+    private final Cache<String, IdMappingJob> cache;
+
+    public TieredMappingJobCacheService(Cache<String, IdMappingJob> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void put(String key, IdMappingJob value) {
+        this.cache.put(key, value);
+    }
+
+    @Override
+    public IdMappingJob get(String key) {
+        return this.cache.get(key);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return this.cache.containsKey(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        this.cache.remove(key);
+    }
+
+    @Override
+    public void refreshExpiry(String key) {
+        IdMappingJob cachedJob = this.cache.get(key);
+        if (cachedJob != null) {
+            // compare against a snapshot, since the job may be mutated in place by its task
+            IdMappingJob job = cachedJob.toBuilder().build();
+            IdMappingJob refreshedJob = job.toBuilder().updated(new Date()).build();
+            this.cache.replace(key, job, refreshedJob);
+        }
+    }
+}
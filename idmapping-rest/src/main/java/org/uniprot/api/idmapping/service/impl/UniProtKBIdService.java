@@ -91,7 +91,9 @@ public class UniProtKBIdService extends BasicIdService<UniProtKBEntry, UniProtKB
                         mappedIds,
                         streamConfig.getStoreBatchSize(),
                         storeClient,
-                        storeFetchRetryPolicy);
+                        storeFetchRetryPolicy,
+                        getStoreFetchExecutor(),
+                        streamConfig.getStoreFetchSubBatchCount());
         return StreamSupport.stream(batchIterable.spliterator(), false).flatMap(Collection::stream);
     }
 }
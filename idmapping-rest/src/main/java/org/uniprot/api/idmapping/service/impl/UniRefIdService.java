@@ -86,7 +86,9 @@ public class UniRefIdService extends BasicIdService<UniRefEntryLight, UniRefEntr
                         mappedIds,
                         streamConfig.getStoreBatchSize(),
                         storeClient,
-                        storeFetchRetryPolicy);
+                        storeFetchRetryPolicy,
+                        getStoreFetchExecutor(),
+                        streamConfig.getStoreFetchSubBatchCount());
         return StreamSupport.stream(batchIterable.spliterator(), false).flatMap(Collection::stream);
     }
 }
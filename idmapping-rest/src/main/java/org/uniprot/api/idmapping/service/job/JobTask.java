@@ -5,10 +5,10 @@ import java.util.concurrent.TimeUnit;
 
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.web.client.RestClientException;
 import org.uniprot.api.idmapping.controller.response.JobStatus;
 import org.uniprot.api.idmapping.model.IdMappingJob;
 import org.uniprot.api.idmapping.model.IdMappingResult;
+import org.uniprot.api.idmapping.service.IdMappingJobCacheService;
 import org.uniprot.api.idmapping.service.IdMappingPIRService;
 
 import com.google.common.base.Stopwatch;
@@ -21,19 +21,27 @@ import com.google.common.base.Stopwatch;
 public class JobTask implements Runnable {
     private final IdMappingJob job;
     private final IdMappingPIRService pirService;
+    private final IdMappingJobCacheService cacheService;
 
-    public JobTask(IdMappingJob job, IdMappingPIRService pirService) {
+    public JobTask(
+            IdMappingJob job,
+            IdMappingPIRService pirService,
+            IdMappingJobCacheService cacheService) {
         this.job = job;
         this.pirService = pirService;
+        this.cacheService = cacheService;
     }
 
     @Override
     public void run() {
         this.job.setJobStatus(JobStatus.RUNNING);
         this.job.setUpdated(new Date());
+        // the cache may hold a copy of the job, e.g., on disk, so the change must be put
+        this.cacheService.put(this.job.getJobId(), this.job);
         try {
             Stopwatch stopwatch = Stopwatch.createStarted();
-            IdMappingResult pirResponse = pirService.mapIds(this.job.getIdMappingRequest());
+            IdMappingResult pirResponse =
+                    pirService.mapIds(this.job.getIdMappingRequest(), this::updateProgress);
             stopwatch.stop();
 
             log.debug(
@@ -45,10 +53,21 @@ public class JobTask implements Runnable {
             this.job.setJobStatus(JobStatus.FINISHED);
             this.job.setIdMappingResult(pirResponse);
             this.job.setUpdated(new Date());
-        } catch (RestClientException restException) {
-            this.job.setErrorMessage(restException.getMessage());
+        } catch (Exception e) {
+            // any failure, e.g., of a chunk of the ids, ends the job rather than leaving it running
+            log.error("[idmapping/run/{}] mapping failed", job.getJobId(), e);
+            this.job.setErrorMessage(e.getMessage());
             this.job.setJobStatus(JobStatus.ERROR);
             this.job.setUpdated(new Date());
         }
+
+        // re-put the job so that the cache re-weighs it and restarts its time to live
+        this.cacheService.put(this.job.getJobId(), this.job);
+    }
+
+    private void updateProgress(int completedChunks, int totalChunks) {
+        this.job.setTotalChunks(totalChunks);
+        this.job.setCompletedChunks(completedChunks);
+        this.cacheService.put(this.job.getJobId(), this.job);
     }
 }
@@ -1,12 +1,13 @@
 package org.uniprot.api.idmapping.service.store;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
 
+import org.uniprot.api.common.repository.stream.store.SubBatchStoreFetcher;
 import org.uniprot.api.idmapping.model.EntryPair;
 import org.uniprot.api.idmapping.model.IdMappingStringPair;
 import org.uniprot.store.datastore.UniProtStoreClient;
@@ -19,18 +20,28 @@ public abstract class BatchStoreEntryPairIterable<T extends EntryPair<S>, S>
         implements Iterable<Collection<T>> {
     private final Iterator<IdMappingStringPair> sourceIterator;
     private final int batchSize;
-    private final UniProtStoreClient<S> storeClient;
-    private final RetryPolicy<Object> retryPolicy;
+    private final SubBatchStoreFetcher<S> storeFetcher;
 
     protected BatchStoreEntryPairIterable(
             Iterable<IdMappingStringPair> sourceIterable,
             int batchSize,
             UniProtStoreClient<S> storeClient,
             RetryPolicy<Object> retryPolicy) {
+        this(sourceIterable, batchSize, storeClient, retryPolicy, null, 0);
+    }
+
+    protected BatchStoreEntryPairIterable(
+            Iterable<IdMappingStringPair> sourceIterable,
+            int batchSize,
+            UniProtStoreClient<S> storeClient,
+            RetryPolicy<Object> retryPolicy,
+            ExecutorService storeFetchExecutor,
+            int storeFetchSubBatchCount) {
         this.batchSize = batchSize;
         this.sourceIterator = sourceIterable.iterator();
-        this.storeClient = storeClient;
-        this.retryPolicy = retryPolicy;
+        this.storeFetcher =
+                new SubBatchStoreFetcher<>(
+                        storeClient, retryPolicy, storeFetchExecutor, storeFetchSubBatchCount);
     }
 
     @Override
@@ -61,7 +72,7 @@ public abstract class BatchStoreEntryPairIterable<T extends EntryPair<S>, S>
     }
 
     protected List<T> convertBatch(Set<String> tos, List<IdMappingStringPair> batch) {
-        List<S> entries = Failsafe.with(retryPolicy).get(() -> storeClient.getEntries(tos));
+        List<S> entries = storeFetcher.getEntries(tos);
 
         // entry -> map <entryId, entry>
         Map<String, S> idEntryMap =
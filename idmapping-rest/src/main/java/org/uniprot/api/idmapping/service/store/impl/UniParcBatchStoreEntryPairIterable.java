@@ -1,6 +1,7 @@
 package org.uniprot.api.idmapping.service.store.impl;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import net.jodah.failsafe.RetryPolicy;
 
@@ -25,6 +26,22 @@ public class UniParcBatchStoreEntryPairIterable
         super(sourceIterable, batchSize, storeClient, retryPolicy);
     }
 
+    public UniParcBatchStoreEntryPairIterable(
+            Iterable<IdMappingStringPair> sourceIterable,
+            int batchSize,
+            UniProtStoreClient<UniParcEntry> storeClient,
+            RetryPolicy<Object> retryPolicy,
+            ExecutorService storeFetchExecutor,
+            int storeFetchSubBatchCount) {
+        super(
+                sourceIterable,
+                batchSize,
+                storeClient,
+                retryPolicy,
+                storeFetchExecutor,
+                storeFetchSubBatchCount);
+    }
+
     @Override
     protected UniParcEntryPair convertToPair(
             IdMappingStringPair mId, Map<String, UniParcEntry> idEntryMap) {
@@ -1,6 +1,7 @@
 package org.uniprot.api.idmapping.service.store.impl;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import net.jodah.failsafe.RetryPolicy;
 
@@ -25,6 +26,22 @@ public class UniRefBatchStoreEntryPairIterable
         super(sourceIterable, batchSize, storeClient, retryPolicy);
     }
 
+    public UniRefBatchStoreEntryPairIterable(
+            Iterable<IdMappingStringPair> sourceIterable,
+            int batchSize,
+            UniProtStoreClient<UniRefEntryLight> storeClient,
+            RetryPolicy<Object> retryPolicy,
+            ExecutorService storeFetchExecutor,
+            int storeFetchSubBatchCount) {
+        super(
+                sourceIterable,
+                batchSize,
+                storeClient,
+                retryPolicy,
+                storeFetchExecutor,
+                storeFetchSubBatchCount);
+    }
+
     @Override
     protected UniRefEntryPair convertToPair(
             IdMappingStringPair mId, Map<String, UniRefEntryLight> idEntryMap) {
@@ -4,7 +4,6 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.startsWith;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -47,6 +46,7 @@ import org.uniprot.api.idmapping.model.IdMappingJob;
 import org.uniprot.api.rest.output.UniProtMediaType;
 import org.uniprot.api.rest.respository.facet.impl.UniParcFacetConfig;
 import org.uniprot.api.rest.service.RDFPrologs;
+import org.uniprot.api.rest.service.RDFServiceTestUtils;
 import org.uniprot.core.uniparc.UniParcEntry;
 import org.uniprot.store.config.UniProtDataType;
 import org.uniprot.store.datastore.UniProtStoreClient;
@@ -134,7 +134,7 @@ class UniParcIdMappingResultsControllerIT extends AbstractIdMappingResultsContro
     void saveEntriesStore() throws Exception {
         when(uniParcRestTemplate.getUriTemplateHandler())
                 .thenReturn(new DefaultUriBuilderFactory());
-        when(uniParcRestTemplate.getForObject(any(), any())).thenReturn(SAMPLE_RDF);
+        RDFServiceTestUtils.mockRDFBatchResponse(uniParcRestTemplate, SAMPLE_RDF);
 
         saveEntries(cloudSolrClient, storeClient);
     }
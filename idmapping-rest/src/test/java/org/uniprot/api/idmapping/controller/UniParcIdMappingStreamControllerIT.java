@@ -2,7 +2,6 @@ package org.uniprot.api.idmapping.controller;
 
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -35,6 +34,7 @@ import org.uniprot.api.idmapping.IdMappingREST;
 import org.uniprot.api.idmapping.controller.utils.DataStoreTestConfig;
 import org.uniprot.api.idmapping.controller.utils.JobOperation;
 import org.uniprot.api.idmapping.model.IdMappingJob;
+import org.uniprot.api.rest.service.RDFServiceTestUtils;
 import org.uniprot.core.uniparc.UniParcEntry;
 import org.uniprot.store.config.UniProtDataType;
 import org.uniprot.store.datastore.UniProtStoreClient;
@@ -114,7 +114,7 @@ class UniParcIdMappingStreamControllerIT extends AbstractIdMappingStreamControll
     void saveEntriesStore() throws Exception {
         when(uniParcRestTemplate.getUriTemplateHandler())
                 .thenReturn(new DefaultUriBuilderFactory());
-        when(uniParcRestTemplate.getForObject(any(), any())).thenReturn(SAMPLE_RDF);
+        RDFServiceTestUtils.mockRDFBatchResponse(uniParcRestTemplate, SAMPLE_RDF);
 
         saveEntries(cloudSolrClient, storeClient);
     }
@@ -4,7 +4,6 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.startsWith;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -52,6 +51,7 @@ import org.uniprot.api.idmapping.model.IdMappingJob;
 import org.uniprot.api.rest.output.UniProtMediaType;
 import org.uniprot.api.rest.respository.facet.impl.UniProtKBFacetConfig;
 import org.uniprot.api.rest.service.RDFPrologs;
+import org.uniprot.api.rest.service.RDFServiceTestUtils;
 import org.uniprot.core.uniprotkb.UniProtKBEntry;
 import org.uniprot.store.config.UniProtDataType;
 import org.uniprot.store.datastore.UniProtStoreClient;
@@ -141,7 +141,7 @@ class UniProtKBIdMappingResultsControllerIT extends AbstractIdMappingResultsCont
 
         when(uniProtKBRestTemplate.getUriTemplateHandler())
                 .thenReturn(new DefaultUriBuilderFactory());
-        when(uniProtKBRestTemplate.getForObject(any(), any())).thenReturn(SAMPLE_RDF);
+        RDFServiceTestUtils.mockRDFBatchResponse(uniProtKBRestTemplate, SAMPLE_RDF);
 
         for (int i = 1; i <= 20; i++) {
             saveEntry(i, cloudSolrClient, storeClient);
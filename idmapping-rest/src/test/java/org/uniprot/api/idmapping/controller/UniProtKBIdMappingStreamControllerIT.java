@@ -2,7 +2,6 @@ package org.uniprot.api.idmapping.controller;
 
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -38,6 +37,7 @@ import org.uniprot.api.idmapping.IdMappingREST;
 import org.uniprot.api.idmapping.controller.utils.DataStoreTestConfig;
 import org.uniprot.api.idmapping.controller.utils.JobOperation;
 import org.uniprot.api.idmapping.model.IdMappingJob;
+import org.uniprot.api.rest.service.RDFServiceTestUtils;
 import org.uniprot.core.uniprotkb.UniProtKBEntry;
 import org.uniprot.store.config.UniProtDataType;
 import org.uniprot.store.datastore.UniProtStoreClient;
@@ -119,7 +119,7 @@ class UniProtKBIdMappingStreamControllerIT extends AbstractIdMappingStreamContro
 
         when(uniProtKBRestTemplate.getUriTemplateHandler())
                 .thenReturn(new DefaultUriBuilderFactory());
-        when(uniProtKBRestTemplate.getForObject(any(), any())).thenReturn(SAMPLE_RDF);
+        RDFServiceTestUtils.mockRDFBatchResponse(uniProtKBRestTemplate, SAMPLE_RDF);
 
         for (int i = 1; i <= 20; i++) {
             saveEntry(i, cloudSolrClient, storeClient);
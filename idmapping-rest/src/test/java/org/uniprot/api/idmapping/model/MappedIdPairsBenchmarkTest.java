@@ -0,0 +1,62 @@
+package org.uniprot.api.idmapping.model;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Times the filter, sort and de-duplication paths used by id mapping results, with pair counts
+ * seen in large mapping jobs, and logs how long they take. Each case takes well under a second
+ * when these paths are linear, and minutes when they are not.
+ *
+ * <p>Being slow and machine dependent, it is excluded from the unit tests, and is run with the
+ * {@code benchmark-tests} profile. The behaviour of these paths is tested by {@link
+ * MappedIdPairsTest}.
+ */
+@Slf4j
+@Tag("benchmark")
+class MappedIdPairsBenchmarkTest {
+    // on average, 5 from ids map to each to id
+    private static final int FROM_IDS_PER_TO_ID = 5;
+
+    @ParameterizedTest
+    @ValueSource(ints = {100_000, 500_000, 2_000_000})
+    void filterSortAndDeduplicate(int pairCount) {
+        Random random = new Random(pairCount);
+        int toIdCount = pairCount / FROM_IDS_PER_TO_ID;
+        MappedIdPairs.Builder builder = MappedIdPairs.builder();
+        for (int i = 0; i < pairCount; i++) {
+            builder.add(String.format("GENE_%07d", i), toId(random.nextInt(toIdCount)));
+        }
+        MappedIdPairs pairs = builder.build();
+
+        // solr returns a shuffled half of the to ids, matching a query and in sort order
+        List<String> solrToIds = new ArrayList<>(pairs.getDistinctToIds());
+        Collections.shuffle(solrToIds, random);
+        List<String> matchingToIds = solrToIds.subList(0, solrToIds.size() / 2);
+
+        long start = System.nanoTime();
+        MappedIdPairs filtered = pairs.filterByTo(matchingToIds);
+        MappedIdPairs sorted = filtered.orderByTo(matchingToIds);
+        List<String> entryIds = sorted.getDistinctToIds();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("{} pairs filtered, sorted and de-duplicated in {} ms", pairCount, elapsedMillis);
+        assertThat(sorted.size(), is(filtered.size()));
+        assertThat(entryIds, is(matchingToIds));
+    }
+
+    private static String toId(int index) {
+        return String.format("P%05d", index);
+    }
+}
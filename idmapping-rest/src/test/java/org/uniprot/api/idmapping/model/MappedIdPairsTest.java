@@ -0,0 +1,239 @@
+package org.uniprot.api.idmapping.model;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MappedIdPairsTest {
+    @Test
+    void emptyBuilderCreatesEmptyPairs() {
+        MappedIdPairs pairs = MappedIdPairs.builder().build();
+
+        assertThat(pairs, is(empty()));
+        assertThat(pairs.getDistinctToIds(), is(empty()));
+    }
+
+    @Test
+    void canGetPairsInInsertionOrder() {
+        MappedIdPairs pairs =
+                MappedIdPairs.builder().add("f1", "t1").add("f2", "t2").add("f1", "t3").build();
+
+        assertThat(
+                pairs,
+                contains(
+                        new IdMappingStringPair("f1", "t1"),
+                        new IdMappingStringPair("f2", "t2"),
+                        new IdMappingStringPair("f1", "t3")));
+        assertThat(pairs.getFrom(2), is("f1"));
+        assertThat(pairs.getTo(2), is("t3"));
+    }
+
+    @Test
+    void equalIdsAreStoredOnce() {
+        MappedIdPairs pairs =
+                MappedIdPairs.builder()
+                        .add("f1", new String("t1"))
+                        .add("f2", new String("t1"))
+                        .build();
+
+        assertThat(pairs.getTo(0), is(sameInstance(pairs.getTo(1))));
+    }
+
+    @Test
+    void distinctToIdsKeepFirstAppearanceOrder() {
+        MappedIdPairs pairs =
+                MappedIdPairs.builder()
+                        .add("f1", "t2")
+                        .add("f2", "t1")
+                        .add("f3", "t2")
+                        .add("f4", "t3")
+                        .build();
+
+        assertThat(pairs.getDistinctToIds(), contains("t2", "t1", "t3"));
+    }
+
+    @Test
+    void subListIsViewOfPairs() {
+        MappedIdPairs pairs =
+                MappedIdPairs.builder()
+                        .add("f1", "t1")
+                        .add("f2", "t2")
+                        .add("f3", "t1")
+                        .add("f4", "t3")
+                        .build();
+
+        MappedIdPairs page = pairs.subList(1, 3);
+
+        assertThat(
+                page,
+                contains(new IdMappingStringPair("f2", "t2"), new IdMappingStringPair("f3", "t1")));
+        assertThat(page.getDistinctToIds(), contains("t2", "t1"));
+        assertThat(page.subList(1, 2), contains(new IdMappingStringPair("f3", "t1")));
+    }
+
+    @Test
+    void canFilterByToIds() {
+        MappedIdPairs pairs =
+                MappedIdPairs.builder()
+                        .add("f1", "t1")
+                        .add("f2", "t2")
+                        .add("f3", "t1")
+                        .add("f4", "t3")
+                        .build();
+
+        MappedIdPairs filtered = pairs.filterByTo(List.of("t3", "t1"));
+
+        assertThat(
+                filtered,
+                contains(
+                        new IdMappingStringPair("f1", "t1"),
+                        new IdMappingStringPair("f3", "t1"),
+                        new IdMappingStringPair("f4", "t3")));
+        assertThat(filtered.getDistinctToIds(), contains("t1", "t3"));
+    }
+
+    @Test
+    void canOrderByToIds() {
+        MappedIdPairs pairs =
+                MappedIdPairs.builder()
+                        .add("f1", "t1")
+                        .add("f2", "t2")
+                        .add("f3", "t1")
+                        .add("f4", "t3")
+                        .build();
+
+        MappedIdPairs ordered = pairs.orderByTo(List.of("t3", "t1", "t2"));
+
+        assertThat(
+                ordered,
+                contains(
+                        new IdMappingStringPair("f4", "t3"),
+                        new IdMappingStringPair("f1", "t1"),
+                        new IdMappingStringPair("f3", "t1"),
+                        new IdMappingStringPair("f2", "t2")));
+    }
+
+    @Test
+    void orderingDropsPairsWithUnorderedToIds() {
+        MappedIdPairs pairs =
+                MappedIdPairs.builder().add("f1", "t1").add("f2", "t2").add("f3", "t3").build();
+
+        MappedIdPairs ordered = pairs.orderByTo(List.of("t3", "unknown", "t1"));
+
+        assertThat(
+                ordered,
+                contains(new IdMappingStringPair("f3", "t3"), new IdMappingStringPair("f1", "t1")));
+    }
+
+    @Test
+    void canFilterAndOrderSubList() {
+        MappedIdPairs pairs =
+                MappedIdPairs.builder()
+                        .add("f1", "t1")
+                        .add("f2", "t2")
+                        .add("f3", "t1")
+                        .add("f4", "t3")
+                        .build()
+                        .subList(1, 4);
+
+        assertThat(pairs.filterByTo(List.of("t1")), contains(new IdMappingStringPair("f3", "t1")));
+        assertThat(
+                pairs.orderByTo(List.of("t3", "t2", "t1")),
+                contains(
+                        new IdMappingStringPair("f4", "t3"),
+                        new IdMappingStringPair("f2", "t2"),
+                        new IdMappingStringPair("f3", "t1")));
+    }
+
+    @Test
+    void estimatedBytesIncludeSharedIdTables() {
+        MappedIdPairs pairs =
+                MappedIdPairs.builder()
+                        .add("f1", "t1")
+                        .add("f2", "t2")
+                        .add("f3", "t3")
+                        .build();
+
+        assertThat(pairs.subList(0, 1).estimatedBytes(), is(pairs.estimatedBytes()));
+        // the filtered pairs have their own index arrays, holding 1 rather than 3 indexes
+        assertThat(
+                pairs.filterByTo(List.of("t1")).estimatedBytes(),
+                is(pairs.estimatedBytes() - 2L * 2 * Integer.BYTES));
+    }
+
+    @Test
+    void filterAndOrderOfManyPairsMatchNaiveFilterAndSort() {
+        Random random = new Random(42);
+        MappedIdPairs.Builder builder = MappedIdPairs.builder();
+        List<IdMappingStringPair> expectedPairs = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            IdMappingStringPair pair = new IdMappingStringPair("f" + i, "t" + random.nextInt(300));
+            builder.add(pair);
+            expectedPairs.add(pair);
+        }
+        MappedIdPairs pairs = builder.build();
+        List<String> orderedToIds = new ArrayList<>(pairs.getDistinctToIds());
+        Collections.shuffle(orderedToIds, random);
+        List<String> keptToIds = orderedToIds.subList(0, orderedToIds.size() / 2);
+
+        // a stable sort keeps the order of the pairs with the same to id
+        expectedPairs.removeIf(pair -> !keptToIds.contains(pair.getTo()));
+        expectedPairs.sort(Comparator.comparingInt(pair -> keptToIds.indexOf(pair.getTo())));
+
+        MappedIdPairs filtered = pairs.filterByTo(keptToIds);
+        assertThat(filtered.orderByTo(keptToIds), is(expectedPairs));
+        assertThat(pairs.orderByTo(keptToIds), is(expectedPairs));
+        assertThat(filtered.orderByTo(keptToIds).getDistinctToIds(), is(keptToIds));
+    }
+
+    @Test
+    void indexOutsideSubListFails() {
+        MappedIdPairs page =
+                MappedIdPairs.builder().add("f1", "t1").add("f2", "t2").build().subList(0, 1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> page.get(1));
+    }
+
+    @Test
+    void equalsListOfSamePairs() {
+        MappedIdPairs pairs = MappedIdPairs.builder().add("f1", "t1").add("f2", "t2").build();
+
+        assertThat(
+                pairs.equals(
+                        List.of(
+                                new IdMappingStringPair("f1", "t1"),
+                                new IdMappingStringPair("f2", "t2"))),
+                is(true));
+    }
+
+    @Test
+    void canSerialiseAndDeserialise() throws IOException, ClassNotFoundException {
+        MappedIdPairs pairs = MappedIdPairs.builder().add("f1", "t1").add("f2", "t2").build();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(pairs.subList(1, 2));
+        }
+        try (ObjectInputStream in =
+                new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object deserialised = in.readObject();
+            assertThat(deserialised.equals(List.of(new IdMappingStringPair("f2", "t2"))), is(true));
+        }
+    }
+}
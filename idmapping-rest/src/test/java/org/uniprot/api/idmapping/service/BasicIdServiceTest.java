@@ -0,0 +1,169 @@
+package org.uniprot.api.idmapping.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.solr.client.solrj.io.Tuple;
+import org.apache.solr.client.solrj.io.stream.TupleStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uniprot.api.common.repository.search.facet.FacetConfig;
+import org.uniprot.api.common.repository.solrstream.FacetTupleStreamTemplate;
+import org.uniprot.api.common.repository.stream.store.StoreStreamer;
+import org.uniprot.api.idmapping.model.IdMappingResult;
+import org.uniprot.api.idmapping.model.IdMappingStringPair;
+import org.uniprot.api.rest.request.SearchRequest;
+import org.uniprot.store.config.UniProtDataType;
+
+class BasicIdServiceTest {
+    private static final String ID_FIELD = "id";
+    private FacetTupleStreamTemplate tupleStreamTemplate;
+    private FakeIdService idService;
+    private IdMappingResult mappingResult;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StoreStreamer<String> storeStreamer = mock(StoreStreamer.class);
+        when(storeStreamer.streamEntries(anyList()))
+                .thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).stream());
+
+        // solr matches t3 and t1, in that order
+        tupleStreamTemplate = mock(FacetTupleStreamTemplate.class);
+        when(tupleStreamTemplate.create(any(), any()))
+                .thenAnswer(invocation -> createTupleStream("t3", "t1"));
+
+        FacetConfig facetConfig = mock(FacetConfig.class);
+        when(facetConfig.getFacetPropertyMap()).thenReturn(Collections.emptyMap());
+
+        idService = new FakeIdService(storeStreamer, tupleStreamTemplate, facetConfig);
+        idService.initSolrSearchResultCache();
+        mappingResult =
+                IdMappingResult.builder()
+                        .mappedId("f1", "t1")
+                        .mappedId("f2", "t2")
+                        .mappedId("f3", "t3")
+                        .build();
+    }
+
+    @Test
+    void filtersMappedEntriesBySolrSearch() {
+        List<IdMappingStringPair> entries =
+                idService
+                        .getMappedEntries(createSearchRequest("query"), mappingResult, "job")
+                        .getContent()
+                        .collect(Collectors.toList());
+
+        assertThat(
+                entries,
+                contains(new IdMappingStringPair("f1", "t1"), new IdMappingStringPair("f3", "t3")));
+    }
+
+    @Test
+    void repeatingSameJobSearchSearchesSolrOnce() {
+        idService.getMappedEntries(createSearchRequest("query"), mappingResult, "job");
+        idService.getMappedEntries(createSearchRequest("query"), mappingResult, "job");
+
+        verify(tupleStreamTemplate, times(1)).create(any(), any());
+    }
+
+    @Test
+    void differentSearchOrJobSearchesSolrAgain() {
+        idService.getMappedEntries(createSearchRequest("query"), mappingResult, "job");
+        idService.getMappedEntries(createSearchRequest("another query"), mappingResult, "job");
+        idService.getMappedEntries(createSearchRequest("query"), mappingResult, "another job");
+
+        verify(tupleStreamTemplate, times(3)).create(any(), any());
+    }
+
+    @Test
+    void searchWithoutJobIdIsNotCached() {
+        idService.getMappedEntries(createSearchRequest("query"), mappingResult, null);
+        idService.getMappedEntries(createSearchRequest("query"), mappingResult, null);
+
+        verify(tupleStreamTemplate, times(2)).create(any(), any());
+    }
+
+    private static SearchRequest createSearchRequest(String query) {
+        SearchRequest searchRequest = mock(SearchRequest.class);
+        when(searchRequest.getQuery()).thenReturn(query);
+        when(searchRequest.getSize()).thenReturn(10);
+        return searchRequest;
+    }
+
+    private static TupleStream createTupleStream(String... ids) throws IOException {
+        TupleStream tupleStream = mock(TupleStream.class);
+        Tuple[] tuples =
+                Stream.concat(
+                                Arrays.stream(ids).map(BasicIdServiceTest::createTuple),
+                                Stream.of(eof()))
+                        .toArray(Tuple[]::new);
+        when(tupleStream.read())
+                .thenReturn(tuples[0], Arrays.copyOfRange(tuples, 1, tuples.length));
+        return tupleStream;
+    }
+
+    private static Tuple createTuple(String id) {
+        Tuple tuple = new Tuple();
+        Map<Object, Object> map = new HashMap<>();
+        map.put(ID_FIELD, id);
+        tuple.fields = map;
+        return tuple;
+    }
+
+    private static Tuple eof() {
+        Tuple tuple = new Tuple();
+        tuple.EOF = true;
+        return tuple;
+    }
+
+    private static class FakeIdService extends BasicIdService<String, IdMappingStringPair> {
+        FakeIdService(
+                StoreStreamer<String> storeStreamer,
+                FacetTupleStreamTemplate tupleStream,
+                FacetConfig facetConfig) {
+            super(storeStreamer, tupleStream, facetConfig, null, null);
+        }
+
+        @Override
+        protected IdMappingStringPair convertToPair(
+                IdMappingStringPair mId, Map<String, String> idEntryMap) {
+            return mId;
+        }
+
+        @Override
+        protected String getEntryId(String entry) {
+            return entry;
+        }
+
+        @Override
+        protected String getSolrIdField() {
+            return ID_FIELD;
+        }
+
+        @Override
+        protected UniProtDataType getUniProtDataType() {
+            return UniProtDataType.UNIPROTKB;
+        }
+
+        @Override
+        protected Stream<IdMappingStringPair> streamEntries(List<IdMappingStringPair> mappedIds) {
+            return mappedIds.stream();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.uniprot.api.idmapping.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.uniprot.api.idmapping.controller.request.IdMappingJobRequest;
+
+/**
+ * Measures the cost of creating a job id on submission of large id mapping requests, and logs the
+ * average time taken to fingerprint each request.
+ *
+ * <p>Being slow and machine dependent, it is excluded from the unit tests, and is run with the
+ * {@code benchmark-tests} profile.
+ */
+@Slf4j
+@Tag("benchmark")
+class HashGeneratorBenchmarkTest {
+    private static final int REPETITIONS = 100;
+
+    @ParameterizedTest
+    @ValueSource(ints = {100_000, 500_000})
+    void fingerprintLargeRequests(int idCount) {
+        IdMappingJobRequest request = new IdMappingJobRequest();
+        request.setFrom("UniProtKB_AC-ID");
+        request.setTo("EMBL");
+        request.setIds(
+                IntStream.range(0, idCount)
+                        .mapToObj(i -> String.format("P%06d", i))
+                        .collect(Collectors.joining(",")));
+        HashGenerator generator = new HashGenerator();
+        String expectedHash = generator.generateHash(request);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REPETITIONS; i++) {
+            assertThat(generator.generateHash(request), is(expectedHash));
+        }
+        long elapsed = System.nanoTime() - start;
+
+        log.info(
+                "Fingerprinted {} ids in {} ms on average",
+                idCount,
+                TimeUnit.NANOSECONDS.toMillis(elapsed / REPETITIONS));
+    }
+}
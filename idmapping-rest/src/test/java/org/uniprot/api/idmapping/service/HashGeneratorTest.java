@@ -1,5 +1,10 @@
 package org.uniprot.api.idmapping.service;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 
@@ -55,4 +60,75 @@ class HashGeneratorTest {
         Assertions.assertNotNull(req2Hash);
         Assertions.assertNotEquals(req1Hash, req2Hash);
     }
+
+    @Test
+    void hashIsPrefixedWithFingerprintVersion() {
+        String hash = new HashGenerator().generateHash(createRequest("1,2,3,4"));
+
+        assertThat(hash, startsWith(HashGenerator.FINGERPRINT_VERSION));
+    }
+
+    @Test
+    void hashIsStableAcrossReleases() {
+        // changing the fingerprint format requires a new FINGERPRINT_VERSION
+        String hash = new HashGenerator().generateHash(createRequest("1,2,3,4"));
+
+        assertThat(hash, is("v2c67279f5a7e7592f1b969128ee94cd33b9c00e89"));
+    }
+
+    @Test
+    void caseAndSurroundingWhitespaceAreIgnored() {
+        HashGenerator generator = new HashGenerator();
+        IdMappingJobRequest request = new IdMappingJobRequest();
+        request.setFrom(" FROM1");
+        request.setTo("To1 ");
+        request.setIds(" 1 ,2,\t3, 4 ");
+        request.setTaxId("TAXONID1");
+
+        assertThat(
+                generator.generateHash(request),
+                is(generator.generateHash(createRequest("1,2,3,4"))));
+    }
+
+    @Test
+    void emptyIdsAreIgnored() {
+        HashGenerator generator = new HashGenerator();
+
+        assertThat(
+                generator.generateHash(createRequest("1,2,3,4, ,")),
+                is(generator.generateHash(createRequest("1,2,,3,4"))));
+        assertThat(
+                generator.generateHash(createRequest("1,2,3,4,")),
+                is(generator.generateHash(createRequest("1,2,3,4"))));
+    }
+
+    @Test
+    void idBoundariesChangeHash() {
+        HashGenerator generator = new HashGenerator();
+
+        assertThat(
+                generator.generateHash(createRequest("1,23")),
+                is(not(generator.generateHash(createRequest("12,3")))));
+    }
+
+    @Test
+    void fieldBoundariesChangeHash() {
+        HashGenerator generator = new HashGenerator();
+        IdMappingJobRequest request = createRequest("1");
+        request.setFrom("from1t");
+        request.setTo("o1");
+
+        assertThat(
+                generator.generateHash(request),
+                is(not(generator.generateHash(createRequest("1")))));
+    }
+
+    private static IdMappingJobRequest createRequest(String ids) {
+        IdMappingJobRequest request = new IdMappingJobRequest();
+        request.setFrom("from1");
+        request.setTo("to1");
+        request.setIds(ids);
+        request.setTaxId("taxonId1");
+        return request;
+    }
 }
@@ -52,6 +52,11 @@ class IdMappingJobCacheServiceTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void refreshExpiry(String key) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public IdMappingJob get(String key) {
             if (key.equals(NEW_JOB_IN_CACHE)) {
@@ -65,7 +65,7 @@ class IdMappingJobServiceTest {
             throws InvalidKeySpecException, NoSuchAlgorithmException, InterruptedException {
         // when
         IdMappingJobRequest request = createIdMappingRequest();
-        when(this.pirService.mapIds(request))
+        when(this.pirService.mapIds(eq(request), any()))
                 .thenReturn(
                         IdMappingResult.builder()
                                 .mappedId(new IdMappingStringPair("from", "to"))
@@ -101,7 +101,7 @@ class IdMappingJobServiceTest {
                                                 .mappedId(new IdMappingStringPair("from", "to"))
                                                 .build())))
                 .when(this.pirService)
-                .mapIds(request);
+                .mapIds(eq(request), any());
 
         JobSubmitResponse submitResponse = this.jobService.submitJob(request);
         Assertions.assertNotNull(submitResponse);
@@ -126,7 +126,7 @@ class IdMappingJobServiceTest {
         // when
         IdMappingJobRequest request = createIdMappingRequest();
         String errorMsg = "Error during rest call";
-        when(this.pirService.mapIds(request))
+        when(this.pirService.mapIds(eq(request), any()))
                 .thenThrow(new RestClientException(errorMsg))
                 .thenReturn(IdMappingResult.builder().build());
 
@@ -153,13 +153,13 @@ class IdMappingJobServiceTest {
         Assertions.assertNull(submittedJob.getIdMappingResult());
         Assertions.assertNotNull(submittedJob.getCreated());
         Assertions.assertNotNull(submittedJob.getUpdated());
-        Mockito.verify(pirService, times(1)).mapIds(request);
+        Mockito.verify(pirService, times(1)).mapIds(eq(request), any());
 
         this.jobService.submitJob(request);
         IdMappingJob newJobAsResource = this.cacheService.getJobAsResource(jobId);
         MatcherAssert.assertThat(
                 newJobAsResource.getJobStatus(), IsIn.oneOf(JobStatus.NEW, JobStatus.RUNNING));
-        Mockito.verify(pirService, times(2)).mapIds(request);
+        Mockito.verify(pirService, times(2)).mapIds(eq(request), any());
     }
 
     @Nested
@@ -1,16 +1,19 @@
 package org.uniprot.api.idmapping.service;
 
-import java.util.Collections;
+import java.time.Duration;
 
+import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
 import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheFactoryBean;
-import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.uniprot.api.idmapping.service.impl.EhCacheMappingJobService;
+import org.uniprot.api.idmapping.model.IdMappingJob;
+import org.uniprot.api.idmapping.service.impl.IdMappingJobExpiryPolicy;
+import org.uniprot.api.idmapping.service.impl.TieredMappingJobCacheService;
 
 /**
  * @author sahmad
@@ -18,28 +21,28 @@ import org.uniprot.api.idmapping.service.impl.EhCacheMappingJobService;
  */
 @TestConfiguration
 public class TestConfig {
-    @Bean
-    @Profile("offline")
-    public CacheManager cacheManager(Cache fakeCache) {
-        SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(Collections.singletonList(fakeCache));
-        return cacheManager;
-    }
+    private static final String FAKE_CACHE = "fakeCache";
 
-    @Bean
+    @Bean(destroyMethod = "close")
     @Profile("offline")
-    public Cache fakeCache() {
-        ConcurrentMapCacheFactoryBean cacheFactoryBean = new ConcurrentMapCacheFactoryBean();
-        cacheFactoryBean.setName("fakeCache");
-        cacheFactoryBean.afterPropertiesSet();
-        return cacheFactoryBean.getObject();
+    public CacheManager idMappingJobCacheManager() {
+        return CacheManagerBuilder.newCacheManagerBuilder()
+                .withCache(
+                        FAKE_CACHE,
+                        CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                                        String.class,
+                                        IdMappingJob.class,
+                                        ResourcePoolsBuilder.newResourcePoolsBuilder()
+                                                .heap(10, MemoryUnit.MB))
+                                .withExpiry(new IdMappingJobExpiryPolicy(Duration.ofMinutes(20))))
+                .build(true);
     }
 
     @Bean
     @Profile("offline")
-    public IdMappingJobCacheService cacheService(CacheManager cacheManager) {
-        Cache cache = cacheManager.getCache("fakeCache");
-        return new EhCacheMappingJobService(cache);
+    public IdMappingJobCacheService cacheService(CacheManager idMappingJobCacheManager) {
+        return new TieredMappingJobCacheService(
+                idMappingJobCacheManager.getCache(FAKE_CACHE, String.class, IdMappingJob.class));
     }
 
     @Bean
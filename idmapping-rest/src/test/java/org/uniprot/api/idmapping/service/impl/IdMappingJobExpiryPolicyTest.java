@@ -0,0 +1,83 @@
+package org.uniprot.api.idmapping.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uniprot.api.idmapping.model.IdMappingJob;
+
+class IdMappingJobExpiryPolicyTest {
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(20);
+    private Instant now;
+    private IdMappingJobExpiryPolicy expiryPolicy;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2026-10-18T10:00:00Z");
+        expiryPolicy =
+                new IdMappingJobExpiryPolicy(TIME_TO_LIVE, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void newlyUpdatedJobLivesForFullTimeToLive() {
+        IdMappingJob job = IdMappingJob.builder().updated(Date.from(now)).build();
+
+        assertThat(expiryPolicy.getExpiryForCreation("id", job), is(TIME_TO_LIVE));
+    }
+
+    @Test
+    void creationExpiryIsReducedByTimeSinceLastUpdate() {
+        IdMappingJob job =
+                IdMappingJob.builder().updated(Date.from(now.minus(Duration.ofMinutes(5)))).build();
+
+        assertThat(expiryPolicy.getExpiryForCreation("id", job), is(Duration.ofMinutes(15)));
+    }
+
+    @Test
+    void jobUpdatedLongAgoExpiresImmediately() {
+        IdMappingJob job =
+                IdMappingJob.builder().updated(Date.from(now.minus(Duration.ofHours(1)))).build();
+
+        assertThat(expiryPolicy.getExpiryForCreation("id", job), is(Duration.ZERO));
+    }
+
+    @Test
+    void usesCreatedWhenNeverUpdated() {
+        IdMappingJob job =
+                IdMappingJob.builder()
+                        .created(Date.from(now.minus(Duration.ofMinutes(10))))
+                        .updated(null)
+                        .build();
+
+        assertThat(expiryPolicy.getExpiryForCreation("id", job), is(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void accessDoesNotChangeExpiry() {
+        IdMappingJob job = IdMappingJob.builder().updated(Date.from(now)).build();
+
+        assertThat(expiryPolicy.getExpiryForAccess("id", () -> job), is(nullValue()));
+    }
+
+    @Test
+    void updateExpiryIsBasedOnNewValue() {
+        IdMappingJob oldJob =
+                IdMappingJob.builder()
+                        .updated(Date.from(now.minus(Duration.ofMinutes(15))))
+                        .build();
+        IdMappingJob newJob =
+                IdMappingJob.builder().updated(Date.from(now.minus(Duration.ofMinutes(1)))).build();
+
+        assertThat(
+                expiryPolicy.getExpiryForUpdate("id", () -> oldJob, newJob),
+                is(Duration.ofMinutes(19)));
+    }
+}
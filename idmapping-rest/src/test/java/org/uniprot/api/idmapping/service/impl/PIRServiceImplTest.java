@@ -2,54 +2,233 @@ package org.uniprot.api.idmapping.service.impl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
-import static org.uniprot.api.idmapping.service.impl.PIRServiceImpl.HTTP_HEADERS;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.ResponseEntity;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.uniprot.api.idmapping.controller.request.IdMappingJobRequest;
 import org.uniprot.api.idmapping.model.IdMappingResult;
 import org.uniprot.api.idmapping.model.IdMappingStringPair;
 import org.uniprot.store.config.idmapping.IdMappingFieldConfig;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests {@link PIRServiceImpl} against a local stub of the PIR id mapping endpoint, which maps
+ * each id X to X_TO, except for ids starting with "unmapped", and fails for ids starting with
+ * "fail".
+ */
 class PIRServiceImplTest {
-    private RestTemplate restTemplate;
+    private static final int CHUNK_SIZE = 10;
+    private static final int CONCURRENT_CHUNKS = 2;
+    private HttpServer pirStub;
+    private ExecutorService pirStubExecutor;
+    private List<Map<String, String>> receivedRequests;
+    private AtomicInteger inFlightRequests;
+    private AtomicInteger maxInFlightRequests;
+    private ThreadPoolTaskExecutor pirChunkTaskExecutor;
     private PIRServiceImpl pirService;
 
     @BeforeEach
-    void setUp() {
-        restTemplate = mock(RestTemplate.class);
-        pirService = new PIRServiceImpl(restTemplate, 5, "http://localhost");
+    void setUp() throws IOException {
+        receivedRequests = Collections.synchronizedList(new ArrayList<>());
+        inFlightRequests = new AtomicInteger();
+        maxInFlightRequests = new AtomicInteger();
+
+        pirStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        pirStub.createContext("/pir", this::handlePIRRequest);
+        pirStubExecutor = Executors.newCachedThreadPool();
+        pirStub.setExecutor(pirStubExecutor);
+        pirStub.start();
+
+        pirChunkTaskExecutor = new ThreadPoolTaskExecutor();
+        pirChunkTaskExecutor.setCorePoolSize(CONCURRENT_CHUNKS);
+        pirChunkTaskExecutor.setMaxPoolSize(CONCURRENT_CHUNKS);
+        pirChunkTaskExecutor.initialize();
+
+        pirService =
+                new PIRServiceImpl(
+                        new RestTemplate(),
+                        5,
+                        "http://localhost:" + pirStub.getAddress().getPort() + "/pir",
+                        CHUNK_SIZE,
+                        pirChunkTaskExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pirStub.stop(0);
+        pirStubExecutor.shutdownNow();
+        pirChunkTaskExecutor.shutdown();
     }
 
     @Test
     void createsExpectedResult() {
+        IdMappingJobRequest request = createRequest("id");
+
+        IdMappingResult idMappingResult = pirService.mapIds(request);
+
+        assertThat(
+                idMappingResult.getMappedIds(), contains(new IdMappingStringPair("id", "id_TO")));
+        assertThat(receivedRequests, hasSize(1));
+        Map<String, String> form = receivedRequests.get(0);
+        assertThat(form.get("ids"), is("id"));
+        assertThat(
+                form.get("from"),
+                is(IdMappingFieldConfig.convertDbNameToPIRDbName(request.getFrom())));
+        assertThat(
+                form.get("to"), is(IdMappingFieldConfig.convertDbNameToPIRDbName(request.getTo())));
+        assertThat(form.get("tax_off"), is("NO"));
+        assertThat(form.get("taxid"), is("taxId"));
+        assertThat(form.get("async"), is("NO"));
+    }
+
+    @Test
+    void largeRequestIsSentInChunksAndMergedInOrder() {
+        List<String> ids = createIds(25);
+        ids.set(3, "unmapped3");
+        ids.set(17, "unmapped17");
+
+        IdMappingResult idMappingResult = pirService.mapIds(createRequest(String.join(",", ids)));
+
+        assertThat(receivedRequests, hasSize(3));
+        List<IdMappingStringPair> expectedPairs =
+                ids.stream()
+                        .filter(id -> !id.startsWith("unmapped"))
+                        .map(id -> new IdMappingStringPair(id, id + "_TO"))
+                        .collect(Collectors.toList());
+        assertThat(idMappingResult.getMappedIds(), is(expectedPairs));
+        assertThat(idMappingResult.getUnmappedIds(), contains("unmapped3", "unmapped17"));
+    }
+
+    @Test
+    void idsRepeatedAcrossChunksAreMappedOnce() {
+        List<String> ids = createIds(15);
+        ids.addAll(ids.subList(0, 5));
+
+        IdMappingResult idMappingResult = pirService.mapIds(createRequest(String.join(",", ids)));
+
+        assertThat(receivedRequests, hasSize(2));
+        List<IdMappingStringPair> expectedPairs =
+                createIds(15).stream()
+                        .map(id -> new IdMappingStringPair(id, id + "_TO"))
+                        .collect(Collectors.toList());
+        assertThat(idMappingResult.getMappedIds(), is(expectedPairs));
+    }
+
+    @Test
+    void chunksAreSentWithBoundedParallelism() {
+        pirService.mapIds(createRequest(String.join(",", createIds(CHUNK_SIZE * 6))));
+
+        assertThat(receivedRequests, hasSize(6));
+        assertThat(maxInFlightRequests.get(), is(lessThanOrEqualTo(CONCURRENT_CHUNKS)));
+    }
+
+    @Test
+    void reportsProgressAsChunksAreMapped() {
+        List<String> progress = Collections.synchronizedList(new ArrayList<>());
+
+        pirService.mapIds(
+                createRequest(String.join(",", createIds(CHUNK_SIZE * 3))),
+                (completed, total) -> progress.add(completed + "/" + total));
+
+        assertThat(progress, contains("0/3", "1/3", "2/3", "3/3"));
+    }
+
+    @Test
+    void failedChunkFailsMapping() {
+        List<String> ids = createIds(CHUNK_SIZE * 3);
+        ids.set(CHUNK_SIZE + 1, "fail");
+        IdMappingJobRequest request = createRequest(String.join(",", ids));
+
+        assertThrows(HttpServerErrorException.class, () -> pirService.mapIds(request));
+    }
+
+    private void handlePIRRequest(HttpExchange exchange) throws IOException {
+        int inFlight = inFlightRequests.incrementAndGet();
+        maxInFlightRequests.accumulateAndGet(inFlight, Math::max);
+        try {
+            String body =
+                    new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Map<String, String> form = parseForm(body);
+            receivedRequests.add(form);
+
+            // give other chunks the chance to be sent concurrently
+            Thread.sleep(50);
+
+            String[] ids = form.get("ids").split(",");
+            if (Arrays.stream(ids).anyMatch(id -> id.startsWith("fail"))) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            String response =
+                    Arrays.stream(ids)
+                            .map(id -> id.startsWith("unmapped") ? id : id + "\t" + id + "_TO")
+                            .collect(Collectors.joining("\n", "", "\n"));
+            byte[] responseBytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, responseBytes.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(responseBytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlightRequests.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> form = new HashMap<>();
+        for (String param : body.split("&")) {
+            String[] keyValue = param.split("=", 2);
+            form.put(
+                    keyValue[0],
+                    keyValue.length > 1
+                            ? URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8)
+                            : "");
+        }
+        return form;
+    }
+
+    private static List<String> createIds(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "id" + i)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static IdMappingJobRequest createRequest(String ids) {
         IdMappingJobRequest request = new IdMappingJobRequest();
         request.setFrom("UniProtKB_AC-ID");
         request.setTo("EMBL");
-        request.setIds("id");
+        request.setIds(ids);
         request.setTaxId("taxId");
-
-        MultiValueMap<String, String> map = new LinkedMultiValueMap<>();
-        map.add("ids", String.join(",", request.getIds()));
-        map.add("from", IdMappingFieldConfig.convertDbNameToPIRDbName(request.getFrom()));
-        map.add("to", IdMappingFieldConfig.convertDbNameToPIRDbName(request.getTo()));
-        map.add("tax_off", "NO"); // we do not need PIR's header line, "Taxonomy ID:"
-        map.add("taxid", request.getTaxId());
-        map.add("async", "NO");
-
-        when(restTemplate.postForEntity(
-                        "http://localhost", new HttpEntity<>(map, HTTP_HEADERS), String.class))
-                .thenReturn(ResponseEntity.ok().body("From1\tTo1\n"));
-
-        IdMappingResult idMappingResult = pirService.mapIds(request);
-        assertThat(
-                idMappingResult.getMappedIds(), contains(new IdMappingStringPair("From1", "To1")));
+        return request;
     }
 }
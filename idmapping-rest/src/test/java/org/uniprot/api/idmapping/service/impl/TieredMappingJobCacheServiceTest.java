@@ -0,0 +1,124 @@
+package org.uniprot.api.idmapping.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uniprot.api.idmapping.controller.response.JobStatus;
+import org.uniprot.api.idmapping.model.IdMappingJob;
+import org.uniprot.api.idmapping.model.IdMappingResult;
+import org.uniprot.api.idmapping.model.IdMappingStringPair;
+
+class TieredMappingJobCacheServiceTest {
+    private static final String CACHE_NAME = "jobCache";
+    private CacheManager cacheManager;
+    private TieredMappingJobCacheService jobService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager =
+                CacheManagerBuilder.newCacheManagerBuilder()
+                        .withCache(
+                                CACHE_NAME,
+                                CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                                                String.class,
+                                                IdMappingJob.class,
+                                                ResourcePoolsBuilder.newResourcePoolsBuilder()
+                                                        .heap(10, MemoryUnit.MB))
+                                        .withExpiry(
+                                                new IdMappingJobExpiryPolicy(
+                                                        Duration.ofMinutes(20))))
+                        .build(true);
+        jobService =
+                new TieredMappingJobCacheService(
+                        cacheManager.getCache(CACHE_NAME, String.class, IdMappingJob.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void canPutThenGet() {
+        IdMappingJob job = createJob(new Date());
+
+        jobService.put("id", job);
+
+        assertThat(jobService.get("id"), is(job));
+    }
+
+    @Test
+    void gettingNonExistentKeyReturnsNull() {
+        assertThat(jobService.get("THIS IS A KEY THAT DOES NOT EXIST"), is(nullValue()));
+    }
+
+    @Test
+    void checkExists() {
+        assertThat(jobService.exists("id"), is(false));
+
+        jobService.put("id", createJob(new Date()));
+
+        assertThat(jobService.exists("id"), is(true));
+    }
+
+    @Test
+    void canDelete() {
+        jobService.put("id", createJob(new Date()));
+        assertThat(jobService.exists("id"), is(true));
+
+        jobService.delete("id");
+        assertThat(jobService.exists("id"), is(false));
+    }
+
+    @Test
+    void jobLastUpdatedBeyondTimeToLiveIsNotCached() {
+        Date longAgo = new Date(System.currentTimeMillis() - Duration.ofHours(1).toMillis());
+
+        jobService.put("id", createJob(longAgo));
+
+        assertThat(jobService.exists("id"), is(false));
+        assertThat(jobService.get("id"), is(nullValue()));
+    }
+
+    @Test
+    void refreshingExpiryRestartsLifetimeOfJob() {
+        Date almostExpired =
+                new Date(System.currentTimeMillis() - Duration.ofMinutes(19).toMillis());
+        jobService.put("id", createJob(almostExpired));
+
+        jobService.refreshExpiry("id");
+
+        IdMappingJob refreshedJob = jobService.get("id");
+        assertThat(refreshedJob.getUpdated().after(almostExpired), is(true));
+        assertThat(refreshedJob.getJobStatus(), is(JobStatus.FINISHED));
+    }
+
+    @Test
+    void refreshingExpiryOfNonExistentJobDoesNothing() {
+        jobService.refreshExpiry("id");
+
+        assertThat(jobService.exists("id"), is(false));
+    }
+
+    private IdMappingJob createJob(Date updated) {
+        IdMappingResult result =
+                IdMappingResult.builder().mappedId(new IdMappingStringPair("from1", "to1")).build();
+        return IdMappingJob.builder()
+                .jobStatus(JobStatus.FINISHED)
+                .idMappingResult(result)
+                .updated(updated)
+                .build();
+    }
+}
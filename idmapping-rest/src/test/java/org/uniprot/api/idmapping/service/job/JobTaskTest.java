@@ -0,0 +1,118 @@
+package org.uniprot.api.idmapping.service.job;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestClientException;
+import org.uniprot.api.idmapping.controller.request.IdMappingJobRequest;
+import org.uniprot.api.idmapping.controller.response.JobStatus;
+import org.uniprot.api.idmapping.model.IdMappingJob;
+import org.uniprot.api.idmapping.model.IdMappingResult;
+import org.uniprot.api.idmapping.service.IdMappingJobCacheService;
+import org.uniprot.api.idmapping.service.IdMappingPIRService;
+
+@ExtendWith(MockitoExtension.class)
+class JobTaskTest {
+    @Mock private IdMappingPIRService pirService;
+    @Mock private IdMappingJobCacheService cacheService;
+    private IdMappingJob job;
+
+    @BeforeEach
+    void setUp() {
+        IdMappingJobRequest request = new IdMappingJobRequest();
+        request.setIds("P12345,P05067");
+        job =
+                IdMappingJob.builder()
+                        .jobId("job")
+                        .jobStatus(JobStatus.NEW)
+                        .idMappingRequest(request)
+                        .build();
+    }
+
+    @Test
+    void mappedJobIsFinished() {
+        IdMappingResult result = IdMappingResult.builder().mappedId("P12345", "P12345").build();
+        when(pirService.mapIds(any(), any())).thenReturn(result);
+
+        new JobTask(job, pirService, cacheService).run();
+
+        assertThat(job.getJobStatus(), is(JobStatus.FINISHED));
+        assertThat(job.getIdMappingResult(), is(result));
+        verify(cacheService, times(2)).put("job", job);
+    }
+
+    @Test
+    void eachStatusOfJobIsPut() {
+        List<JobStatus> putStatuses = new ArrayList<>();
+        doAnswer(invocation -> putStatuses.add(job.getJobStatus()))
+                .when(cacheService)
+                .put("job", job);
+        when(pirService.mapIds(any(), any())).thenReturn(IdMappingResult.builder().build());
+
+        new JobTask(job, pirService, cacheService).run();
+
+        assertThat(putStatuses, contains(JobStatus.RUNNING, JobStatus.FINISHED));
+    }
+
+    @Test
+    void progressOfJobIsPut() {
+        List<String> putProgress = new ArrayList<>();
+        doAnswer(
+                        invocation ->
+                                putProgress.add(
+                                        job.getCompletedChunks() + "/" + job.getTotalChunks()))
+                .when(cacheService)
+                .put("job", job);
+        when(pirService.mapIds(any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            IdMappingPIRService.ChunkProgressListener listener =
+                                    invocation.getArgument(1);
+                            listener.onProgress(0, 2);
+                            listener.onProgress(1, 2);
+                            listener.onProgress(2, 2);
+                            return IdMappingResult.builder().build();
+                        });
+
+        new JobTask(job, pirService, cacheService).run();
+
+        assertThat(putProgress, contains("0/0", "0/2", "1/2", "2/2", "2/2"));
+    }
+
+    @Test
+    void restClientFailureEndsJobInError() {
+        when(pirService.mapIds(any(), any())).thenThrow(new RestClientException("PIR is down"));
+
+        new JobTask(job, pirService, cacheService).run();
+
+        assertThat(job.getJobStatus(), is(JobStatus.ERROR));
+        assertThat(job.getErrorMessage(), is("PIR is down"));
+        verify(cacheService, times(2)).put("job", job);
+    }
+
+    @Test
+    void chunkFailureEndsJobInError() {
+        when(pirService.mapIds(any(), any()))
+                .thenThrow(new IllegalStateException("Could not map ids"));
+
+        new JobTask(job, pirService, cacheService).run();
+
+        assertThat(job.getJobStatus(), is(JobStatus.ERROR));
+        assertThat(job.getErrorMessage(), is("Could not map ids"));
+        verify(cacheService, times(2)).put("job", job);
+    }
+}
@@ -3,11 +3,17 @@ package org.uniprot.api.idmapping.service.store;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import lombok.*;
@@ -77,6 +83,38 @@ class BatchStoreEntryPairIterableTest {
         assertThrows(RetrievalException.class, iterator::next);
     }
 
+    @Test
+    void canFetchBatchesInConcurrentSubBatches() {
+        Iterable<IdMappingStringPair> sourceIterable =
+                getIterable("from1/to1", "from2/to2", "from3/to3", "from4/to4");
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        FakeBatchStoreEntryPairIterable batchStoreEntryPairIterable =
+                new FakeBatchStoreEntryPairIterable(
+                        sourceIterable, 4, storeClient, retryPolicy, executorService, 2);
+
+        when(storeClient.getEntries(any()))
+                .thenAnswer(
+                        invocation -> {
+                            Collection<String> tos = invocation.getArgument(0);
+                            assertThat(tos, hasSize(2));
+                            return tos.stream()
+                                    .map(to -> fn(to, to.replace("to", "fn")))
+                                    .collect(Collectors.toList());
+                        });
+
+        Iterator<Collection<FakeResultPair>> iterator = batchStoreEntryPairIterable.iterator();
+        assertThat(
+                iterator.next(),
+                contains(
+                        new FakeResultPair("from1", new FakeName("to1", "fn1")),
+                        new FakeResultPair("from2", new FakeName("to2", "fn2")),
+                        new FakeResultPair("from3", new FakeName("to3", "fn3")),
+                        new FakeResultPair("from4", new FakeName("to4", "fn4"))));
+        assertThat(iterator.hasNext(), is(false));
+        verify(storeClient, times(2)).getEntries(any());
+        executorService.shutdownNow();
+    }
+
     private FakeName fn(String to, String name) {
         return FakeName.builder().to(to).name(name).build();
     }
@@ -104,6 +142,22 @@ class BatchStoreEntryPairIterableTest {
             super(sourceIterable, batchSize, storeClient, retryPolicy);
         }
 
+        protected FakeBatchStoreEntryPairIterable(
+                Iterable<IdMappingStringPair> sourceIterable,
+                int batchSize,
+                UniProtStoreClient<FakeName> storeClient,
+                RetryPolicy<Object> retryPolicy,
+                ExecutorService storeFetchExecutor,
+                int storeFetchSubBatchCount) {
+            super(
+                    sourceIterable,
+                    batchSize,
+                    storeClient,
+                    retryPolicy,
+                    storeFetchExecutor,
+                    storeFetchSubBatchCount);
+        }
+
         @Override
         protected FakeResultPair convertToPair(
                 IdMappingStringPair mId, Map<String, FakeName> idEntryMap) {
@@ -2,6 +2,7 @@ package org.uniprot.api.proteome.output.converter;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.springframework.http.MediaType;
 import org.uniprot.api.rest.output.context.MessageConverterContext;
@@ -11,7 +12,10 @@ import org.uniprot.core.genecentric.GeneCentricEntry;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.xml.JacksonXmlModule;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
@@ -22,38 +26,43 @@ import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 public class GeneCentricXmlMessageConverter
         extends AbstractEntityHttpMessageConverter<GeneCentricEntry> {
 
-    private final XmlMapper mapper;
+    private final ObjectWriter objectWriter;
 
     public GeneCentricXmlMessageConverter() {
         super(MediaType.APPLICATION_XML, GeneCentricEntry.class);
         JacksonXmlModule xmlModule = new JacksonXmlModule();
         xmlModule.setDefaultUseWrapper(false);
 
-        mapper = new XmlMapper(xmlModule);
+        XmlMapper mapper = new XmlMapper(xmlModule);
         mapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
         mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        // entities are written one after another to the same response stream
+        objectWriter =
+                mapper.writer()
+                        .withRootName("GeneCentric")
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @Override
     protected void writeEntity(GeneCentricEntry entity, OutputStream outputStream)
             throws IOException {
-        byte[] output = mapper.writer().withRootName("GeneCentric").writeValueAsBytes(entity);
-        outputStream.write(output);
+        objectWriter.writeValue(outputStream, entity);
     }
 
     @Override
     protected void before(
             MessageConverterContext<GeneCentricEntry> context, OutputStream outputStream)
             throws IOException {
-        outputStream.write("<GeneCentrics>".getBytes());
+        outputStream.write("<GeneCentrics>".getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
     protected void after(
             MessageConverterContext<GeneCentricEntry> context, OutputStream outputStream)
             throws IOException {
-        outputStream.write("</GeneCentrics>".getBytes());
+        outputStream.write("</GeneCentrics>".getBytes(StandardCharsets.UTF_8));
     }
 }
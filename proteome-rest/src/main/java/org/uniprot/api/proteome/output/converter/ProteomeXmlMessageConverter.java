@@ -1,7 +1,5 @@
 package org.uniprot.api.proteome.output.converter;
 
-import javax.xml.bind.Marshaller;
-
 import org.uniprot.api.rest.output.converter.AbstractXmlMessageConverter;
 import org.uniprot.core.proteome.ProteomeEntry;
 import org.uniprot.core.xml.jaxb.proteome.Proteome;
@@ -36,11 +34,6 @@ public class ProteomeXmlMessageConverter
         return converter.toXml(entity);
     }
 
-    @Override
-    protected Marshaller getMarshaller() {
-        return createMarshaller();
-    }
-
     @Override
     protected String getFooter() {
         return FOOTER;
@@ -1,7 +1,5 @@
 package org.uniprot.api.support.data.disease.response;
 
-import java.util.Collections;
-
 import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.RetryPolicy;
 
@@ -11,15 +9,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.uniprot.api.common.repository.stream.document.DefaultDocumentIdStream;
+import org.uniprot.api.common.repository.stream.rdf.RDFRestTemplateFactory;
 import org.uniprot.api.common.repository.stream.rdf.RDFStreamer;
 import org.uniprot.api.common.repository.stream.rdf.RDFStreamerConfigProperties;
-import org.uniprot.api.rest.output.RequestResponseLoggingInterceptor;
 import org.uniprot.api.rest.respository.RepositoryConfig;
 import org.uniprot.api.rest.service.RDFPrologs;
 import org.uniprot.api.rest.service.RDFService;
@@ -41,13 +36,17 @@ public class DiseaseStreamConfig {
     public RDFStreamer diseaseRDFStreamer(
             @Qualifier("diseaseRDFRestTemplate") RestTemplate restTemplate,
             DefaultDocumentIdStream<DiseaseDocument> diseaseDocumentIdStream,
-            RDFStreamerConfigProperties diseaseRDFConfigProperties) {
+            RDFStreamerConfigProperties diseaseRDFConfigProperties,
+            @Qualifier("rdfFetchTaskExecutor") ThreadPoolTaskExecutor rdfFetchTaskExecutor) {
 
         RetryPolicy<Object> rdfRetryPolicy =
                 RDFStreamConfig.rdfRetryPolicy(diseaseRDFConfigProperties);
 
         return RDFStreamer.builder()
                 .rdfBatchSize(diseaseRDFConfigProperties.getBatchSize())
+                .rdfFetchQueueDepth(diseaseRDFConfigProperties.getFetchQueueDepth())
+                .rdfFetchTimeoutMillis(diseaseRDFConfigProperties.getFetchTimeoutMillis())
+                .rdfFetchExecutor(rdfFetchTaskExecutor.getThreadPoolExecutor())
                 .rdfFetchRetryPolicy(rdfRetryPolicy)
                 .rdfService(new RDFService<>(restTemplate, String.class))
                 .rdfProlog(RDFPrologs.DISEASE_PROLOG)
@@ -73,13 +72,6 @@ public class DiseaseStreamConfig {
     @Bean(name = "diseaseRDFRestTemplate")
     @Profile("live")
     RestTemplate diseaseRestTemplate(RDFStreamerConfigProperties diseaseRDFConfigProperties) {
-        ClientHttpRequestFactory factory =
-                new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory());
-        RestTemplate restTemplate = new RestTemplate(factory);
-        restTemplate.setInterceptors(
-                Collections.singletonList(new RequestResponseLoggingInterceptor()));
-        restTemplate.setUriTemplateHandler(
-                new DefaultUriBuilderFactory(diseaseRDFConfigProperties.getRequestUrl()));
-        return restTemplate;
+        return RDFRestTemplateFactory.createRestTemplate(diseaseRDFConfigProperties);
     }
 }
@@ -1,7 +1,6 @@
 package org.uniprot.api.support.data;
 
 import static org.hamcrest.Matchers.equalTo;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
@@ -22,6 +21,7 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.uniprot.api.rest.controller.AbstractSolrStreamControllerIT;
 import org.uniprot.api.rest.output.UniProtMediaType;
+import org.uniprot.api.rest.service.RDFServiceTestUtils;
 
 /**
  * @author sahmad
@@ -38,7 +38,7 @@ public abstract class AbstractRDFStreamControllerIT extends AbstractSolrStreamCo
     @Test
     void idSuccessRDFContentType() throws Exception {
         when(getRestTemple().getUriTemplateHandler()).thenReturn(new DefaultUriBuilderFactory());
-        when(getRestTemple().getForObject(any(), any())).thenReturn(SAMPLE_RDF);
+        RDFServiceTestUtils.mockRDFBatchResponse(getRestTemple(), SAMPLE_RDF);
         // when
         MockHttpServletRequestBuilder requestBuilder =
                 get(getStreamPath())
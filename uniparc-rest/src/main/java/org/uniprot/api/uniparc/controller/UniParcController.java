@@ -127,6 +127,10 @@ public class UniParcController extends BasicSearchController<UniParcEntry> {
             HttpServletRequest request,
             HttpServletResponse response) {
         setPreviewInfo(searchRequest, preview);
+        if (isListAccept(request)) {
+            return super.getSearchIdsResponse(
+                    queryService.searchIds(searchRequest), false, request, response);
+        }
         QueryResult<UniParcEntry> results = queryService.search(searchRequest);
         return super.getSearchResponse(results, searchRequest.getFields(), request, response);
     }
@@ -469,6 +473,13 @@ public class UniParcController extends BasicSearchController<UniParcEntry> {
             @Valid @ModelAttribute UniParcIdsSearchRequest idsSearchRequest,
             HttpServletRequest request,
             HttpServletResponse response) {
+        if (isListAccept(request)) {
+            return super.getSearchIdsResponse(
+                    queryService.getIdsByIds(idsSearchRequest),
+                    idsSearchRequest.isDownload(),
+                    request,
+                    response);
+        }
         QueryResult<UniParcEntry> results = queryService.getByIds(idsSearchRequest);
 
         return super.getSearchResponse(
@@ -4,8 +4,6 @@ import static org.uniprot.api.rest.output.converter.ConverterConstants.UNIPARC_X
 import static org.uniprot.api.rest.output.converter.ConverterConstants.UNIPARC_XML_FOOTER;
 import static org.uniprot.api.rest.output.converter.ConverterConstants.UNIPARC_XML_HEADER;
 
-import javax.xml.bind.Marshaller;
-
 import org.uniprot.api.rest.output.converter.AbstractXmlMessageConverter;
 import org.uniprot.core.uniparc.UniParcEntry;
 import org.uniprot.core.util.Utils;
@@ -42,11 +40,6 @@ public class UniParcXmlMessageConverter extends AbstractXmlMessageConverter<UniP
         return converter.toXml(entity);
     }
 
-    @Override
-    protected Marshaller getMarshaller() {
-        return createMarshaller();
-    }
-
     @Override
     protected String getFooter() {
         return UNIPARC_XML_FOOTER;
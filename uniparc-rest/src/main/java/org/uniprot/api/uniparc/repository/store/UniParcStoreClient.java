@@ -1,15 +1,33 @@
 package org.uniprot.api.uniparc.repository.store;
 
+import org.uniprot.api.common.repository.stream.store.CachingUniProtStoreClient;
+import org.uniprot.api.common.repository.stream.store.StoreCacheConfigProperties;
 import org.uniprot.core.uniparc.UniParcEntry;
-import org.uniprot.store.datastore.UniProtStoreClient;
 import org.uniprot.store.datastore.voldemort.VoldemortClient;
 
 /**
  * @author lgonzales
  * @since 2020-03-04
  */
-public class UniParcStoreClient extends UniProtStoreClient<UniParcEntry> {
+public class UniParcStoreClient extends CachingUniProtStoreClient<UniParcEntry> {
+    // rough heap estimate: the entry, one byte per residue, and each of its cross-references
+    static final int ENTRY_BYTES = 1024;
+    static final int CROSS_REFERENCE_BYTES = 512;
+
     public UniParcStoreClient(VoldemortClient<UniParcEntry> client) {
         super(client);
     }
+
+    public UniParcStoreClient(
+            VoldemortClient<UniParcEntry> client, StoreCacheConfigProperties cacheConfig) {
+        super(
+                client,
+                cacheConfig,
+                "uniparc.entry.cache",
+                entry ->
+                        ENTRY_BYTES
+                                + entry.getSequence().getLength()
+                                + CROSS_REFERENCE_BYTES
+                                        * entry.getUniParcCrossReferences().size());
+    }
 }
@@ -3,6 +3,7 @@ package org.uniprot.api.uniparc.repository.store;
 import lombok.Data;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.uniprot.api.common.repository.stream.store.StoreCacheConfigProperties;
 
 /**
  * @author lgonzales
@@ -14,4 +15,5 @@ public class UniParcStoreConfigProperties {
     private String host;
     private int numberOfConnections;
     private String storeName;
+    private StoreCacheConfigProperties cache = new StoreCacheConfigProperties();
 }
@@ -14,6 +14,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 import org.uniprot.api.common.repository.search.SolrRequestConverter;
 import org.uniprot.api.common.repository.solrstream.FacetTupleStreamTemplate;
@@ -58,7 +59,9 @@ public class UniParcStreamConfig {
             UniParcStoreClient uniParcClient,
             TupleStreamTemplate tupleStreamTemplate,
             StreamerConfigProperties streamConfig,
-            TupleStreamDocumentIdStream documentIdStream) {
+            TupleStreamDocumentIdStream documentIdStream,
+            @Qualifier("streamPrefetchTaskExecutor") ThreadPoolTaskExecutor prefetchTaskExecutor,
+            @Qualifier("storeFetchTaskExecutor") ThreadPoolTaskExecutor storeFetchTaskExecutor) {
 
         RetryPolicy<Object> storeRetryPolicy =
                 new RetryPolicy<>()
@@ -72,6 +75,8 @@ public class UniParcStreamConfig {
                 .tupleStreamTemplate(tupleStreamTemplate)
                 .storeFetchRetryPolicy(storeRetryPolicy)
                 .documentIdStream(documentIdStream)
+                .prefetchExecutor(prefetchTaskExecutor.getThreadPoolExecutor())
+                .storeFetchExecutor(storeFetchTaskExecutor.getThreadPoolExecutor())
                 .build();
     }
 
@@ -100,7 +105,8 @@ public class UniParcStreamConfig {
     @Bean
     public RDFStreamer uniParcRDFStreamer(
             @Qualifier("rdfRestTemplate") RestTemplate restTemplate,
-            TupleStreamDocumentIdStream documentIdStream) {
+            TupleStreamDocumentIdStream documentIdStream,
+            @Qualifier("rdfFetchTaskExecutor") ThreadPoolTaskExecutor rdfFetchTaskExecutor) {
 
         int rdfRetryDelay = rdfConfigProperties().getRetryDelayMillis();
         int maxRdfRetryDelay = rdfRetryDelay * 8;
@@ -117,6 +123,9 @@ public class UniParcStreamConfig {
 
         return RDFStreamer.builder()
                 .rdfBatchSize(rdfConfigProperties().getBatchSize())
+                .rdfFetchQueueDepth(rdfConfigProperties().getFetchQueueDepth())
+                .rdfFetchTimeoutMillis(rdfConfigProperties().getFetchTimeoutMillis())
+                .rdfFetchExecutor(rdfFetchTaskExecutor.getThreadPoolExecutor())
                 .rdfFetchRetryPolicy(rdfRetryPolicy)
                 .rdfService(new RDFService<>(restTemplate, String.class))
                 .rdfProlog(RDFPrologs.UNIPARC_RDF_PROLOG)
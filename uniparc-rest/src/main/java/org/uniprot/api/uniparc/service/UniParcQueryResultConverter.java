@@ -2,7 +2,12 @@ package org.uniprot.api.uniparc.service;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
@@ -33,4 +38,24 @@ public class UniParcQueryResultConverter implements Function<UniParcDocument, Un
     public UniParcEntry apply(UniParcDocument doc) {
         return Failsafe.with(retryPolicy).get(() -> entryStore.getEntry(doc.getUpi()).orElse(null));
     }
+
+    /**
+     * Converts a page of documents, fetching all of their entries from the store in one request.
+     * Documents without an entry in the store are dropped.
+     *
+     * @param docs the documents to convert
+     * @return the entries, in the order of their documents
+     */
+    public List<UniParcEntry> applyAll(List<UniParcDocument> docs) {
+        if (docs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> upis = docs.stream().map(UniParcDocument::getUpi).collect(Collectors.toList());
+        Map<String, UniParcEntry> entries =
+                Failsafe.with(retryPolicy).get(() -> entryStore.getEntryMap(upis));
+        return upis.stream()
+                .map(entries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 }
@@ -128,8 +128,7 @@ public class UniParcQueryService extends StoreStreamerSearchService<UniParcDocum
                 repository.searchPage(solrRequest, searchRequest.getCursor());
 
         // convert solr docs to entries
-        Stream<UniParcEntry> converted =
-                results.getContent().map(entryConverter).filter(Objects::nonNull);
+        Stream<UniParcEntry> converted = convertPage(results.getContent());
         // filter the entries
         Stream<UniParcEntry> filtered = filterUniParcStream(converted, searchRequest);
         return QueryResult.of(filtered, results.getPage(), results.getFacets());
@@ -141,6 +140,11 @@ public class UniParcQueryService extends StoreStreamerSearchService<UniParcDocum
         return this.uniParcRDFStreamer.idsToRDFStoreStream(solrRequest);
     }
 
+    @Override
+    protected Stream<UniParcEntry> convertPage(Stream<UniParcDocument> documents) {
+        return entryConverter.applyAll(documents.collect(Collectors.toList())).stream();
+    }
+
     @Override
     protected SearchFieldItem getIdField() {
         return this.searchFieldConfig.getSearchFieldItemByName(UNIPARC_ID_FIELD);
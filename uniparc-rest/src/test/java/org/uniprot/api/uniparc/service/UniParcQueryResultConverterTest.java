@@ -0,0 +1,76 @@
+package org.uniprot.api.uniparc.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uniprot.api.uniparc.repository.store.UniParcStoreClient;
+import org.uniprot.core.uniparc.UniParcEntry;
+import org.uniprot.store.search.document.uniparc.UniParcDocument;
+
+class UniParcQueryResultConverterTest {
+    private UniParcStoreClient entryStore;
+    private UniParcQueryResultConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        entryStore = mock(UniParcStoreClient.class);
+        converter = new UniParcQueryResultConverter(entryStore);
+    }
+
+    @Test
+    void canConvertPageOfDocsWithOneStoreRequest() {
+        UniParcEntry entry1 = mock(UniParcEntry.class);
+        UniParcEntry entry2 = mock(UniParcEntry.class);
+        UniParcEntry entry3 = mock(UniParcEntry.class);
+        // the store does not return entries in the order of the page
+        when(entryStore.getEntryMap(List.of("UPI1", "UPI2", "UPI3")))
+                .thenReturn(Map.of("UPI3", entry3, "UPI1", entry1, "UPI2", entry2));
+
+        List<UniParcDocument> docs =
+                List.of(createDoc("UPI1"), createDoc("UPI2"), createDoc("UPI3"));
+
+        List<UniParcEntry> entries = converter.applyAll(docs);
+
+        assertThat(entries, contains(entry1, entry2, entry3));
+        verify(entryStore, times(1)).getEntryMap(List.of("UPI1", "UPI2", "UPI3"));
+        verify(entryStore, never()).getEntry(anyString());
+    }
+
+    @Test
+    void docsWithoutStoreEntryAreDropped() {
+        UniParcEntry entry2 = mock(UniParcEntry.class);
+        when(entryStore.getEntryMap(List.of("UPI1", "UPI2"))).thenReturn(Map.of("UPI2", entry2));
+
+        List<UniParcDocument> docs = List.of(createDoc("UPI1"), createDoc("UPI2"));
+
+        List<UniParcEntry> entries = converter.applyAll(docs);
+
+        assertThat(entries, contains(entry2));
+    }
+
+    @Test
+    void emptyPageDoesNotUseStore() {
+        assertThat(converter.applyAll(List.of()), is(empty()));
+        verifyNoInteractions(entryStore);
+    }
+
+    private static UniParcDocument createDoc(String upi) {
+        UniParcDocument doc = mock(UniParcDocument.class);
+        when(doc.getUpi()).thenReturn(upi);
+        return doc;
+    }
+}
@@ -139,6 +139,10 @@ public class UniProtKBController extends BasicSearchController<UniProtKBEntry> {
             HttpServletRequest request,
             HttpServletResponse response) {
         setPreviewInfo(searchRequest, preview);
+        if (isListAccept(request)) {
+            return super.getSearchIdsResponse(
+                    entryService.searchIds(searchRequest), false, request, response);
+        }
         QueryResult<UniProtKBEntry> result = entryService.search(searchRequest);
         return super.getSearchResponse(result, searchRequest.getFields(), request, response);
     }
@@ -309,6 +313,13 @@ public class UniProtKBController extends BasicSearchController<UniProtKBEntry> {
             @Valid @ModelAttribute UniProtKBIdsSearchRequest accessionsRequest,
             HttpServletRequest request,
             HttpServletResponse response) {
+        if (isListAccept(request)) {
+            return super.getSearchIdsResponse(
+                    entryService.getIdsByIds(accessionsRequest),
+                    accessionsRequest.isDownload(),
+                    request,
+                    response);
+        }
         QueryResult<UniProtKBEntry> result = entryService.getByIds(accessionsRequest);
         return super.getSearchResponse(
                 result,
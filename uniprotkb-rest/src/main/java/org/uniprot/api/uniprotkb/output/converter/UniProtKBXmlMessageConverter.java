@@ -4,8 +4,6 @@ import static org.uniprot.api.rest.output.converter.ConverterConstants.UNIPROTKB
 import static org.uniprot.api.rest.output.converter.ConverterConstants.UNIPROTKB_XML_FOOTER;
 import static org.uniprot.api.rest.output.converter.ConverterConstants.UNIPROTKB_XML_HEADER;
 
-import javax.xml.bind.Marshaller;
-
 import org.uniprot.api.rest.output.converter.AbstractXmlMessageConverter;
 import org.uniprot.core.uniprotkb.UniProtKBEntry;
 import org.uniprot.core.xml.jaxb.uniprot.Entry;
@@ -25,11 +23,6 @@ public class UniProtKBXmlMessageConverter
         return converter.toXml(entity);
     }
 
-    @Override
-    protected Marshaller getMarshaller() {
-        return createMarshaller();
-    }
-
     @Override
     protected String getFooter() {
         return UNIPROTKB_XML_FOOTER;
@@ -14,6 +14,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 import org.uniprot.api.common.repository.search.SolrRequestConverter;
 import org.uniprot.api.common.repository.stream.common.TupleStreamTemplate;
@@ -56,7 +57,9 @@ public class ResultsConfig {
             UniProtKBStoreClient uniProtClient,
             TupleStreamTemplate tupleStreamTemplate,
             @Qualifier("streamConfig") StreamerConfigProperties streamConfig,
-            TupleStreamDocumentIdStream documentIdStream) {
+            TupleStreamDocumentIdStream documentIdStream,
+            @Qualifier("streamPrefetchTaskExecutor") ThreadPoolTaskExecutor prefetchTaskExecutor,
+            @Qualifier("storeFetchTaskExecutor") ThreadPoolTaskExecutor storeFetchTaskExecutor) {
         RetryPolicy<Object> storeRetryPolicy =
                 new RetryPolicy<>()
                         .handle(IOException.class)
@@ -69,6 +72,8 @@ public class ResultsConfig {
                 .tupleStreamTemplate(tupleStreamTemplate)
                 .storeFetchRetryPolicy(storeRetryPolicy)
                 .documentIdStream(documentIdStream)
+                .prefetchExecutor(prefetchTaskExecutor.getThreadPoolExecutor())
+                .storeFetchExecutor(storeFetchTaskExecutor.getThreadPoolExecutor())
                 .build();
     }
 
@@ -87,7 +92,8 @@ public class ResultsConfig {
     @Bean
     public RDFStreamer uniProtRDFStreamer(
             @Qualifier("rdfRestTemplate") RestTemplate restTemplate,
-            TupleStreamDocumentIdStream documentIdStream) {
+            TupleStreamDocumentIdStream documentIdStream,
+            @Qualifier("rdfFetchTaskExecutor") ThreadPoolTaskExecutor rdfFetchTaskExecutor) {
         int rdfRetryDelay = rdfConfigProperties().getRetryDelayMillis();
         int maxRdfRetryDelay = rdfRetryDelay * 8;
         RetryPolicy<Object> rdfRetryPolicy =
@@ -103,6 +109,9 @@ public class ResultsConfig {
 
         return RDFStreamer.builder()
                 .rdfBatchSize(rdfConfigProperties().getBatchSize())
+                .rdfFetchQueueDepth(rdfConfigProperties().getFetchQueueDepth())
+                .rdfFetchTimeoutMillis(rdfConfigProperties().getFetchTimeoutMillis())
+                .rdfFetchExecutor(rdfFetchTaskExecutor.getThreadPoolExecutor())
                 .rdfFetchRetryPolicy(rdfRetryPolicy)
                 .rdfService(new RDFService<>(restTemplate, String.class))
                 .rdfProlog(RDFPrologs.UNIPROT_RDF_PROLOG)
@@ -1,7 +1,8 @@
 package org.uniprot.api.uniprotkb.repository.store;
 
+import org.uniprot.api.common.repository.stream.store.CachingUniProtStoreClient;
+import org.uniprot.api.common.repository.stream.store.StoreCacheConfigProperties;
 import org.uniprot.core.uniprotkb.UniProtKBEntry;
-import org.uniprot.store.datastore.UniProtStoreClient;
 import org.uniprot.store.datastore.voldemort.VoldemortClient;
 
 /**
@@ -9,8 +10,21 @@ import org.uniprot.store.datastore.voldemort.VoldemortClient;
  *
  * @author Edd
  */
-public class UniProtKBStoreClient extends UniProtStoreClient<UniProtKBEntry> {
+public class UniProtKBStoreClient extends CachingUniProtStoreClient<UniProtKBEntry> {
+    // rough heap estimate: the annotations of an entry, plus its sequence and the features along it
+    static final int ENTRY_BYTES = 4096;
+    static final int BYTES_PER_RESIDUE = 8;
+
     public UniProtKBStoreClient(VoldemortClient<UniProtKBEntry> client) {
         super(client);
     }
+
+    public UniProtKBStoreClient(
+            VoldemortClient<UniProtKBEntry> client, StoreCacheConfigProperties cacheConfig) {
+        super(
+                client,
+                cacheConfig,
+                "uniprotkb.entry.cache",
+                entry -> ENTRY_BYTES + BYTES_PER_RESIDUE * entry.getSequence().getLength());
+    }
 }
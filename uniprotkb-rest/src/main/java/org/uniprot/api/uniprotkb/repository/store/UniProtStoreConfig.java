@@ -1,19 +1,13 @@
 package org.uniprot.api.uniprotkb.repository.store;
 
-import java.util.Collections;
-
 import org.apache.http.client.HttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.uniprot.api.common.repository.solrstream.FacetTupleStreamTemplate;
+import org.uniprot.api.common.repository.stream.rdf.RDFRestTemplateFactory;
 import org.uniprot.api.common.repository.stream.rdf.RDFStreamerConfigProperties;
-import org.uniprot.api.rest.output.RequestResponseLoggingInterceptor;
 import org.uniprot.api.rest.respository.RepositoryConfigProperties;
 import org.uniprot.core.uniprotkb.UniProtKBEntry;
 import org.uniprot.store.datastore.voldemort.VoldemortClient;
@@ -41,20 +35,13 @@ public class UniProtStoreConfig {
                         uniProtStoreConfigProperties.getNumberOfConnections(),
                         uniProtStoreConfigProperties.getStoreName(),
                         uniProtStoreConfigProperties.getHost());
-        return new UniProtKBStoreClient(client);
+        return new UniProtKBStoreClient(client, uniProtStoreConfigProperties.getCache());
     }
 
     @Bean(name = "rdfRestTemplate")
     @Profile("live")
     RestTemplate restTemplate(RDFStreamerConfigProperties rdfStreamerConfigProperties) {
-        ClientHttpRequestFactory factory =
-                new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory());
-        RestTemplate restTemplate = new RestTemplate(factory);
-        restTemplate.setInterceptors(
-                Collections.singletonList(new RequestResponseLoggingInterceptor()));
-        restTemplate.setUriTemplateHandler(
-                new DefaultUriBuilderFactory(rdfStreamerConfigProperties.getRequestUrl()));
-        return restTemplate;
+        return RDFRestTemplateFactory.createRestTemplate(rdfStreamerConfigProperties);
     }
 
     @Bean
@@ -3,6 +3,7 @@ package org.uniprot.api.uniprotkb.repository.store;
 import lombok.Data;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.uniprot.api.common.repository.stream.store.StoreCacheConfigProperties;
 
 /**
  * Created 21/08/18
@@ -15,4 +16,5 @@ public class UniProtStoreConfigProperties {
     private String host;
     private int numberOfConnections;
     private String storeName;
+    private StoreCacheConfigProperties cache = new StoreCacheConfigProperties();
 }
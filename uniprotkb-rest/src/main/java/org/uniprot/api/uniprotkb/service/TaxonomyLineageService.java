@@ -0,0 +1,111 @@
+package org.uniprot.api.uniprotkb.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.uniprot.core.taxonomy.TaxonomyEntry;
+import org.uniprot.core.taxonomy.TaxonomyLineage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Resolves the taxonomic lineages added to UniProtKB entries when the lineage return field is
+ * requested. Only the lineage of each tax id is kept, in a cache bounded by the number of tax
+ * ids, and lineages missing from the cache are fetched for a whole page of entries with one bulk
+ * taxonomy query.
+ *
+ * <p>Tax ids listed in {@code taxonomy.lineage.cache.preloadTaxIds} are loaded once the
+ * application has started; others can be loaded on demand through {@link #preload(Collection)}.
+ */
+@Slf4j
+@Service
+public class TaxonomyLineageService {
+    static final long DEFAULT_MAXIMUM_SIZE = 200_000L;
+    private final TaxonomyService taxonomyService;
+    private final Cache<Long, List<TaxonomyLineage>> lineageCache;
+    private final List<Long> preloadTaxIds;
+
+    @Autowired
+    public TaxonomyLineageService(
+            TaxonomyService taxonomyService,
+            @Value("${taxonomy.lineage.cache.maximumSize:" + DEFAULT_MAXIMUM_SIZE + "}")
+                    long maximumSize,
+            @Value("${taxonomy.lineage.cache.preloadTaxIds:}") List<Long> preloadTaxIds) {
+        this.taxonomyService = taxonomyService;
+        this.lineageCache = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.preloadTaxIds = preloadTaxIds;
+    }
+
+    /**
+     * Finds the lineages of the given tax ids, querying for all of those not yet cached at once.
+     * Tax ids that are not found map to an empty lineage.
+     *
+     * @param taxIds the tax ids whose lineages are needed
+     * @return the lineage of each of {@code taxIds}
+     */
+    public Map<Long, List<TaxonomyLineage>> findLineages(Collection<Long> taxIds) {
+        Map<Long, List<TaxonomyLineage>> lineages =
+                new HashMap<>(lineageCache.getAllPresent(taxIds));
+        if (lineages.size() < taxIds.size()) {
+            Set<Long> missingTaxIds = new HashSet<>(taxIds);
+            missingTaxIds.removeAll(lineages.keySet());
+            lineages.putAll(load(missingTaxIds));
+        }
+        return lineages;
+    }
+
+    /**
+     * Loads the lineages of the given tax ids into the cache, e.g., for the organisms most often
+     * seen in downloads.
+     *
+     * @param taxIds the tax ids whose lineages should be cached
+     */
+    public void preload(Collection<Long> taxIds) {
+        Set<Long> missingTaxIds = new HashSet<>(taxIds);
+        missingTaxIds.removeAll(lineageCache.getAllPresent(taxIds).keySet());
+        if (!missingTaxIds.isEmpty()) {
+            load(missingTaxIds);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void preloadOnStartup() {
+        if (!preloadTaxIds.isEmpty()) {
+            try {
+                preload(preloadTaxIds);
+                log.info("Preloaded lineages of {} tax ids", preloadTaxIds.size());
+            } catch (RuntimeException e) {
+                // lineages are then loaded when first needed
+                log.warn("Could not preload taxonomy lineages", e);
+            }
+        }
+    }
+
+    private Map<Long, List<TaxonomyLineage>> load(Set<Long> taxIds) {
+        Map<Long, List<TaxonomyLineage>> lineages = new HashMap<>();
+        for (TaxonomyEntry taxEntry : taxonomyService.findByIds(taxIds)) {
+            List<TaxonomyLineage> lineage = taxEntry.getLineages();
+            lineages.put(
+                    taxEntry.getTaxonId(),
+                    lineage == null ? Collections.emptyList() : List.copyOf(lineage));
+        }
+        for (Long taxId : taxIds) {
+            lineages.putIfAbsent(taxId, Collections.emptyList());
+        }
+        lineageCache.putAll(lineages);
+        return lineages;
+    }
+}
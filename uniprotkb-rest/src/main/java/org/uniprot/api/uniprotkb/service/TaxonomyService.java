@@ -1,5 +1,8 @@
 package org.uniprot.api.uniprotkb.service;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.uniprot.core.taxonomy.TaxonomyEntry;
 
 /**
@@ -8,4 +11,12 @@ import org.uniprot.core.taxonomy.TaxonomyEntry;
  */
 public interface TaxonomyService {
     TaxonomyEntry findById(long taxId);
+
+    /**
+     * Finds the taxonomy entries of many tax ids with as few queries as possible.
+     *
+     * @param taxIds the tax ids to find
+     * @return the entries found, in no particular order
+     */
+    List<TaxonomyEntry> findByIds(Collection<Long> taxIds);
 }
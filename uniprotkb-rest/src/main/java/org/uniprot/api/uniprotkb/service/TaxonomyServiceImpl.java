@@ -1,12 +1,20 @@
 package org.uniprot.api.uniprotkb.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.apache.solr.client.solrj.SolrQuery;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.uniprot.api.common.repository.search.SolrRequest;
 import org.uniprot.api.rest.service.BasicSearchService;
 import org.uniprot.api.rest.service.query.QueryProcessor;
 import org.uniprot.api.uniprotkb.repository.search.impl.TaxonomyRepository;
@@ -19,6 +27,7 @@ import org.uniprot.store.config.searchfield.model.SearchFieldItem;
 import org.uniprot.store.search.document.taxonomy.TaxonomyDocument;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterables;
 
 /**
  * @author jluo
@@ -28,11 +37,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @Service
 public class TaxonomyServiceImpl extends BasicSearchService<TaxonomyDocument, TaxonomyEntry>
         implements TaxonomyService {
+    // keeps the number of clauses of each query within solr's limits
+    private static final int TAX_ID_BATCH_SIZE = 500;
     private final SearchFieldConfig searchFieldConfig;
+    private final TaxonomyRepository taxRepo;
+    private final TaxonomyEntryConverter entryConverter;
 
     @Autowired
     public TaxonomyServiceImpl(TaxonomyRepository taxRepo) {
-        super(taxRepo, new TaxonomyEntryConverter());
+        this(taxRepo, new TaxonomyEntryConverter());
+    }
+
+    private TaxonomyServiceImpl(TaxonomyRepository taxRepo, TaxonomyEntryConverter entryConverter) {
+        super(taxRepo, entryConverter);
+        this.taxRepo = taxRepo;
+        this.entryConverter = entryConverter;
         this.searchFieldConfig =
                 SearchFieldConfigFactory.getSearchFieldConfig(UniProtDataType.TAXONOMY);
     }
@@ -58,6 +77,33 @@ public class TaxonomyServiceImpl extends BasicSearchService<TaxonomyDocument, Ta
         return findByUniqueId(String.valueOf(taxId));
     }
 
+    @Override
+    public List<TaxonomyEntry> findByIds(Collection<Long> taxIds) {
+        String idField = getIdField().getFieldName();
+        List<TaxonomyEntry> entries = new ArrayList<>(taxIds.size());
+        for (List<Long> batch : Iterables.partition(taxIds, TAX_ID_BATCH_SIZE)) {
+            String query =
+                    batch.stream()
+                            .map(String::valueOf)
+                            .collect(Collectors.joining(" OR ", idField + ":(", ")"));
+            SolrRequest solrRequest =
+                    SolrRequest.builder()
+                            .query(query)
+                            .sorts(List.of(SolrQuery.SortClause.asc(idField)))
+                            .rows(batch.size())
+                            .totalRows(batch.size())
+                            .build();
+            try (Stream<TaxonomyDocument> documents = taxRepo.getAll(solrRequest)) {
+                documents
+                        .limit(batch.size())
+                        .map(entryConverter)
+                        .filter(Objects::nonNull)
+                        .forEach(entries::add);
+            }
+        }
+        return entries;
+    }
+
     static class TaxonomyEntryConverter implements Function<TaxonomyDocument, TaxonomyEntry> {
 
         private final ObjectMapper objectMapper;
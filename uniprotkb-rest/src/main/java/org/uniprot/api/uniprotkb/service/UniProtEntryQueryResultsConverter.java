@@ -4,8 +4,13 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import net.jodah.failsafe.Failsafe;
@@ -15,12 +20,13 @@ import org.springframework.stereotype.Service;
 import org.uniprot.api.common.exception.ServiceException;
 import org.uniprot.api.common.repository.search.QueryResult;
 import org.uniprot.api.uniprotkb.repository.store.UniProtKBStoreClient;
-import org.uniprot.core.taxonomy.TaxonomyEntry;
+import org.uniprot.core.taxonomy.TaxonomyLineage;
 import org.uniprot.core.uniprotkb.*;
 import org.uniprot.core.uniprotkb.impl.EntryInactiveReasonBuilder;
 import org.uniprot.core.uniprotkb.impl.UniProtKBAccessionBuilder;
 import org.uniprot.core.uniprotkb.impl.UniProtKBEntryBuilder;
 import org.uniprot.core.uniprotkb.impl.UniProtKBIdBuilder;
+import org.uniprot.core.uniprotkb.taxonomy.Organism;
 import org.uniprot.core.util.Utils;
 import org.uniprot.store.config.returnfield.model.ReturnField;
 import org.uniprot.store.search.document.uniprot.UniProtDocument;
@@ -45,19 +51,28 @@ class UniProtEntryQueryResultsConverter {
                     .handle(IOException.class)
                     .withDelay(Duration.ofMillis(100))
                     .withMaxRetries(5);
-    private final TaxonomyService taxonomyService;
+    private final TaxonomyLineageService lineageService;
 
     UniProtEntryQueryResultsConverter(
-            UniProtKBStoreClient entryStore, TaxonomyService taxonomyService) {
+            UniProtKBStoreClient entryStore, TaxonomyLineageService lineageService) {
         this.entryStore = entryStore;
-        this.taxonomyService = taxonomyService;
+        this.lineageService = lineageService;
     }
 
+    /**
+     * Converts a page of documents, fetching the entries of all active documents on the page from
+     * the store in a single request, and, if requested, their lineages in another. Entries keep
+     * the order of their documents.
+     */
     QueryResult<UniProtKBEntry> convertQueryResult(
             QueryResult<UniProtDocument> results, List<ReturnField> filters) {
+        List<UniProtDocument> docs = results.getContent().collect(Collectors.toList());
+        Map<String, UniProtKBEntry> storeEntries = getEntriesFromStore(docs);
+        Map<Long, List<TaxonomyLineage>> lineages =
+                getLineagesIfRequested(filters, storeEntries.values());
         Stream<UniProtKBEntry> upEntries =
-                results.getContent()
-                        .map(doc -> convertDoc(doc, filters))
+                docs.stream()
+                        .map(doc -> convertDoc(doc, storeEntries, lineages))
                         .filter(Optional::isPresent)
                         .map(Optional::get);
         return QueryResult.of(
@@ -67,33 +82,66 @@ class UniProtEntryQueryResultsConverter {
     Optional<UniProtKBEntry> convertDoc(UniProtDocument doc, List<ReturnField> filters) {
         if (doc.active) {
             Optional<UniProtKBEntry> opEntry = getEntryFromStore(doc);
-            return opEntry.map(entry -> addLineageIfRequested(filters, entry))
-                    .orElseThrow(
-                            () ->
-                                    new ServiceException(
-                                            "Could not get entry from store: " + doc.accession));
+            Map<Long, List<TaxonomyLineage>> lineages =
+                    getLineagesIfRequested(filters, opEntry.stream().collect(Collectors.toList()));
+            return convertActiveDoc(doc, opEntry, lineages);
         } else {
             return getInactiveUniProtEntry(doc);
         }
     }
 
-    private Optional<UniProtKBEntry> addLineageIfRequested(
-            List<ReturnField> filters, UniProtKBEntry e) {
+    private Optional<UniProtKBEntry> convertDoc(
+            UniProtDocument doc,
+            Map<String, UniProtKBEntry> storeEntries,
+            Map<Long, List<TaxonomyLineage>> lineages) {
+        if (doc.active) {
+            return convertActiveDoc(
+                    doc, Optional.ofNullable(storeEntries.get(doc.accession)), lineages);
+        } else {
+            return getInactiveUniProtEntry(doc);
+        }
+    }
+
+    private Optional<UniProtKBEntry> convertActiveDoc(
+            UniProtDocument doc,
+            Optional<UniProtKBEntry> opEntry,
+            Map<Long, List<TaxonomyLineage>> lineages) {
+        return opEntry.map(entry -> addLineage(entry, lineages))
+                .orElseThrow(
+                        () ->
+                                new ServiceException(
+                                        "Could not get entry from store: " + doc.accession));
+    }
+
+    private Map<Long, List<TaxonomyLineage>> getLineagesIfRequested(
+            List<ReturnField> filters, Collection<UniProtKBEntry> entries) {
         if (hasLineage(filters)) {
-            return addLineage(e);
+            Set<Long> taxIds =
+                    entries.stream()
+                            .map(UniProtKBEntry::getOrganism)
+                            .filter(Utils::notNull)
+                            .map(Organism::getTaxonId)
+                            .collect(Collectors.toSet());
+            if (!taxIds.isEmpty()) {
+                return lineageService.findLineages(taxIds);
+            }
         }
-        return Optional.of(e);
+        return Collections.emptyMap();
     }
 
     private boolean hasLineage(List<ReturnField> filters) {
         return filters.stream().map(ReturnField::getName).anyMatch("lineage"::equals);
     }
 
-    private Optional<UniProtKBEntry> addLineage(UniProtKBEntry entry) {
-        TaxonomyEntry taxEntry = taxonomyService.findById(entry.getOrganism().getTaxonId());
-        if (Utils.notNull(taxEntry)) {
+    private Optional<UniProtKBEntry> addLineage(
+            UniProtKBEntry entry, Map<Long, List<TaxonomyLineage>> lineages) {
+        List<TaxonomyLineage> lineage =
+                Utils.notNull(entry.getOrganism())
+                        ? lineages.get(entry.getOrganism().getTaxonId())
+                        : null;
+        if (Utils.notNullNotEmpty(lineage)) {
             UniProtKBEntryBuilder builder = UniProtKBEntryBuilder.from(entry);
-            return Optional.of(builder.lineagesSet(taxEntry.getLineages()).build());
+            return Optional.of(builder.lineagesSet(lineage).build());
         } else {
             return Optional.of(entry);
         }
@@ -124,4 +172,16 @@ class UniProtEntryQueryResultsConverter {
     private Optional<UniProtKBEntry> getEntryFromStore(UniProtDocument doc) {
         return Failsafe.with(retryPolicy).get(() -> entryStore.getEntry(doc.accession));
     }
+
+    private Map<String, UniProtKBEntry> getEntriesFromStore(List<UniProtDocument> docs) {
+        List<String> accessions =
+                docs.stream()
+                        .filter(doc -> doc.active)
+                        .map(doc -> doc.accession)
+                        .collect(Collectors.toList());
+        if (accessions.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return Failsafe.with(retryPolicy).get(() -> entryStore.getEntryMap(accessions));
+    }
 }
@@ -61,7 +61,7 @@ public class UniProtEntryService
             SolrQueryConfig uniProtKBSolrQueryConf,
             UniProtKBStoreClient entryStore,
             StoreStreamer<UniProtKBEntry> uniProtEntryStoreStreamer,
-            TaxonomyService taxService,
+            TaxonomyLineageService lineageService,
             FacetTupleStreamTemplate facetTupleStreamTemplate,
             QueryProcessor uniProtKBQueryProcessor,
             SearchFieldConfig uniProtKBSearchFieldConfig,
@@ -76,7 +76,7 @@ public class UniProtEntryService
         this.repository = repository;
         this.uniProtTermsConfig = uniProtTermsConfig;
         this.solrQueryConfig = uniProtKBSolrQueryConf;
-        this.resultsConverter = new UniProtEntryQueryResultsConverter(entryStore, taxService);
+        this.resultsConverter = new UniProtEntryQueryResultsConverter(entryStore, lineageService);
         this.searchFieldConfig = uniProtKBSearchFieldConfig;
         this.returnFieldConfig =
                 ReturnFieldConfigFactory.getReturnFieldConfig(UniProtDataType.UNIPROTKB);
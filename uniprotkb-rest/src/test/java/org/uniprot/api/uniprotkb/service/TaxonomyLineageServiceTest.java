@@ -0,0 +1,109 @@
+package org.uniprot.api.uniprotkb.service;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uniprot.core.taxonomy.TaxonomyEntry;
+import org.uniprot.core.taxonomy.TaxonomyLineage;
+import org.uniprot.core.taxonomy.impl.TaxonomyEntryBuilder;
+import org.uniprot.core.taxonomy.impl.TaxonomyLineageBuilder;
+
+class TaxonomyLineageServiceTest {
+    private TaxonomyService taxonomyService;
+    private TaxonomyLineageService lineageService;
+
+    @BeforeEach
+    void setUp() {
+        taxonomyService = mock(TaxonomyService.class);
+        // every tax id except 0 exists, with its parent as lineage
+        when(taxonomyService.findByIds(any()))
+                .thenAnswer(invocation -> findExisting(invocation.getArgument(0)));
+        lineageService = new TaxonomyLineageService(taxonomyService, 100, List.of(9606L));
+    }
+
+    @Test
+    void findsLineagesOfManyTaxIdsWithOneQuery() {
+        Map<Long, List<TaxonomyLineage>> lineages = lineageService.findLineages(Set.of(1L, 2L));
+
+        assertThat(lineages.get(1L), is(createLineage(1L)));
+        assertThat(lineages.get(2L), is(createLineage(2L)));
+        verify(taxonomyService, times(1)).findByIds(any());
+    }
+
+    @Test
+    void cachedLineagesAreNotQueriedAgain() {
+        lineageService.findLineages(Set.of(1L, 2L));
+
+        Map<Long, List<TaxonomyLineage>> lineages = lineageService.findLineages(Set.of(2L, 3L));
+
+        assertThat(lineages.get(2L), is(createLineage(2L)));
+        assertThat(lineages.get(3L), is(createLineage(3L)));
+        verify(taxonomyService).findByIds(Set.of(1L, 2L));
+        verify(taxonomyService).findByIds(Set.of(3L));
+    }
+
+    @Test
+    void unknownTaxIdHasEmptyLineage() {
+        lineageService.findLineages(Set.of(0L));
+
+        assertThat(lineageService.findLineages(Set.of(0L)).get(0L), is(emptyList()));
+        verify(taxonomyService, times(1)).findByIds(any());
+    }
+
+    @Test
+    void noTaxIdsNeedNoQuery() {
+        assertThat(lineageService.findLineages(Set.of()), is(anEmptyMap()));
+        verify(taxonomyService, never()).findByIds(any());
+    }
+
+    @Test
+    void configuredTaxIdsArePreloadedOnStartup() {
+        lineageService.preloadOnStartup();
+
+        lineageService.findLineages(Set.of(9606L));
+
+        verify(taxonomyService, times(1)).findByIds(Set.of(9606L));
+    }
+
+    @Test
+    void canPreloadOnDemand() {
+        lineageService.preload(List.of(1L, 2L));
+        lineageService.preload(List.of(2L));
+
+        lineageService.findLineages(Set.of(1L, 2L));
+
+        verify(taxonomyService, times(1)).findByIds(any());
+    }
+
+    private static List<TaxonomyEntry> findExisting(Collection<Long> taxIds) {
+        return taxIds.stream()
+                .filter(taxId -> taxId != 0)
+                .map(
+                        taxId ->
+                                new TaxonomyEntryBuilder()
+                                        .taxonId(taxId)
+                                        .lineagesSet(createLineage(taxId))
+                                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<TaxonomyLineage> createLineage(long taxId) {
+        return List.of(new TaxonomyLineageBuilder().taxonId(taxId + 1000).build());
+    }
+}
@@ -4,19 +4,29 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.uniprot.api.common.exception.ServiceException;
+import org.uniprot.api.common.repository.search.QueryResult;
 import org.uniprot.api.uniprotkb.repository.store.UniProtKBStoreClient;
 import org.uniprot.core.taxonomy.TaxonomyEntry;
 import org.uniprot.core.taxonomy.TaxonomyLineage;
 import org.uniprot.core.taxonomy.impl.TaxonomyLineageBuilder;
+import org.uniprot.core.uniprotkb.InactiveReasonType;
 import org.uniprot.core.uniprotkb.UniProtKBEntry;
 import org.uniprot.core.uniprotkb.UniProtKBEntryType;
 import org.uniprot.core.uniprotkb.impl.UniProtKBEntryBuilder;
@@ -40,7 +50,9 @@ class UniProtEntryQueryResultsConverterTest {
     void setUp() {
         entryStore = mock(UniProtKBStoreClient.class);
         taxonomyService = mock(TaxonomyService.class);
-        converter = new UniProtEntryQueryResultsConverter(entryStore, taxonomyService);
+        converter =
+                new UniProtEntryQueryResultsConverter(
+                        entryStore, new TaxonomyLineageService(taxonomyService, 10, emptyList()));
     }
 
     @Test
@@ -72,8 +84,9 @@ class UniProtEntryQueryResultsConverterTest {
         TaxonomyEntry taxEntry = mock(TaxonomyEntry.class);
         List<TaxonomyLineage> lineages =
                 singletonList(new TaxonomyLineageBuilder().taxonId(taxon).build());
+        when(taxEntry.getTaxonId()).thenReturn(taxon);
         when(taxEntry.getLineages()).thenReturn(lineages);
-        when(taxonomyService.findById(taxon)).thenReturn(taxEntry);
+        when(taxonomyService.findByIds(Set.of(taxon))).thenReturn(singletonList(taxEntry));
         Optional<UniProtKBEntry> optEntry = Optional.of(entry);
         when(entryStore.getEntry(acc)).thenReturn(optEntry);
 
@@ -100,4 +113,50 @@ class UniProtEntryQueryResultsConverterTest {
 
         assertThrows(ServiceException.class, () -> converter.convertDoc(doc, emptyList()));
     }
+
+    @Test
+    void canConvertPageOfDocsWithOneStoreRequest() {
+        UniProtDocument doc1 = UniProtDocMocker.createDoc("P11111");
+        UniProtDocument inactiveDoc = UniProtDocMocker.createDoc("P22222");
+        inactiveDoc.active = false;
+        inactiveDoc.inactiveReason = "DELETED";
+        UniProtDocument doc3 = UniProtDocMocker.createDoc("P33333");
+        UniProtKBEntry entry1 = createEntry("P11111");
+        UniProtKBEntry entry3 = createEntry("P33333");
+        // the store does not return entries in the order of the page
+        when(entryStore.getEntryMap(List.of("P11111", "P33333")))
+                .thenReturn(Map.of("P33333", entry3, "P11111", entry1));
+
+        QueryResult<UniProtKBEntry> result =
+                converter.convertQueryResult(
+                        QueryResult.of(Stream.of(doc1, inactiveDoc, doc3), null), emptyList());
+
+        List<UniProtKBEntry> entries = result.getContent().collect(Collectors.toList());
+        assertThat(entries).hasSize(3);
+        assertThat(entries.get(0)).isSameAs(entry1);
+        assertThat(entries.get(1).getPrimaryAccession().getValue()).isEqualTo("P22222");
+        assertThat(entries.get(1).getInactiveReason().getInactiveReasonType())
+                .isEqualTo(InactiveReasonType.DELETED);
+        assertThat(entries.get(2)).isSameAs(entry3);
+        verify(entryStore, times(1)).getEntryMap(List.of("P11111", "P33333"));
+        verify(entryStore, never()).getEntry(anyString());
+    }
+
+    @Test
+    void convertingPageWithEntryMissingFromStore_causesServiceException() {
+        UniProtDocument doc = UniProtDocMocker.createDoc("P12345");
+        when(entryStore.getEntryMap(List.of("P12345"))).thenReturn(Map.of());
+
+        Stream<UniProtKBEntry> entries =
+                converter
+                        .convertQueryResult(QueryResult.of(Stream.of(doc), null), emptyList())
+                        .getContent();
+
+        assertThrows(ServiceException.class, () -> entries.collect(Collectors.toList()));
+    }
+
+    private static UniProtKBEntry createEntry(String accession) {
+        return new UniProtKBEntryBuilder(accession, "ID_" + accession, UniProtKBEntryType.SWISSPROT)
+                .build();
+    }
 }
@@ -181,6 +181,10 @@ public class UniRefEntryLightController extends BasicSearchController<UniRefEntr
             HttpServletRequest request,
             HttpServletResponse response) {
         setPreviewInfo(searchRequest, preview);
+        if (isListAccept(request)) {
+            return super.getSearchIdsResponse(
+                    service.searchIds(searchRequest), false, request, response);
+        }
         QueryResult<UniRefEntryLight> results = service.search(searchRequest);
         return super.getSearchResponse(results, searchRequest.getFields(), request, response);
     }
@@ -278,6 +282,10 @@ public class UniRefEntryLightController extends BasicSearchController<UniRefEntr
             @Valid @ModelAttribute UniRefIdsSearchRequest idsRequest,
             HttpServletRequest request,
             HttpServletResponse response) {
+        if (isListAccept(request)) {
+            return super.getSearchIdsResponse(
+                    service.getIdsByIds(idsRequest), idsRequest.isDownload(), request, response);
+        }
         QueryResult<UniRefEntryLight> results = service.getByIds(idsRequest);
         return super.getSearchResponse(
                 results, idsRequest.getFields(), idsRequest.isDownload(), request, response);
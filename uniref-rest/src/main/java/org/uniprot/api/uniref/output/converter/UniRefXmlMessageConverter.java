@@ -1,7 +1,5 @@
 package org.uniprot.api.uniref.output.converter;
 
-import javax.xml.bind.Marshaller;
-
 import org.uniprot.api.rest.output.converter.AbstractXmlMessageConverter;
 import org.uniprot.core.uniref.UniRefEntry;
 import org.uniprot.core.xml.jaxb.uniref.Entry;
@@ -46,11 +44,6 @@ public class UniRefXmlMessageConverter extends AbstractXmlMessageConverter<UniRe
         return converter.toXml(entity);
     }
 
-    @Override
-    protected Marshaller getMarshaller() {
-        return createMarshaller();
-    }
-
     @Override
     protected String getFooter() {
         return FOOTER;
@@ -1,15 +1,29 @@
 package org.uniprot.api.uniref.repository.store;
 
+import org.uniprot.api.common.repository.stream.store.CachingUniProtStoreClient;
+import org.uniprot.api.common.repository.stream.store.StoreCacheConfigProperties;
 import org.uniprot.core.uniref.UniRefEntryLight;
-import org.uniprot.store.datastore.UniProtStoreClient;
 import org.uniprot.store.datastore.voldemort.VoldemortClient;
 
 /**
  * @author lgonzales
  * @since 09/07/2020
  */
-public class UniRefLightStoreClient extends UniProtStoreClient<UniRefEntryLight> {
+public class UniRefLightStoreClient extends CachingUniProtStoreClient<UniRefEntryLight> {
+    // rough heap estimate: the entry, and the id string of each of its members
+    static final int ENTRY_BYTES = 1024;
+    static final int MEMBER_BYTES = 64;
+
     public UniRefLightStoreClient(VoldemortClient<UniRefEntryLight> client) {
         super(client);
     }
+
+    public UniRefLightStoreClient(
+            VoldemortClient<UniRefEntryLight> client, StoreCacheConfigProperties cacheConfig) {
+        super(
+                client,
+                cacheConfig,
+                "uniref.light.entry.cache",
+                entry -> ENTRY_BYTES + MEMBER_BYTES * entry.getMembers().size());
+    }
 }
@@ -3,6 +3,7 @@ package org.uniprot.api.uniref.repository.store;
 import lombok.Data;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.uniprot.api.common.repository.stream.store.StoreCacheConfigProperties;
 
 /**
  * @author lgonzales
@@ -16,4 +17,5 @@ public class UniRefLightStoreConfigProperties {
     private int numberOfConnections;
     private int fetchMaxRetries;
     private int fetchRetryDelayMillis;
+    private StoreCacheConfigProperties cache = new StoreCacheConfigProperties();
 }
@@ -1,14 +1,18 @@
 package org.uniprot.api.uniref.repository.store;
 
+import org.uniprot.api.common.repository.stream.store.CachingUniProtStoreClient;
+import org.uniprot.api.common.repository.stream.store.StoreCacheConfigProperties;
 import org.uniprot.core.uniref.RepresentativeMember;
-import org.uniprot.store.datastore.UniProtStoreClient;
 import org.uniprot.store.datastore.voldemort.VoldemortClient;
 
 /**
  * @author jluo
  * @date: 20 Aug 2019
  */
-public class UniRefMemberStoreClient extends UniProtStoreClient<RepresentativeMember> {
+public class UniRefMemberStoreClient extends CachingUniProtStoreClient<RepresentativeMember> {
+
+    // rough heap estimate: the member, and one byte per residue of its sequence
+    static final int MEMBER_BYTES = 1024;
 
     private final int memberBatchSize;
 
@@ -18,6 +22,21 @@ public class UniRefMemberStoreClient extends UniProtStoreClient<RepresentativeMe
         this.memberBatchSize = memberBatchSize;
     }
 
+    public UniRefMemberStoreClient(
+            VoldemortClient<RepresentativeMember> client,
+            int memberBatchSize,
+            StoreCacheConfigProperties cacheConfig) {
+        super(
+                client,
+                cacheConfig,
+                "uniref.member.entry.cache",
+                member ->
+                        member.getSequence() == null
+                                ? MEMBER_BYTES
+                                : MEMBER_BYTES + member.getSequence().getLength());
+        this.memberBatchSize = memberBatchSize;
+    }
+
     public int getMemberBatchSize() {
         return memberBatchSize;
     }
@@ -3,6 +3,7 @@ package org.uniprot.api.uniref.repository.store;
 import lombok.Data;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.uniprot.api.common.repository.stream.store.StoreCacheConfigProperties;
 
 /**
  * @author jluo
@@ -17,4 +18,5 @@ public class UniRefMemberStoreConfigProperties {
     private int memberBatchSize;
     private int fetchMaxRetries;
     private int fetchRetryDelayMillis;
+    private StoreCacheConfigProperties cache = new StoreCacheConfigProperties();
 }
@@ -1,17 +1,11 @@
 package org.uniprot.api.uniref.repository.store;
 
-import java.util.Collections;
-
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.uniprot.api.common.repository.stream.rdf.RDFRestTemplateFactory;
 import org.uniprot.api.common.repository.stream.rdf.RDFStreamerConfigProperties;
-import org.uniprot.api.rest.output.RequestResponseLoggingInterceptor;
 import org.uniprot.core.uniref.RepresentativeMember;
 import org.uniprot.core.uniref.UniRefEntryLight;
 import org.uniprot.store.datastore.voldemort.VoldemortClient;
@@ -44,7 +38,9 @@ public class UniRefStoreConfig {
                         unirefStoreConfigProperties.getStoreName(),
                         unirefStoreConfigProperties.getHost());
         return new UniRefMemberStoreClient(
-                client, unirefStoreConfigProperties.getMemberBatchSize());
+                client,
+                unirefStoreConfigProperties.getMemberBatchSize(),
+                unirefStoreConfigProperties.getCache());
     }
 
     @Bean
@@ -56,19 +52,12 @@ public class UniRefStoreConfig {
                         lightStoreConfigProperties.getNumberOfConnections(),
                         lightStoreConfigProperties.getStoreName(),
                         lightStoreConfigProperties.getHost());
-        return new UniRefLightStoreClient(client);
+        return new UniRefLightStoreClient(client, lightStoreConfigProperties.getCache());
     }
 
     @Bean(name = "rdfRestTemplate")
     @Profile("live")
     RestTemplate restTemplate(RDFStreamerConfigProperties rdfStreamerConfigProperties) {
-        ClientHttpRequestFactory factory =
-                new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory());
-        RestTemplate restTemplate = new RestTemplate(factory);
-        restTemplate.setInterceptors(
-                Collections.singletonList(new RequestResponseLoggingInterceptor()));
-        restTemplate.setUriTemplateHandler(
-                new DefaultUriBuilderFactory(rdfStreamerConfigProperties.getRequestUrl()));
-        return restTemplate;
+        return RDFRestTemplateFactory.createRestTemplate(rdfStreamerConfigProperties);
     }
 }
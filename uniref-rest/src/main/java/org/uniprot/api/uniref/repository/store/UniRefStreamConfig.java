@@ -14,6 +14,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 import org.uniprot.api.common.repository.search.SolrRequestConverter;
 import org.uniprot.api.common.repository.solrstream.FacetTupleStreamTemplate;
@@ -55,7 +56,9 @@ public class UniRefStreamConfig {
             UniRefLightStoreClient uniRefLightStoreClient,
             TupleStreamTemplate tupleStreamTemplate,
             StreamerConfigProperties streamConfig,
-            TupleStreamDocumentIdStream documentIdStream) {
+            TupleStreamDocumentIdStream documentIdStream,
+            @Qualifier("streamPrefetchTaskExecutor") ThreadPoolTaskExecutor prefetchTaskExecutor,
+            @Qualifier("storeFetchTaskExecutor") ThreadPoolTaskExecutor storeFetchTaskExecutor) {
 
         RetryPolicy<Object> storeRetryPolicy =
                 new RetryPolicy<>()
@@ -69,13 +72,16 @@ public class UniRefStreamConfig {
                 .tupleStreamTemplate(tupleStreamTemplate)
                 .storeFetchRetryPolicy(storeRetryPolicy)
                 .documentIdStream(documentIdStream)
+                .prefetchExecutor(prefetchTaskExecutor.getThreadPoolExecutor())
+                .storeFetchExecutor(storeFetchTaskExecutor.getThreadPoolExecutor())
                 .build();
     }
 
     @Bean
     public RDFStreamer uniRefRDFStreamer(
             @Qualifier("rdfRestTemplate") RestTemplate restTemplate,
-            TupleStreamDocumentIdStream documentIdStream) {
+            TupleStreamDocumentIdStream documentIdStream,
+            @Qualifier("rdfFetchTaskExecutor") ThreadPoolTaskExecutor rdfFetchTaskExecutor) {
 
         int rdfRetryDelay = rdfConfigProperties().getRetryDelayMillis();
         int maxRdfRetryDelay = rdfRetryDelay * 8;
@@ -92,6 +98,9 @@ public class UniRefStreamConfig {
 
         return RDFStreamer.builder()
                 .rdfBatchSize(rdfConfigProperties().getBatchSize())
+                .rdfFetchQueueDepth(rdfConfigProperties().getFetchQueueDepth())
+                .rdfFetchTimeoutMillis(rdfConfigProperties().getFetchTimeoutMillis())
+                .rdfFetchExecutor(rdfFetchTaskExecutor.getThreadPoolExecutor())
                 .rdfFetchRetryPolicy(rdfRetryPolicy)
                 .rdfService(new RDFService<>(restTemplate, String.class))
                 .rdfProlog(RDFPrologs.UNIREF_RDF_PROLOG)
@@ -4,7 +4,11 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.persistence.*;
 
@@ -21,12 +25,16 @@ import org.uniprot.api.unisave.repository.domain.impl.*;
 import org.uniprot.api.unisave.service.ServiceConfig;
 import org.uniprot.core.util.Utils;
 
+import com.google.common.collect.Iterables;
+
 @Profile({"online", "offline"})
 @Service
 @Import(ServiceConfig.class)
 @Slf4j
 public class UniSaveRepository {
     private static final String QUERY_RESULTS_ERROR_MESSAGE = "Could not retrieve query results";
+    // keeps IN clauses within the limits of the underlying database
+    private static final int REFERENCE_ENTRY_BATCH_SIZE = 1000;
     private final EntityManager session;
     private final DiffPatch diffPatch;
 
@@ -56,9 +64,7 @@ public class UniSaveRepository {
                         "No entries for " + accession + " were found");
             }
 
-            for (EntryImpl entryImpl : resultList) {
-                setContent(entryImpl, session);
-            }
+            setContents(accession, resultList);
 
             return resultList;
         } catch (UniSaveEntryNotFoundException e) {
@@ -271,16 +277,68 @@ public class UniSaveRepository {
             query.setParameter("id", entry.getEntryContent().getReferenceEntryId());
             final EntryImpl referenceEntry = query.getSingleResult();
 
-            final String content =
-                    diffPatch.patch(
-                            referenceEntry.getEntryContent().getFullContent(),
-                            entry.getEntryContent().getDiffContent());
+            applyDiff(entry, referenceEntry.getEntryContent().getFullContent());
+        }
+    }
 
-            EntryContentImpl entryContent = new EntryContentImpl();
-            entryContent.setFullContent(content);
+    /**
+     * Sets the full content of every diff entry of an accession, fetching all of the reference
+     * entries they need in as few queries as possible. Reference entries that are themselves
+     * amongst {@code entries} are not fetched again.
+     */
+    private void setContents(String accession, List<EntryImpl> entries) {
+        Map<Long, String> referenceContents = new HashMap<>();
+        Set<Long> missingReferenceIds = new LinkedHashSet<>();
+        for (EntryImpl entry : entries) {
+            EntryContentImpl entryContent = entry.getEntryContent();
+            if (entryContent.getType() == ContentTypeEnum.FULL) {
+                referenceContents.put(entry.getEntryId(), entryContent.getFullContent());
+            } else {
+                missingReferenceIds.add(entryContent.getReferenceEntryId());
+            }
+        }
+        missingReferenceIds.removeAll(referenceContents.keySet());
 
-            entry.setEntryContent(entryContent);
+        for (List<Long> referenceIds :
+                Iterables.partition(missingReferenceIds, REFERENCE_ENTRY_BATCH_SIZE)) {
+            TypedQuery<EntryImpl> query =
+                    session.createNamedQuery(
+                            EntryImpl.Query.FIND_ENTRIES_BY_ACCESSION_AND_ENTRY_IDS.query(),
+                            EntryImpl.class);
+            query.setParameter("acc", accession);
+            query.setParameter("ids", referenceIds);
+            for (EntryImpl referenceEntry : query.getResultList()) {
+                referenceContents.put(
+                        referenceEntry.getEntryId(),
+                        referenceEntry.getEntryContent().getFullContent());
+            }
         }
+
+        for (EntryImpl entry : entries) {
+            Long referenceEntryId = entry.getEntryContent().getReferenceEntryId();
+            if (referenceEntryId != null) {
+                String referenceContent = referenceContents.get(referenceEntryId);
+                if (referenceContent == null) {
+                    throw new NoResultException(
+                            "No reference entry "
+                                    + referenceEntryId
+                                    + " for "
+                                    + accession
+                                    + " was found");
+                }
+                applyDiff(entry, referenceContent);
+            }
+        }
+    }
+
+    private void applyDiff(EntryImpl entry, String referenceContent) {
+        final String content =
+                diffPatch.patch(referenceContent, entry.getEntryContent().getDiffContent());
+
+        EntryContentImpl entryContent = new EntryContentImpl();
+        entryContent.setFullContent(content);
+
+        entry.setEntryContent(entryContent);
     }
 
     private Entry getEntryImpl(String accession, int version) {
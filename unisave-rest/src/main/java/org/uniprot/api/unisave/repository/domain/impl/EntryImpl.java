@@ -21,6 +21,9 @@ import org.uniprot.api.unisave.repository.domain.Entry;
     @NamedQuery(
             name = "EntryImpl.FIND_ENTRY_BY_ACCESSION_AND_ENTRY_ID",
             query = "SELECT e from Entry e WHERE e.accession=:acc AND e.entryId=:id"),
+    @NamedQuery(
+            name = "EntryImpl.FIND_ENTRIES_BY_ACCESSION_AND_ENTRY_IDS",
+            query = "SELECT e from Entry e WHERE e.accession=:acc AND e.entryId IN :ids"),
     @NamedQuery(
             name = "EntryImpl.FIND_ENTRY_INFO_BY_ACCESSION_AND_VERSION",
             query =
@@ -38,6 +41,7 @@ public class EntryImpl implements Entry {
 
     public enum Query {
         FIND_ENTRY_BY_ACCESSION_AND_ENTRY_ID,
+        FIND_ENTRIES_BY_ACCESSION_AND_ENTRY_IDS,
         FIND_ENTRY_BY_ACCESSION_AND_VERSION,
         FIND_ENTRIES_BY_ACCESSION,
         FIND_ENTRY_INFO_BY_ACCESSION_AND_VERSION,
@@ -248,6 +248,43 @@ class UniSaveRepositoryIT {
         assertThat(diffEntry.getEntryContent().getFullContent(), is(notNullValue()));
     }
 
+    @Test
+    void retrievingAllEntriesComputesDiffEntriesFromSharedReferenceEntries() {
+        // given
+        DiffPatch diffPatch = new DiffPatchImpl();
+
+        // ... a reference entry that is not itself retrieved, because it is wrong TrEMBL
+        EntryImpl hiddenRefEntry = createEntry(1);
+        hiddenRefEntry.setDatabase(DatabaseEnum.WRONG_TREMBL);
+        testEntityManager.persist(hiddenRefEntry);
+        String accession = hiddenRefEntry.getAccession();
+
+        // ... and a reference entry that is retrieved
+        EntryImpl refEntry = createEntry(4);
+        refEntry.setAccession(accession);
+        testEntityManager.persist(refEntry);
+
+        createDiffEntry(diffPatch, hiddenRefEntry, 2, " v2");
+        createDiffEntry(diffPatch, hiddenRefEntry, 3, " v3");
+        createDiffEntry(diffPatch, refEntry, 5, " v5");
+        String hiddenRefContent = hiddenRefEntry.getEntryContent().getFullContent();
+        String refContent = refEntry.getEntryContent().getFullContent();
+
+        // when
+        List<? extends Entry> entries = repository.retrieveEntries(accession);
+
+        // then
+        assertThat(
+                entries.stream()
+                        .map(entry -> entry.getEntryContent().getFullContent())
+                        .collect(Collectors.toList()),
+                contains(
+                        refContent + " v5",
+                        refContent,
+                        hiddenRefContent + " v3",
+                        hiddenRefContent + " v2"));
+    }
+
     @Test
     void fetchingLatestReleasesSucceeds() {
         // given
@@ -353,6 +390,19 @@ class UniSaveRepositoryIT {
                 UniSaveEntryNotFoundException.class, () -> repository.retrieveEntryInfos("XXXX"));
     }
 
+    private EntryImpl createDiffEntry(
+            DiffPatch diffPatch, EntryImpl refEntry, int entryVersion, String addedContent) {
+        EntryImpl entryDiff = createEntry(entryVersion);
+        entryDiff.setAccession(refEntry.getAccession());
+        EntryContentImpl content = new EntryContentImpl();
+        content.setReferenceEntryId(refEntry.getEntryId());
+        String refEntryContent = refEntry.getEntryContent().getFullContent();
+        content.setDiffContent(diffPatch.diff(refEntryContent, refEntryContent + addedContent));
+        entryDiff.setEntryContent(content);
+        testEntityManager.persist(entryDiff);
+        return entryDiff;
+    }
+
     private EntryImpl createEntry(int entryVersion) {
         EntryImpl entry = mockEntry("ACC_" + ENTRY_COUNTER.getAndIncrement(), entryVersion);
         entry.setFirstRelease(mockRelease("" + RELEASE_COUNTER.getAndIncrement()));